@@ -0,0 +1,75 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.MediaInfoAccessor;
+import com.amilesend.mediainfo.lib.MediaInfoLibrary;
+import com.amilesend.mediainfo.type.StreamType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the wall-clock time to open and analyze a local file with each {@link MediaInfoBase.OpenMode}, with the
+ * native open by path as the baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OpenModeBenchmark {
+    @Param({"NATIVE", "BUFFER", "MEMORY_MAP", "READ_AHEAD"})
+    private MediaInfoBase.OpenMode mode;
+    @Param({"src/test/SampleVideo_1280x720_1mb.mkv", "src/test/SampleVideo_1280x720_1mb.mp4"})
+    private String path;
+
+    private MediaInfoLibrary library;
+    private File file;
+
+    @Setup
+    public void setUp() {
+        library = MediaInfoLibrary.newInstance();
+        file = new File(path);
+    }
+
+    @Benchmark
+    public String open() throws IOException {
+        try (MediaInfo mediaInfo = new MediaInfo(new MediaInfoAccessor(library)).open(file, mode)) {
+            return mediaInfo.get(StreamType.Video, 0, "Width");
+        }
+    }
+}
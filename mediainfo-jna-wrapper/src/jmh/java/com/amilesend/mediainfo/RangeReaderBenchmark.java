@@ -0,0 +1,165 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.MediaInfoAccessor;
+import com.amilesend.mediainfo.lib.MediaInfoLibrary;
+import com.amilesend.mediainfo.type.StreamType;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares opening media in simulated object storage via {@link MediaInfoBase#open(RangeReader)}, which coalesces
+ * adjacent ranges and caches fetched blocks, against a channel that issues one ranged read per chunk. The number of
+ * round trips per open is reported as the {@code roundTrips} counter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RangeReaderBenchmark {
+    @Param({"0", "20"})
+    private long latencyMillis;
+    @Param({"src/test/SampleVideo_1280x720_1mb.mkv", "src/test/SampleVideo_1280x720_1mb.mp4"})
+    private String path;
+
+    private MediaInfoLibrary library;
+    private LatencyRangeReader reader;
+
+    @Setup
+    public void setUp() {
+        library = MediaInfoLibrary.newInstance();
+        reader = LatencyRangeReader.of(Path.of(path), Duration.ofMillis(latencyMillis));
+    }
+
+    @Benchmark
+    public String rangeReader(final RoundTrips roundTrips) throws IOException {
+        final int start = reader.getRoundTrips();
+        try (MediaInfo mediaInfo = new MediaInfo(new MediaInfoAccessor(library)).open(reader)) {
+            return mediaInfo.get(StreamType.Video, 0, "Width");
+        } finally {
+            roundTrips.roundTrips += reader.getRoundTrips() - start;
+        }
+    }
+
+    @Benchmark
+    public String readPerChunk(final RoundTrips roundTrips) throws IOException {
+        final int start = reader.getRoundTrips();
+        try (MediaInfo mediaInfo = new MediaInfo(new MediaInfoAccessor(library))
+                .open(new RangeReaderChannel(reader), reader.size())) {
+            return mediaInfo.get(StreamType.Video, 0, "Width");
+        } finally {
+            roundTrips.roundTrips += reader.getRoundTrips() - start;
+        }
+    }
+
+    /** The number of ranged reads issued during the iteration. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RoundTrips {
+        public long roundTrips;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            roundTrips = 0L;
+        }
+    }
+
+    /** Issues one ranged read per channel read, without coalescing or caching. */
+    private static class RangeReaderChannel implements SeekableByteChannel {
+        private final RangeReader reader;
+        private long position;
+
+        RangeReaderChannel(final RangeReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public int read(final ByteBuffer dst) throws IOException {
+            if (position >= reader.size()) {
+                return -1;
+            }
+
+            final ByteBuffer range = reader.read(position, dst.remaining());
+            final int length = range.remaining();
+            dst.put(range);
+            position += length;
+            return length;
+        }
+
+        @Override
+        public int write(final ByteBuffer src) {
+            throw new NonWritableChannelException();
+        }
+
+        @Override
+        public long position() {
+            return position;
+        }
+
+        @Override
+        public SeekableByteChannel position(final long newPosition) {
+            position = newPosition;
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return reader.size();
+        }
+
+        @Override
+        public SeekableByteChannel truncate(final long size) {
+            throw new NonWritableChannelException();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() { }
+    }
+}
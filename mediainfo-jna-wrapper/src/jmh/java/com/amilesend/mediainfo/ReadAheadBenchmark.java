@@ -0,0 +1,223 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.MediaInfoAccessor;
+import com.amilesend.mediainfo.lib.MediaInfoLibrary;
+import com.amilesend.mediainfo.lib.NativeBufferPool;
+import com.amilesend.mediainfo.type.StreamType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the wall-clock time of feeding MediaInfo with the double-buffered read-ahead source against sequential
+ * reads on the parsing thread. Each read of the file is delayed by the given latency to simulate cold-cache or
+ * network storage, where overlapping I/O with parsing matters most.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ReadAheadBenchmark {
+    @Param({"0", "500", "2000"})
+    private long latencyMicros;
+    @Param({"src/test/SampleVideo_1280x720_1mb.mkv", "src/test/SampleVideo_1280x720_1mb.mp4"})
+    private String path;
+
+    private MediaInfoLibrary library;
+    private NativeBufferPool bufferPool;
+
+    @Setup
+    public void setUp() {
+        library = MediaInfoLibrary.newInstance();
+        bufferPool = NativeBufferPool.getDefault();
+    }
+
+    @Benchmark
+    public String sequential() throws IOException {
+        try (FileChannel channel = openChannel();
+                MediaInfo mediaInfo = new MediaInfo(new MediaInfoAccessor(library));
+                ChannelBufferSource source = new ChannelBufferSource(channel, channel.size(), bufferPool.lease())) {
+            return analyze(mediaInfo, source);
+        }
+    }
+
+    @Benchmark
+    public String readAhead() throws IOException {
+        try (FileChannel channel = openChannel();
+                MediaInfo mediaInfo = new MediaInfo(new MediaInfoAccessor(library));
+                ReadAheadBufferSource source = new ReadAheadBufferSource(channel, ChunkSizing.DEFAULT, bufferPool)) {
+            return analyze(mediaInfo, source);
+        }
+    }
+
+    private FileChannel openChannel() throws IOException {
+        return new LatencyFileChannel(FileChannel.open(Path.of(path), StandardOpenOption.READ), latencyMicros);
+    }
+
+    private static String analyze(final MediaInfo mediaInfo, final BufferSource source) throws IOException {
+        if (!mediaInfo.openViaSource(source, ChunkSizing.DEFAULT)) {
+            throw new IOException("Failed to open media");
+        }
+
+        return mediaInfo.get(StreamType.Video, 0, "Width");
+    }
+
+    /** Delays every read of the underlying channel by a fixed latency. */
+    private static class LatencyFileChannel extends FileChannel {
+        private final FileChannel delegate;
+        private final long latencyMicros;
+
+        LatencyFileChannel(final FileChannel delegate, final long latencyMicros) {
+            this.delegate = delegate;
+            this.latencyMicros = latencyMicros;
+        }
+
+        @Override
+        public int read(final ByteBuffer dst) throws IOException {
+            delay();
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(final ByteBuffer[] dsts, final int offset, final int length) throws IOException {
+            delay();
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public int read(final ByteBuffer dst, final long position) throws IOException {
+            delay();
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(final ByteBuffer src) throws IOException {
+            return delegate.write(src);
+        }
+
+        @Override
+        public long write(final ByteBuffer[] srcs, final int offset, final int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public int write(final ByteBuffer src, final long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(final long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(final long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(final boolean metaData) throws IOException {
+            delegate.force(metaData);
+        }
+
+        @Override
+        public long transferTo(final long position, final long count, final WritableByteChannel target)
+                throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(final ReadableByteChannel src, final long position, final long count)
+                throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public MappedByteBuffer map(final MapMode mode, final long position, final long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(final long position, final long size, final boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(final long position, final long size, final boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+
+        private void delay() throws IOException {
+            if (latencyMicros == 0L) {
+                return;
+            }
+
+            try {
+                TimeUnit.MICROSECONDS.sleep(latencyMicros);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while simulating latency", ex);
+            }
+        }
+    }
+}
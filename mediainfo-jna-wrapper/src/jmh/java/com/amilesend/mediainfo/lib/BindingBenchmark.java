@@ -0,0 +1,98 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.type.StreamType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-call overhead of each {@link MediaInfoLibrary.Binding} for name-based ({@code MediaInfo_Get}),
+ * index-based ({@code MediaInfo_GetI}) and stream count ({@code MediaInfo_Count_Get}) queries, and the cost of
+ * transferring the full {@code MediaInfo_Inform} output as {@code wchar_t} or UTF-8.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BindingBenchmark {
+    @Param({"PROXY", "DIRECT", "UTF8"})
+    private MediaInfoLibrary.Binding binding;
+
+    private MediaInfoAccessor accessor;
+    private int widthIndex;
+
+    @Setup
+    public void setUp() throws IOException {
+        accessor = new MediaInfoAccessor(MediaInfoLibrary.newInstance(binding));
+        if (!accessor.open(new File(ReportBenchmark.SAMPLE_MP4_VIDEO_PATH).getCanonicalPath())) {
+            throw new IllegalStateException("Unable to open " + ReportBenchmark.SAMPLE_MP4_VIDEO_PATH);
+        }
+
+        widthIndex = ParameterIndexResolver.forVersion(
+                        accessor.getOption("Info_Version"),
+                        () -> accessor.getOption("Info_Parameters"))
+                .indexOf(StreamType.Video, "Width");
+    }
+
+    @TearDown
+    public void tearDown() {
+        accessor.close();
+    }
+
+    @Benchmark
+    public String get() {
+        return accessor.get(StreamType.Video, 0, "Width");
+    }
+
+    @Benchmark
+    public String getI() {
+        return accessor.get(StreamType.Video, 0, widthIndex);
+    }
+
+    @Benchmark
+    public int countGet() {
+        return accessor.getStreamCount(StreamType.Audio);
+    }
+
+    @Benchmark
+    public String inform() {
+        return accessor.inform();
+    }
+}
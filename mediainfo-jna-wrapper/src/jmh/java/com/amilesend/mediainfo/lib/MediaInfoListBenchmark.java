@@ -0,0 +1,132 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.type.StreamType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compares analyzing a directory of many small files on a single {@code MediaInfoList} handle against looping over
+ * the files with a {@link MediaInfoAccessor}, where the per-file handle overhead dominates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MediaInfoListBenchmark {
+    private static final String SAMPLE_MKV_VIDEO_PATH = "src/test/SampleVideo_1280x720_1mb.mkv";
+    // Each file is the head of the sample, which is enough for MediaInfo to parse the container header and tracks
+    private static final int SMALL_FILE_SIZE = 131072;
+
+    @Param({"1000"})
+    private int fileCount;
+
+    private MediaInfoLibrary library;
+    private MediaInfoListLibrary listLibrary;
+    private Path directory;
+    private List<String> filePaths;
+
+    @Setup
+    public void setUp() throws IOException {
+        library = MediaInfoLibrary.newInstance();
+        listLibrary = MediaInfoListLibrary.newInstance();
+        directory = Files.createTempDirectory("mediainfo-list-benchmark");
+
+        final byte[] head = new byte[SMALL_FILE_SIZE];
+        try (InputStream input = Files.newInputStream(Path.of(SAMPLE_MKV_VIDEO_PATH))) {
+            input.readNBytes(head, 0, SMALL_FILE_SIZE);
+        }
+
+        for (int i = 0; i < fileCount; ++i) {
+            Files.write(directory.resolve("video" + i + ".mkv"), head);
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            filePaths = files.map(Path::toString).sorted().collect(Collectors.toList());
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (final Path path : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void mediaInfoList(final Blackhole blackhole) {
+        try (MediaInfoListAccessor accessor = new MediaInfoListAccessor(listLibrary)) {
+            final int numFiles = accessor.open(directory.toString(), MediaInfoListLibrary.FileOption.NO_RECURSIVE);
+            for (int i = 0; i < numFiles; ++i) {
+                blackhole.consume(accessor.get(i, StreamType.Video, 0, "Width"));
+            }
+        }
+    }
+
+    @Benchmark
+    public void accessorPerFile(final Blackhole blackhole) {
+        for (final String filePath : filePaths) {
+            try (MediaInfoAccessor accessor = new MediaInfoAccessor(library)) {
+                accessor.open(filePath);
+                blackhole.consume(accessor.get(StreamType.Video, 0, "Width"));
+            }
+        }
+    }
+
+    @Benchmark
+    public void reusedAccessor(final Blackhole blackhole) {
+        try (MediaInfoAccessor accessor = new MediaInfoAccessor(library)) {
+            for (final String filePath : filePaths) {
+                accessor.open(filePath);
+                blackhole.consume(accessor.get(StreamType.Video, 0, "Width"));
+                accessor.closeHandle();
+            }
+        }
+    }
+}
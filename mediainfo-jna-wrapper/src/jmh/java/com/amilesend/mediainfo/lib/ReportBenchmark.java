@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.type.StreamType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares extracting a typical set of fields with one {@code get} call per field against retrieving the whole
+ * {@link MediaInfoReport} with a single JSON {@code inform} call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ReportBenchmark {
+    static final String SAMPLE_MP4_VIDEO_PATH = "src/test/SampleVideo_1280x720_1mb.mp4";
+
+    private static final Map<StreamType, List<String>> FIELDS = Map.of(
+            StreamType.General, List.of(
+                    "Format", "Duration", "FileSize", "OverallBitRate", "Encoded_Date", "Video_Codec_List"),
+            StreamType.Video, List.of(
+                    "Format", "CodecID", "Width", "Height", "FrameRate", "BitRate", "DisplayAspectRatio"),
+            StreamType.Audio, List.of("Format", "CodecID", "Channels", "SamplingRate", "BitRate", "Language"));
+
+    private MediaInfoAccessor accessor;
+
+    @Setup
+    public void setUp() throws IOException {
+        accessor = new MediaInfoAccessor(MediaInfoLibrary.newInstance());
+        if (!accessor.open(new File(SAMPLE_MP4_VIDEO_PATH).getCanonicalPath())) {
+            throw new IllegalStateException("Unable to open " + SAMPLE_MP4_VIDEO_PATH);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        accessor.close();
+    }
+
+    @Benchmark
+    public void perFieldGet(final Blackhole blackhole) {
+        FIELDS.forEach((streamType, parameters) -> {
+            final int streamCount = accessor.getStreamCount(streamType);
+            for (int streamNumber = 0; streamNumber < streamCount; ++streamNumber) {
+                for (final String parameter : parameters) {
+                    blackhole.consume(accessor.get(streamType, streamNumber, parameter));
+                }
+            }
+        });
+    }
+
+    @Benchmark
+    public MediaInfoReport report() {
+        return accessor.report();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import lombok.Value;
+
+/** Statistics about the bytes that were read and fed to MediaInfo while opening media via buffer. */
+@Value
+public class BufferReadStats {
+    /** The number of bytes read from the media and fed to MediaInfo. */
+    long bytesRead;
+    /**
+     * An upper bound of the bytes that were read but not needed by MediaInfo. MediaInfo does not report how much of
+     * a chunk it consumed, so the chunk fed right before each seek or before parsing finished is counted in full, or
+     * from the seek target onward when MediaInfo seeks back into that chunk.
+     */
+    long bytesWasted;
+    /** The number of chunks fed to MediaInfo. */
+    int chunkCount;
+    /** The number of seeks requested by MediaInfo. */
+    int seekCount;
+    /**
+     * Whether all bytes that MediaInfo requested were available. This is {@code false} when the media was opened from
+     * data that holds only part of the media and MediaInfo read or seeked beyond it.
+     */
+    boolean dataSufficient;
+    /** Whether parsing was finalized early because the {@link ScanProfile#getMaxBytes() byte budget} was reached. */
+    boolean truncated;
+    /**
+     * Whether parsing was finalized early because the {@link ScanProfile#getTimeout() timeout} elapsed. The parsed
+     * information is partial.
+     */
+    boolean timedOut;
+    /**
+     * Whether parsing was finalized early because the opening thread was interrupted. The parsed information is
+     * partial and the interrupt status of the thread is preserved.
+     */
+    boolean cancelled;
+    /**
+     * Whether parsing was finalized early because the {@link ScanProfile#getStopCondition() stop condition} was met.
+     * The information that the condition requires is available, but other information may be partial.
+     */
+    boolean satisfied;
+
+    /**
+     * Determines if parsing was finalized early for any reason, in which case the parsed information is partial.
+     *
+     * @return {@code true} if parsing was cut short; else, {@code false}
+     */
+    public boolean isPartial() {
+        return truncated || timedOut || cancelled;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.sun.jna.Pointer;
+import lombok.Value;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A source of media bytes that is fed to MediaInfo via the {@code Open_Buffer} functions. Bytes are exposed as native
+ * memory so that they can be passed to {@code MediaInfo_Open_Buffer_Continue} without an additional copy.
+ */
+interface BufferSource extends Closeable {
+    /**
+     * Gets the total size of the media in bytes.
+     *
+     * @return the size
+     * @throws IOException if an error occurred while determining the size
+     */
+    long size() throws IOException;
+
+    /**
+     * Makes up to {@code maxLength} bytes that start at the given position available in native memory. The returned
+     * chunk is only valid until the next invocation.
+     *
+     * @param position the absolute position within the media
+     * @param maxLength the maximum number of bytes to return
+     * @return the chunk, with a length of {@code -1} if the position is at or beyond the end of the media
+     * @throws IOException if an error occurred while reading
+     */
+    Chunk read(long position, int maxLength) throws IOException;
+
+    /** A region of native memory that holds media bytes. */
+    @Value
+    class Chunk {
+        /** The end of media chunk. */
+        static final Chunk END = new Chunk(Pointer.NULL, -1);
+
+        /** The pointer to the first byte. */
+        Pointer data;
+        /** The number of bytes, or {@code -1} at the end of the media. */
+        int length;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.NativeBufferPool;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import lombok.NonNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link BufferSource} over media bytes that are already held in memory. Direct buffers are handed to MediaInfo
+ * as pointers into the buffer without a copy, whereas heap buffers are copied chunk by chunk into a leased native
+ * buffer. The data may hold only the first bytes of the media, in which case positions beyond the data are reported
+ * as the end of the source.
+ */
+class ByteBufferSource implements BufferSource {
+    private final ByteBuffer data;
+    private final long size;
+    private final NativeBufferPool.Lease lease;
+    private final Pointer address;
+
+    /**
+     * Creates a new {@code ByteBufferSource}. The position and limit of the given data are left untouched.
+     *
+     * @param data the media bytes between the position and limit of the buffer
+     * @param size the size of the media in bytes, which may exceed the number of bytes held
+     * @param lease the native buffer that heap data is copied into, or {@code null} for direct data
+     */
+    ByteBufferSource(@NonNull final ByteBuffer data, final long size, final NativeBufferPool.Lease lease) {
+        this.data = data.slice();
+        this.size = size;
+        this.lease = lease;
+        this.address = this.data.isDirect() ? Native.getDirectBufferPointer(this.data) : null;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public Chunk read(final long position, final int maxLength) {
+        if (position < 0L || position >= Math.min(size, data.capacity())) {
+            return Chunk.END;
+        }
+
+        final int offset = (int) position;
+        if (address != null) {
+            return new Chunk(address.share(offset), Math.min(maxLength, data.capacity() - offset));
+        }
+
+        final ByteBuffer buffer = lease.getByteBuffer();
+        final int length = Math.min(Math.min(maxLength, buffer.capacity()), data.capacity() - offset);
+        final ByteBuffer region = data.duplicate();
+        region.position(offset).limit(offset + length);
+        buffer.put(region);
+        return new Chunk(lease.getMemory(), length);
+    }
+
+    @Override
+    public void close() {
+        if (lease != null) {
+            lease.close();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.NativeBufferPool;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * A {@link BufferSource} that reads from any {@link SeekableByteChannel} (e.g., entries of a zip or in-memory
+ * {@link java.nio.file.FileSystem}) into a leased native buffer. The channel is repositioned only when MediaInfo
+ * requests a seek, and is not closed by this source.
+ */
+class ChannelBufferSource implements BufferSource {
+    private final SeekableByteChannel channel;
+    private final long size;
+    private final NativeBufferPool.Lease lease;
+
+    /**
+     * Creates a new {@code ChannelBufferSource}.
+     *
+     * @param channel the channel to read from
+     * @param size the size of the media in bytes
+     * @param lease the native buffer that chunks are read into, which is returned to its pool when closed
+     */
+    ChannelBufferSource(
+            @NonNull final SeekableByteChannel channel,
+            final long size,
+            @NonNull final NativeBufferPool.Lease lease) {
+        this.channel = channel;
+        this.size = size;
+        this.lease = lease;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public Chunk read(final long position, final int maxLength) throws IOException {
+        if (position < 0L || position >= size) {
+            return Chunk.END;
+        }
+
+        if (channel.position() != position) {
+            channel.position(position);
+        }
+
+        final ByteBuffer buffer = lease.getByteBuffer();
+        buffer.limit((int) Math.min(Math.min(maxLength, buffer.capacity()), size - position));
+        // Channels may return partial reads, so fill the chunk to avoid feeding MediaInfo empty chunks
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+
+        return buffer.position() == 0 ? Chunk.END : new Chunk(lease.getMemory(), buffer.position());
+    }
+
+    @Override
+    public void close() {
+        lease.close();
+    }
+}
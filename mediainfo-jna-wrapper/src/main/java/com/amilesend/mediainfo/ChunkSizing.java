@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.NativeBufferPool;
+import com.amilesend.mediainfo.util.Validate;
+import lombok.Value;
+
+/**
+ * Controls the size of the chunks that are read and fed to MediaInfo when media is opened via buffer. MediaInfo
+ * usually needs only a few KB of headers before it requests a seek or finishes parsing, so reads start at
+ * {@link #getInitialSize()} and double while MediaInfo keeps consuming sequentially, up to {@link #getMaxSize()}.
+ * The size drops back to the initial size after each seek.
+ *
+ * Example usage:
+ *
+ * <pre>
+ * // Start with 16 KB reads and never read more than 1 MB at once
+ * myVideo.open(new File("./MyVideo.mkv"), OpenMode.BUFFER, ChunkSizing.adaptive(16384, 1048576));
+ * </pre>
+ */
+@Value
+public class ChunkSizing {
+    /** The default initial chunk size (64 KB). */
+    public static final int DEFAULT_INITIAL_SIZE = 65536;
+    /** Starts at {@link #DEFAULT_INITIAL_SIZE} and grows up to {@link NativeBufferPool#DEFAULT_BUFFER_SIZE}. */
+    public static final ChunkSizing DEFAULT =
+            new ChunkSizing(DEFAULT_INITIAL_SIZE, NativeBufferPool.DEFAULT_BUFFER_SIZE);
+
+    /** The size of the first chunk and of the first chunk after each seek. */
+    int initialSize;
+    /** The maximum chunk size. */
+    int maxSize;
+
+    private ChunkSizing(final int initialSize, final int maxSize) {
+        Validate.isTrue(initialSize > 0, "initialSize must be > 0");
+        Validate.isTrue(maxSize >= initialSize, "maxSize must be >= initialSize");
+
+        this.initialSize = initialSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Creates a sizing that starts at {@code initialSize} and doubles up to {@code maxSize}.
+     *
+     * @param initialSize the initial chunk size in bytes
+     * @param maxSize the maximum chunk size in bytes
+     * @return the chunk sizing
+     */
+    public static ChunkSizing adaptive(final int initialSize, final int maxSize) {
+        return new ChunkSizing(initialSize, maxSize);
+    }
+
+    /**
+     * Creates a sizing that always reads chunks of the given size.
+     *
+     * @param size the chunk size in bytes
+     * @return the chunk sizing
+     */
+    public static ChunkSizing fixed(final int size) {
+        return new ChunkSizing(size, size);
+    }
+
+    /**
+     * Determines if the chunk size grows.
+     *
+     * @return {@code true} if adaptive; else, {@code false}
+     */
+    public boolean isAdaptive() {
+        return maxSize > initialSize;
+    }
+
+    int grow(final int size) {
+        return (int) Math.min((long) size * 2L, maxSize);
+    }
+}
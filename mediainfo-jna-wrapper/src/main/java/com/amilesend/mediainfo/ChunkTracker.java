@@ -0,0 +1,169 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+/**
+ * Tracks the chunk size and read statistics of a single buffered open. Not thread-safe; instances are confined to
+ * the thread driving the {@code Open_Buffer} loop.
+ */
+class ChunkTracker {
+    private final ChunkSizing sizing;
+    private final int maxSize;
+    private final long maxBytes;
+    private final long timeoutNanos;
+    private final long startNanos;
+    private int nextSize;
+    private long bytesRead;
+    private long bytesWasted;
+    private int chunkCount;
+    private int seekCount;
+    private boolean dataSufficient = true;
+    private boolean truncated;
+    private boolean timedOut;
+    private boolean cancelled;
+    private boolean satisfied;
+    private long lastStart;
+    private int lastLength;
+
+    /**
+     * Creates a new {@code ChunkTracker}.
+     *
+     * @param sizing the chunk sizing
+     * @param capacity the capacity of the buffer that chunks are read into
+     */
+    ChunkTracker(final ChunkSizing sizing, final int capacity) {
+        this(sizing, capacity, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new {@code ChunkTracker} that limits the total number of bytes read and the time spent reading,
+     * measured from now.
+     *
+     * @param sizing the chunk sizing
+     * @param capacity the capacity of the buffer that chunks are read into
+     * @param maxBytes the maximum number of bytes to read
+     * @param timeoutNanos the maximum time to read in nanoseconds, or {@link Long#MAX_VALUE} if unlimited
+     */
+    ChunkTracker(final ChunkSizing sizing, final int capacity, final long maxBytes, final long timeoutNanos) {
+        this.sizing = sizing;
+        this.maxSize = Math.min(sizing.getMaxSize(), capacity);
+        this.maxBytes = maxBytes;
+        this.timeoutNanos = timeoutNanos;
+        this.startNanos = System.nanoTime();
+        this.nextSize = Math.min(sizing.getInitialSize(), maxSize);
+    }
+
+    /**
+     * Gets the size of the next chunk to read.
+     *
+     * @return the chunk size in bytes
+     */
+    int nextSize() {
+        return (int) Math.min(nextSize, maxBytes - bytesRead);
+    }
+
+    /**
+     * Determines if parsing should be finalized early because the byte budget has been used up, the timeout has
+     * elapsed, or the current thread has been interrupted, and records the reason. The interrupt status of the
+     * thread is left untouched.
+     *
+     * @return {@code true} if no more chunks should be read; else, {@code false}
+     */
+    boolean shouldStop() {
+        if (bytesRead >= maxBytes) {
+            truncated = true;
+        } else if (timeoutNanos != Long.MAX_VALUE && System.nanoTime() - startNanos >= timeoutNanos) {
+            timedOut = true;
+        } else if (Thread.currentThread().isInterrupted()) {
+            cancelled = true;
+        }
+
+        return truncated || timedOut || cancelled;
+    }
+
+    /**
+     * Records a chunk that was fed to MediaInfo and grows the next chunk size.
+     *
+     * @param start the position of the chunk within the media
+     * @param length the number of bytes in the chunk
+     */
+    void onChunk(final long start, final int length) {
+        bytesRead += length;
+        ++chunkCount;
+        lastStart = start;
+        lastLength = length;
+        nextSize = Math.min(sizing.grow(nextSize), maxSize);
+    }
+
+    /**
+     * Records a seek requested by MediaInfo after the last chunk and resets the next chunk size.
+     *
+     * @param position the requested position
+     */
+    void onSeek(final long position) {
+        ++seekCount;
+        final long lastEnd = lastStart + lastLength;
+        bytesWasted += position > lastStart && position < lastEnd ? lastEnd - position : lastLength;
+        lastLength = 0;
+        nextSize = Math.min(sizing.getInitialSize(), maxSize);
+    }
+
+    /** Records that MediaInfo finished parsing after the last chunk. */
+    void onFinalized() {
+        bytesWasted += lastLength;
+        lastLength = 0;
+    }
+
+    /** Records that parsing was finalized early because a read was interrupted. */
+    void onCancelled() {
+        cancelled = true;
+    }
+
+    /** Records that parsing was finalized early because the stop condition was met. */
+    void onSatisfied() {
+        satisfied = true;
+    }
+
+    /** Records that MediaInfo requested bytes that the source could not provide. */
+    void onDataMissing() {
+        dataSufficient = false;
+    }
+
+    /**
+     * Gets the statistics recorded so far.
+     *
+     * @return the statistics
+     */
+    BufferReadStats toStats() {
+        return new BufferReadStats(
+                bytesRead,
+                bytesWasted,
+                chunkCount,
+                seekCount,
+                dataSufficient,
+                truncated,
+                timedOut,
+                cancelled,
+                satisfied);
+    }
+}
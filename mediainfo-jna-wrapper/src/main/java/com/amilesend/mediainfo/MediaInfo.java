@@ -23,6 +23,8 @@
 package com.amilesend.mediainfo;
 
 import com.amilesend.mediainfo.lib.MediaInfoAccessor;
+import com.amilesend.mediainfo.lib.MediaInfoReport;
+import com.amilesend.mediainfo.lib.MediaInfoSnapshot;
 import com.amilesend.mediainfo.type.InfoType;
 import com.amilesend.mediainfo.type.StreamType;
 
@@ -166,6 +168,27 @@ public class MediaInfo extends MediaInfoBase<MediaInfo> {
         return getAccessor().getStreamOrParameterCount(streamType, streamNumber);
     }
 
+    /**
+     * Gets all details about a file as a typed report retrieved with a single native call.
+     *
+     * @return the report
+     * @see MediaInfoReport
+     */
+    public MediaInfoReport report() {
+        return getAccessor().report();
+    }
+
+    /**
+     * Extracts every parameter of every stream into an immutable snapshot that can be read after this object is
+     * closed.
+     *
+     * @return the snapshot
+     * @see MediaInfoSnapshot
+     */
+    public MediaInfoSnapshot snapshot() {
+        return getAccessor().snapshot();
+    }
+
     /**
      * Gets information about MediaInfo.
      *
@@ -0,0 +1,280 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.MediaInfoAccessor;
+import com.amilesend.mediainfo.lib.MediaInfoHandlePool;
+import com.amilesend.mediainfo.type.InfoType;
+import com.amilesend.mediainfo.type.StreamType;
+import com.amilesend.mediainfo.util.Validate;
+import lombok.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous access to media information. Every native call runs on a bounded set of dedicated platform threads,
+ * so callers (e.g., event loops) never block on a native call. An opened {@link Session} is pinned to a single
+ * worker thread which owns its native handle for the lifetime of the session.
+ *
+ * Example usage:
+ *
+ * <pre>
+ * MediaInfoHandlePool pool = new MediaInfoHandlePool(MediaInfoLibrary.newInstance());
+ * MediaInfoAsync mediaInfoAsync = new MediaInfoAsync(pool, 4);
+ * mediaInfoAsync.open(new File("./MyVideo.mkv"))
+ *         .thenCompose(session -&gt; session.get(StreamType.Video, 0, "Width")
+ *                 .thenCompose(width -&gt; session.closeAsync().thenApply(v -&gt; width)))
+ *         .thenAccept(width -&gt; System.out.println("Width: " + width));
+ * </pre>
+ */
+public class MediaInfoAsync implements AutoCloseable {
+    private final MediaInfoHandlePool pool;
+    private final List<ExecutorService> workers;
+    private final AtomicInteger nextWorker = new AtomicInteger();
+
+    /**
+     * Creates a new {@code MediaInfoAsync} with one worker thread per available processor.
+     *
+     * @param pool the pool to lease accessors from
+     */
+    public MediaInfoAsync(final MediaInfoHandlePool pool) {
+        this(pool, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new {@code MediaInfoAsync}.
+     *
+     * @param pool the pool to lease accessors from
+     * @param threads the number of worker threads used for native calls
+     */
+    public MediaInfoAsync(@NonNull final MediaInfoHandlePool pool, final int threads) {
+        Validate.isTrue(threads > 0, "threads must be > 0");
+
+        this.pool = pool;
+        this.workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; ++i) {
+            final String threadName = "mediainfo-async-" + (i + 1);
+            workers.add(Executors.newSingleThreadExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            }));
+        }
+    }
+
+    /**
+     * Opens a file for analysis. The returned session must be closed to release its native handle.
+     *
+     * @param file the media file
+     * @return the future that completes with the opened session
+     */
+    public CompletableFuture<Session> open(@NonNull final File file) {
+        final ExecutorService worker = nextWorker();
+        return CompletableFuture.supplyAsync(() -> {
+            final MediaInfo mediaInfo = new MediaInfo(pool.borrow());
+            try {
+                return new Session(worker, mediaInfo.open(file));
+            } catch (final IOException ex) {
+                mediaInfo.close();
+                throw new UncheckedIOException(ex);
+            } catch (final RuntimeException ex) {
+                mediaInfo.close();
+                throw ex;
+            }
+        }, worker);
+    }
+
+    /**
+     * Opens, analyzes, and closes a file in one task on a single worker thread.
+     *
+     * @param file the media file
+     * @param factory creates the media info instance for a leased accessor
+     * @param extractor extracts the result from the opened media info instance
+     * @return the future that completes with the extracted result
+     * @param <T> the concrete media info implementation type
+     * @param <R> the extracted result type
+     */
+    public <T extends MediaInfoBase<T>, R> CompletableFuture<R> analyze(
+            @NonNull final File file,
+            @NonNull final Function<MediaInfoAccessor, T> factory,
+            @NonNull final Function<T, R> extractor) {
+        return CompletableFuture.supplyAsync(() -> {
+            final MediaInfoAccessor accessor = pool.borrow();
+            final T mediaInfo;
+            try {
+                mediaInfo = factory.apply(accessor);
+            } catch (final RuntimeException ex) {
+                // The factory failed before taking ownership of the accessor
+                accessor.close();
+                throw ex;
+            }
+
+            // Closing the media info returns the accessor to the pool
+            try (mediaInfo) {
+                return extractor.apply(mediaInfo.open(file));
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }, nextWorker());
+    }
+
+    /**
+     * Stops the worker threads once their queued native calls complete. Sessions that are still open are not closed;
+     * closing them afterwards releases their native handles on the calling thread.
+     */
+    @Override
+    public void close() {
+        workers.forEach(ExecutorService::shutdown);
+    }
+
+    private ExecutorService nextWorker() {
+        return workers.get(Math.floorMod(nextWorker.getAndIncrement(), workers.size()));
+    }
+
+    /** An opened media file whose native calls all run on the same worker thread. */
+    public static class Session implements AutoCloseable {
+        private final ExecutorService worker;
+        private final MediaInfo mediaInfo;
+        private final AtomicBoolean isClosed = new AtomicBoolean();
+
+        private Session(final ExecutorService worker, final MediaInfo mediaInfo) {
+            this.worker = worker;
+            this.mediaInfo = mediaInfo;
+        }
+
+        /**
+         * Get all details about a file.
+         *
+         * @return the future that completes with all details about a file in one string
+         */
+        public CompletableFuture<String> inform() {
+            return submit(mediaInfo::inform);
+        }
+
+        /**
+         * Get a piece of information about a file (parameter is a string).
+         *
+         * @param streamType the stream type
+         * @param streamNumber the stream number
+         * @param parameter the parameter you are looking for in the stream (e.g., resolution, codec, bitrate, etc.)
+         * @return the future that completes with the query result, or empty if there is a problem or not found
+         */
+        public CompletableFuture<String> get(
+                final StreamType streamType,
+                final int streamNumber,
+                final String parameter) {
+            return submit(() -> mediaInfo.get(streamType, streamNumber, parameter));
+        }
+
+        /**
+         * Get a piece of information about a file (parameter is a string).
+         *
+         * @param streamType the stream type
+         * @param streamNumber the stream number
+         * @param parameter the parameter you are looking for in the stream (e.g., resolution, codec, bitrate, etc.)
+         * @param infoType the type of information about the parameter
+         * @return the future that completes with the query result, or empty if there is a problem or not found
+         */
+        public CompletableFuture<String> get(
+                final StreamType streamType,
+                final int streamNumber,
+                final String parameter,
+                final InfoType infoType) {
+            return submit(() -> mediaInfo.get(streamType, streamNumber, parameter, infoType));
+        }
+
+        /**
+         * Get a piece of information about a file (parameter is an integer that represents the parameter index).
+         *
+         * @param streamType the stream type
+         * @param streamNumber the stream number
+         * @param parameterIndex the parameter index that you are looking for in the stream
+         * @return the future that completes with the query result, or empty if there is a problem
+         */
+        public CompletableFuture<String> get(
+                final StreamType streamType,
+                final int streamNumber,
+                final int parameterIndex) {
+            return submit(() -> mediaInfo.get(streamType, streamNumber, parameterIndex));
+        }
+
+        /**
+         * Gets the number of streams for the given stream type.
+         *
+         * @param streamType the stream type
+         * @return the future that completes with the number of streams of the given stream type
+         */
+        public CompletableFuture<Integer> getStreamCount(final StreamType streamType) {
+            return submit(() -> mediaInfo.getStreamCount(streamType));
+        }
+
+        /**
+         * Closes the file and returns the native handle to the pool. If the worker thread was already stopped via
+         * {@link MediaInfoAsync#close()}, the file is closed on the calling thread instead.
+         *
+         * @return the future that completes once the session is closed
+         */
+        public CompletableFuture<Void> closeAsync() {
+            if (!isClosed.compareAndSet(false, true)) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            try {
+                return CompletableFuture.runAsync(mediaInfo::close, worker);
+            } catch (final RejectedExecutionException ex) {
+                mediaInfo.close();
+                return CompletableFuture.completedFuture(null);
+            }
+        }
+
+        /** Closes the file without waiting for the native call to complete. */
+        @Override
+        public void close() {
+            closeAsync();
+        }
+
+        private <R> CompletableFuture<R> submit(final Supplier<R> nativeCall) {
+            if (isClosed.get()) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Session is closed"));
+            }
+
+            try {
+                return CompletableFuture.supplyAsync(nativeCall, worker);
+            } catch (final RejectedExecutionException ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@
 package com.amilesend.mediainfo;
 
 import com.amilesend.mediainfo.lib.MediaInfoAccessor;
+import com.amilesend.mediainfo.lib.NativeBufferPool;
 import com.amilesend.mediainfo.type.Status;
 import com.amilesend.mediainfo.util.StringUtils;
 import com.amilesend.mediainfo.util.Validate;
@@ -31,19 +32,31 @@ import com.sun.jna.Platform;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
@@ -81,12 +94,13 @@ import static java.nio.charset.StandardCharsets.US_ASCII;
  * @param <T> the concrete media info implementation type
  */
 @Slf4j
-@RequiredArgsConstructor
 public abstract class MediaInfoBase<T extends MediaInfoBase> implements AutoCloseable {
-    private static final int BUFFER_SIZE_4_MB = 4194304;
     private static final int MIN_FILE_SIZE = 65536;
     private static final int MAX_FILENAME_LENGTH_WIN = 250;
     private static final String LIST_DELIMITER = "/";
+    // MediaInfo reports the current value of an option via the option name with this suffix
+    private static final String GET_OPTION_SUFFIX = "_Get";
+    private static final String UNKNOWN_OPTION_RESPONSE = "Option not known";
     private static final DateTimeFormatter DATE_TIME_FORMATTER =
             DateTimeFormatter.ofPattern("zzz uuuu-MM-dd HH:mm:ss");
     private static final DateTimeFormatter DATE_TIME_FORMATTER_ALT =
@@ -95,35 +109,325 @@ public abstract class MediaInfoBase<T extends MediaInfoBase> implements AutoClos
     private final ReentrantLock lock = new ReentrantLock();
     @Getter(AccessLevel.PROTECTED)
     private final MediaInfoAccessor accessor;
+    private final NativeBufferPool bufferPool;
+    private volatile BufferReadStats bufferReadStats;
+    // The profile of the open in progress, which is guarded by the lock
+    private ScanProfile activeProfile = ScanProfile.FULL;
 
     /**
-     * Opens a file for analysis to parse media information.
+     * Creates a new {@code MediaInfoBase} that uses the {@link NativeBufferPool#getDefault() default buffer pool}
+     * when a file is opened via buffer.
+     *
+     * @param accessor the accessor
+     */
+    public MediaInfoBase(@NonNull final MediaInfoAccessor accessor) {
+        this(accessor, NativeBufferPool.getDefault());
+    }
+
+    /**
+     * Creates a new {@code MediaInfoBase}.
+     *
+     * @param accessor the accessor
+     * @param bufferPool the pool of native buffers that are leased when a file is opened via buffer
+     */
+    public MediaInfoBase(@NonNull final MediaInfoAccessor accessor, @NonNull final NativeBufferPool bufferPool) {
+        this.accessor = accessor;
+        this.bufferPool = bufferPool;
+    }
+
+    /**
+     * Opens a file for analysis to parse media information using {@link OpenMode#AUTO}.
      *
      * @param file the media file
      * @return the analyzer to retrieve information
      * @throws IOException if an error occurred while opening the media file
      */
     public T open(@NonNull final File file) throws IOException {
+        return open(file, OpenMode.AUTO);
+    }
+
+    /**
+     * Opens a file for analysis to parse media information.
+     *
+     * @param file the media file
+     * @param mode how the file bytes are provided to MediaInfo
+     * @return the analyzer to retrieve information
+     * @throws IOException if an error occurred while opening the media file
+     */
+    public T open(@NonNull final File file, @NonNull final OpenMode mode) throws IOException {
+        return open(file, mode, ChunkSizing.DEFAULT);
+    }
+
+    /**
+     * Opens a file for analysis to parse media information.
+     *
+     * @param file the media file
+     * @param mode how the file bytes are provided to MediaInfo
+     * @param sizing the size of the chunks fed to MediaInfo when the file is opened via buffer
+     * @return the analyzer to retrieve information
+     * @throws IOException if an error occurred while opening the media file
+     * @see #getBufferReadStats()
+     */
+    public T open(@NonNull final File file, @NonNull final OpenMode mode, @NonNull final ChunkSizing sizing)
+            throws IOException {
+        return open(file, mode, sizing, ScanProfile.FULL);
+    }
+
+    /**
+     * Opens a file for analysis with a bounded amount of work (e.g., {@link ScanProfile#QUICK}) to parse media
+     * information.
+     *
+     * @param file the media file
+     * @param profile the scan profile
+     * @return the analyzer to retrieve information
+     * @throws IOException if an error occurred while opening the media file
+     * @see #getBufferReadStats()
+     */
+    public T open(@NonNull final File file, @NonNull final ScanProfile profile) throws IOException {
+        return open(file, OpenMode.AUTO, ChunkSizing.DEFAULT, profile);
+    }
+
+    /**
+     * Opens an untrusted file for analysis to parse media information within a time limit. The file is always opened
+     * via buffer so that parsing is finalized with the information parsed so far once the timeout elapses or the
+     * calling thread is interrupted, rather than blocking on malformed media.
+     *
+     * @param file the media file
+     * @param timeout the maximum time spent feeding MediaInfo
+     * @return the analyzer to retrieve information
+     * @throws IOException if an error occurred while opening the media file
+     * @see BufferReadStats#isPartial()
+     */
+    public T openUntrusted(@NonNull final File file, @NonNull final Duration timeout) throws IOException {
+        return open(file, OpenMode.BUFFER, ChunkSizing.DEFAULT, ScanProfile.builder().timeout(timeout).build());
+    }
+
+    /**
+     * Opens a file for analysis to parse media information. When the profile limits the bytes read or the time spent,
+     * or sets a stop condition, {@link OpenMode#AUTO} opens the file via buffer. Opens via buffer also stop early when
+     * the calling thread is interrupted.
+     *
+     * @param file the media file
+     * @param mode how the file bytes are provided to MediaInfo
+     * @param sizing the size of the chunks fed to MediaInfo when the file is opened via buffer
+     * @param profile the options, byte budget, timeout and stop condition applied to this open
+     * @return the analyzer to retrieve information
+     * @throws IOException if an error occurred while opening the media file
+     * @see #getBufferReadStats()
+     */
+    public T open(
+            @NonNull final File file,
+            @NonNull final OpenMode mode,
+            @NonNull final ChunkSizing sizing,
+            @NonNull final ScanProfile profile) throws IOException {
         Validate.isTrue(file.isFile(), "File must be a file");
         Validate.isTrue(file.length() >= MIN_FILE_SIZE, "File size must be >= " + MIN_FILE_SIZE);
+        Validate.isTrue(
+                mode != OpenMode.NATIVE || !profile.requiresBuffer(),
+                "NATIVE mode cannot limit bytes read or time spent, or stop early");
 
         lock.lock();
         try {
+            bufferReadStats = null;
             final String filePath = file.getCanonicalPath();
-            if (preferOpenViaBuffer(filePath)) {
-                return readViaBuffer(file);
+            final Map<String, String> previousOptions = applyProfile(profile);
+            try {
+                switch (mode) {
+                    case BUFFER:
+                        return readViaBuffer(file, sizing);
+                    case MEMORY_MAP:
+                        return readViaMemoryMap(file, sizing);
+                    case READ_AHEAD:
+                        return readViaReadAhead(file, sizing);
+                    case NATIVE:
+                        break;
+                    default:
+                        if (profile.requiresBuffer() || preferOpenViaBuffer(filePath)) {
+                            return readViaBuffer(file, sizing);
+                        }
+                }
+
+                if (accessor.open(filePath) == true) {
+                    return (T) this;
+                }
+            } finally {
+                resetProfile(previousOptions);
             }
 
-            if (accessor.open(filePath) == true) {
+            throw new IOException("Failed to open media file: " + filePath);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Opens a file from any {@link java.nio.file.FileSystem} for analysis to parse media information. Files on the
+     * default file system are opened via {@link #open(File)}; otherwise, the file is read through a
+     * {@link SeekableByteChannel} without first copying it to disk.
+     *
+     * @param path the media file path
+     * @return the analyzer to retrieve information
+     * @throws IOException if an error occurred while opening the media file
+     */
+    public T open(@NonNull final Path path) throws IOException {
+        if (path.getFileSystem() == FileSystems.getDefault()) {
+            return open(path.toFile());
+        }
+
+        Validate.isTrue(Files.isRegularFile(path), "Path must be a file");
+        try (SeekableByteChannel channel = Files.newByteChannel(path, StandardOpenOption.READ)) {
+            return open(channel, channel.size());
+        }
+    }
+
+    /**
+     * Opens media from a channel for analysis to parse media information using {@link ChunkSizing#DEFAULT}. The
+     * channel is repositioned as MediaInfo requests seeks and is not closed.
+     *
+     * @param channel the channel to read the media from
+     * @param size the size of the media in bytes
+     * @return the analyzer to retrieve information
+     * @throws IOException if an error occurred while reading the media
+     */
+    public T open(@NonNull final SeekableByteChannel channel, final long size) throws IOException {
+        return open(channel, size, ChunkSizing.DEFAULT);
+    }
+
+    /**
+     * Opens media from a channel for analysis to parse media information. The channel is repositioned as MediaInfo
+     * requests seeks and is not closed.
+     *
+     * @param channel the channel to read the media from
+     * @param size the size of the media in bytes
+     * @param sizing the size of the chunks fed to MediaInfo
+     * @return the analyzer to retrieve information
+     * @throws IOException if an error occurred while reading the media
+     * @see #getBufferReadStats()
+     */
+    public T open(
+            @NonNull final SeekableByteChannel channel,
+            final long size,
+            @NonNull final ChunkSizing sizing) throws IOException {
+        Validate.isTrue(size > 0L, "size must be > 0");
+
+        lock.lock();
+        try (ChannelBufferSource source = new ChannelBufferSource(channel, size, bufferPool.lease())) {
+            bufferReadStats = null;
+            if (openViaSource(source, sizing)) {
                 return (T) this;
             }
 
-            throw new IOException("Failed to open media file: " + filePath);
+            throw new IOException("Failed to open media channel");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Opens media that is held in memory for analysis to parse media information. Direct buffers are fed to MediaInfo
+     * without a copy. The position and limit of the buffer are left untouched.
+     *
+     * @param data the media bytes between the position and limit of the buffer
+     * @return the analyzer to retrieve information
+     * @throws IOException if an error occurred while parsing the media
+     */
+    public T open(@NonNull final ByteBuffer data) throws IOException {
+        return open(data, data.remaining());
+    }
+
+    /**
+     * Opens media of which only the first bytes are held in memory for analysis to parse media information. Seeks
+     * within the data are honoured; whether MediaInfo wanted bytes beyond it is reported via
+     * {@link BufferReadStats#isDataSufficient()}.
+     *
+     * @param data the first media bytes between the position and limit of the buffer
+     * @param mediaSize the size of the complete media in bytes
+     * @return the analyzer to retrieve information
+     * @throws IOException if an error occurred while parsing the media
+     * @see #getBufferReadStats()
+     */
+    public T open(@NonNull final ByteBuffer data, final long mediaSize) throws IOException {
+        Validate.isTrue(data.hasRemaining(), "data must not be empty");
+        Validate.isTrue(mediaSize >= data.remaining(), "mediaSize must be >= the number of bytes in data");
+
+        lock.lock();
+        try (ByteBufferSource source =
+                     new ByteBufferSource(data, mediaSize, data.isDirect() ? null : bufferPool.lease())) {
+            bufferReadStats = null;
+            if (openViaSource(source, ChunkSizing.DEFAULT)) {
+                return (T) this;
+            }
+
+            throw new IOException("Failed to open media buffer");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Opens media that is held in a byte array for analysis to parse media information.
+     *
+     * @param data the array that holds the media bytes
+     * @param offset the offset of the first media byte
+     * @param length the number of media bytes
+     * @return the analyzer to retrieve information
+     * @throws IOException if an error occurred while parsing the media
+     */
+    public T open(@NonNull final byte[] data, final int offset, final int length) throws IOException {
+        Validate.isTrue(offset >= 0 && length >= 0 && offset <= data.length - length, "Invalid offset or length");
+        return open(ByteBuffer.wrap(data, offset, length));
+    }
+
+    /**
+     * Opens media via ranged reads (e.g., from object storage) for analysis to parse media information using
+     * {@link ChunkSizing#DEFAULT}.
+     *
+     * @param reader the range reader
+     * @return the analyzer to retrieve information
+     * @throws IOException if an error occurred while reading the media
+     */
+    public T open(@NonNull final RangeReader reader) throws IOException {
+        return open(reader, ChunkSizing.DEFAULT);
+    }
+
+    /**
+     * Opens media via ranged reads (e.g., from object storage) for analysis to parse media information. Fetched
+     * blocks are cached and adjacent ranges are coalesced into a single read, including for seeks requested by
+     * MediaInfo.
+     *
+     * @param reader the range reader
+     * @param sizing the size of the chunks fed to MediaInfo
+     * @return the analyzer to retrieve information
+     * @throws IOException if an error occurred while reading the media
+     * @see #getBufferReadStats()
+     */
+    public T open(@NonNull final RangeReader reader, @NonNull final ChunkSizing sizing) throws IOException {
+        lock.lock();
+        try (RangeReaderBufferSource source = new RangeReaderBufferSource(
+                reader,
+                RangeReaderBufferSource.DEFAULT_BLOCK_SIZE,
+                RangeReaderBufferSource.DEFAULT_MAX_BLOCKS)) {
+            bufferReadStats = null;
+            Validate.isTrue(source.size() > 0L, "size must be > 0");
+            if (openViaSource(source, sizing)) {
+                return (T) this;
+            }
+
+            throw new IOException("Failed to open media via range reader");
         } finally {
             lock.unlock();
         }
     }
 
+    /**
+     * Gets the statistics of the bytes read during the most recent open via buffer.
+     *
+     * @return the statistics, or {@code null} if the media was not opened via buffer
+     */
+    public BufferReadStats getBufferReadStats() {
+        return bufferReadStats;
+    }
+
     @Override
     public void close() {
         lock.lock();
@@ -134,10 +438,40 @@ public abstract class MediaInfoBase<T extends MediaInfoBase> implements AutoClos
         }
     }
 
+    // Returns the option values prior to the open so that they can be restored afterwards
+    private Map<String, String> applyProfile(final ScanProfile profile) {
+        final Map<String, String> previousOptions = new LinkedHashMap<>();
+        profile.getOptions().forEach(option -> {
+            if (!previousOptions.containsKey(option.getName())) {
+                previousOptions.put(option.getName(), getCurrentOption(option.getName()));
+            }
+            accessor.setOption(option.getName(), option.getValue());
+        });
+        activeProfile = profile;
+
+        return previousOptions;
+    }
+
+    private void resetProfile(final Map<String, String> previousOptions) {
+        activeProfile = ScanProfile.FULL;
+        previousOptions.forEach((name, value) -> {
+            if (value == null) {
+                log.warn("Unable to restore option {} as its previous value could not be read", name);
+                return;
+            }
+            accessor.setOption(name, value);
+        });
+    }
+
+    private String getCurrentOption(final String name) {
+        final String value = accessor.getOption(name + GET_OPTION_SUFFIX);
+        return StringUtils.isBlank(value) || value.startsWith(UNKNOWN_OPTION_RESPONSE) ? null : value;
+    }
+
     @VisibleForTesting
-    T readViaBuffer(final File file) throws IOException {
+    T readViaBuffer(final File file, final ChunkSizing sizing) throws IOException {
         try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
-            if (openViaBuffer(raf)) {
+            if (openViaBuffer(raf, sizing)) {
                 return (T) this;
             }
 
@@ -146,35 +480,151 @@ public abstract class MediaInfoBase<T extends MediaInfoBase> implements AutoClos
     }
 
     @VisibleForTesting
-    boolean openViaBuffer(final RandomAccessFile file) throws IOException {
-        final byte[] buffer = new byte[BUFFER_SIZE_4_MB]; // Use 4MB buffer to reduce JNA calls
+    boolean openViaBuffer(final RandomAccessFile file, final ChunkSizing sizing) throws IOException {
         if (accessor.openBufferInit(file.length(), 0) == false) {
             return false;
         }
 
-        int read = -1;
-        do {
-            read = file.read(buffer);
-            if (read < 0) {
+        // File bytes are read straight into a pooled native buffer to avoid a Java heap copy per chunk
+        try (NativeBufferPool.Lease lease = bufferPool.lease()) {
+            final ChunkTracker tracker = newChunkTracker(sizing, lease.getSize());
+            final FileChannel channel = file.getChannel();
+            int read = -1;
+            do {
+                final ByteBuffer buffer = lease.getByteBuffer();
+                buffer.limit(tracker.nextSize());
+                final long start = channel.position();
+                try {
+                    read = channel.read(buffer);
+                } catch (final ClosedByInterruptException ex) {
+                    tracker.onCancelled();
+                    break;
+                }
+
+                if (read < 0) {
+                    break;
+                }
+
+                tracker.onChunk(start, read);
+                final Set<Status> status = Status.fromBitmask(accessor.openBufferContinue(lease.getMemory(), read));
+                if (status.contains(Status.Finalized)) {
+                    tracker.onFinalized();
+                    break;
+                }
+
+                if (shouldStop(tracker, status)) {
+                    break;
+                }
+
+                final long gotoPos = accessor.openBufferContinueGotoGet();
+                if (gotoPos >= Status.None.getValue()) {
+                    tracker.onSeek(gotoPos);
+                    file.seek(gotoPos);
+                    accessor.openBufferInit(file.length(), gotoPos);
+                }
+            } while (read > 0);
+
+            bufferReadStats = tracker.toStats();
+        }
+
+        accessor.openBufferFinalize();
+        return true;
+    }
+
+    @VisibleForTesting
+    T readViaMemoryMap(final File file, final ChunkSizing sizing) throws IOException {
+        try (MemoryMappedBufferSource source = MemoryMappedBufferSource.open(file.toPath())) {
+            if (openViaSource(source, sizing)) {
+                return (T) this;
+            }
+
+            throw new IOException("Failed to open memory-mapped media file: " + file.getCanonicalPath());
+        }
+    }
+
+    @VisibleForTesting
+    T readViaReadAhead(final File file, final ChunkSizing sizing) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+                ReadAheadBufferSource source = new ReadAheadBufferSource(channel, sizing, bufferPool)) {
+            if (openViaSource(source, sizing)) {
+                return (T) this;
+            }
+
+            throw new IOException("Failed to open media file with read-ahead: " + file.getCanonicalPath());
+        }
+    }
+
+    @VisibleForTesting
+    boolean openViaSource(final BufferSource source, final ChunkSizing sizing) throws IOException {
+        final long size = source.size();
+        if (accessor.openBufferInit(size, 0) == false) {
+            return false;
+        }
+
+        final ChunkTracker tracker = newChunkTracker(sizing, Integer.MAX_VALUE);
+        long position = 0L;
+        while (true) {
+            final BufferSource.Chunk chunk;
+            try {
+                chunk = source.read(position, tracker.nextSize());
+            } catch (final ClosedByInterruptException | InterruptedIOException ex) {
+                // The parsed information so far is kept, as with a timeout
+                tracker.onCancelled();
+                break;
+            }
+
+            if (chunk.getLength() < 0) {
+                if (position < size) {
+                    tracker.onDataMissing();
+                }
+
+                break;
+            }
+
+            tracker.onChunk(position, chunk.getLength());
+            final Set<Status> status =
+                    Status.fromBitmask(accessor.openBufferContinue(chunk.getData(), chunk.getLength()));
+            if (status.contains(Status.Finalized)) {
+                tracker.onFinalized();
                 break;
             }
 
-            final int result = accessor.openBufferContinue(buffer, read);
-            if ((result & 8) == Status.Finalized.getValue()) {
+            if (shouldStop(tracker, status)) {
                 break;
             }
 
+            position += chunk.getLength();
             final long gotoPos = accessor.openBufferContinueGotoGet();
             if (gotoPos >= Status.None.getValue()) {
-                file.seek(gotoPos);
-                accessor.openBufferInit(file.length(), gotoPos);
+                // Seeks only move the read position; the source serves the new position without a copy
+                tracker.onSeek(gotoPos);
+                position = gotoPos;
+                accessor.openBufferInit(size, gotoPos);
             }
-        } while (read > 0);
+        }
 
+        bufferReadStats = tracker.toStats();
         accessor.openBufferFinalize();
         return true;
     }
 
+    private ChunkTracker newChunkTracker(final ChunkSizing sizing, final int capacity) {
+        return new ChunkTracker(sizing, capacity, activeProfile.getMaxBytes(), activeProfile.getTimeoutNanos());
+    }
+
+    private boolean shouldStop(final ChunkTracker tracker, final Set<Status> status) {
+        if (tracker.shouldStop()) {
+            return true;
+        }
+
+        if (activeProfile.getStopCondition().isMet(status, accessor)) {
+            tracker.onSatisfied();
+            return true;
+        }
+
+        return false;
+    }
+
     @VisibleForTesting
     boolean preferOpenViaBuffer(final String path) {
         if (Platform.isWindows() && path.length() > MAX_FILENAME_LENGTH_WIN) {
@@ -224,4 +674,25 @@ public abstract class MediaInfoBase<T extends MediaInfoBase> implements AutoClos
                 .map(String::trim)
                 .collect(Collectors.toList());
     }
+
+    /** Defines how the bytes of a file are provided to MediaInfo. */
+    public enum OpenMode {
+        /** Opens natively by path unless the path is known to be unsupported, in which case it is opened via buffer. */
+        AUTO,
+        /** Always opens natively by path via {@code MediaInfo_Open}. */
+        NATIVE,
+        /** Always reads the file into pooled native buffers that are fed via {@code MediaInfo_Open_Buffer}. */
+        BUFFER,
+        /**
+         * Always memory-maps the file and feeds the mapped region via {@code MediaInfo_Open_Buffer} without copying.
+         * Seeks requested by MediaInfo are served by offsetting into the mapping.
+         */
+        MEMORY_MAP,
+        /**
+         * Always reads the file into two pooled native buffers that are fed via {@code MediaInfo_Open_Buffer}, filling
+         * the next buffer on a background I/O thread while MediaInfo parses the current one. Suited for cold caches and
+         * high-latency storage.
+         */
+        READ_AHEAD
+    }
 }
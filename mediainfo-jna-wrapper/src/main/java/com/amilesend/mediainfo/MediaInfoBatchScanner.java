@@ -0,0 +1,278 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.MediaInfoAccessor;
+import com.amilesend.mediainfo.lib.MediaInfoHandlePool;
+import com.amilesend.mediainfo.util.Validate;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Analyzes many media files concurrently. Each worker leases one accessor at a time from a
+ * {@link MediaInfoHandlePool}, opens the file with the {@link MediaInfoBase} created by the given factory, and
+ * applies the extractor before the accessor is returned to the pool. Failures are captured per file.
+ *
+ * Example usage:
+ *
+ * <pre>
+ * MediaInfoHandlePool pool = new MediaInfoHandlePool(MediaInfoLibrary.newInstance());
+ * try (MediaInfoBatchScanner scanner = new MediaInfoBatchScanner(pool, 8)) {
+ *     List&lt;MediaInfoBatchScanner.ScanResult&lt;Duration&gt;&gt; results = scanner.scan(
+ *             paths,
+ *             MyVideoMediaInfoType::new,
+ *             MyVideoMediaInfoType::getDuration);
+ * }
+ * </pre>
+ *
+ * Note: The extractor is invoked while the native handle is still open, so it must read all required parameters
+ * and return a value that does not reference the {@link MediaInfoBase} instance.
+ */
+@Slf4j
+public class MediaInfoBatchScanner implements AutoCloseable {
+    private final MediaInfoHandlePool pool;
+    private final int parallelism;
+    private final ExecutorService executor;
+
+    /**
+     * Creates a new {@code MediaInfoBatchScanner} with one worker per available processor.
+     *
+     * @param pool the pool to lease accessors from
+     */
+    public MediaInfoBatchScanner(final MediaInfoHandlePool pool) {
+        this(pool, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new {@code MediaInfoBatchScanner}. The pool should retain at least {@code parallelism} idle
+     * handles so that workers reuse their native handles between files.
+     *
+     * @param pool the pool to lease accessors from
+     * @param parallelism the number of files to analyze concurrently
+     */
+    public MediaInfoBatchScanner(@NonNull final MediaInfoHandlePool pool, final int parallelism) {
+        Validate.isTrue(parallelism > 0, "parallelism must be > 0");
+
+        this.pool = pool;
+        this.parallelism = parallelism;
+        this.executor = Executors.newFixedThreadPool(parallelism, new WorkerThreadFactory());
+    }
+
+    /**
+     * Analyzes the given files and returns the results in completion order.
+     *
+     * @param paths the media files to analyze
+     * @param factory creates the media info instance for a leased accessor
+     * @param extractor extracts the result from an opened media info instance
+     * @return the results in completion order
+     * @param <T> the concrete media info implementation type
+     * @param <R> the extracted result type
+     * @throws InterruptedException if interrupted while waiting for the scan to complete
+     */
+    public <T extends MediaInfoBase<T>, R> List<ScanResult<R>> scan(
+            @NonNull final Collection<Path> paths,
+            @NonNull final Function<MediaInfoAccessor, T> factory,
+            @NonNull final Function<T, R> extractor) throws InterruptedException {
+        final List<ScanResult<R>> results = new ArrayList<>(paths.size());
+        scan(paths.stream(), factory, extractor, results::add);
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Analyzes the given files and returns the results in completion order.
+     *
+     * @param paths the media files to analyze
+     * @param factory creates the media info instance for a leased accessor
+     * @param extractor extracts the result from an opened media info instance
+     * @return the results in completion order
+     * @param <T> the concrete media info implementation type
+     * @param <R> the extracted result type
+     * @throws InterruptedException if interrupted while waiting for the scan to complete
+     */
+    public <T extends MediaInfoBase<T>, R> List<ScanResult<R>> scan(
+            @NonNull final Stream<Path> paths,
+            @NonNull final Function<MediaInfoAccessor, T> factory,
+            @NonNull final Function<T, R> extractor) throws InterruptedException {
+        final List<ScanResult<R>> results = new ArrayList<>();
+        scan(paths, factory, extractor, results::add);
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Analyzes the given files and notifies the listener as each file completes. The stream is consumed lazily by
+     * the workers, and the listener is never invoked concurrently.
+     *
+     * @param paths the media files to analyze
+     * @param factory creates the media info instance for a leased accessor
+     * @param extractor extracts the result from an opened media info instance
+     * @param listener notified with each result in completion order
+     * @param <T> the concrete media info implementation type
+     * @param <R> the extracted result type
+     * @throws InterruptedException if interrupted while waiting for the scan to complete
+     */
+    public <T extends MediaInfoBase<T>, R> void scan(
+            @NonNull final Stream<Path> paths,
+            @NonNull final Function<MediaInfoAccessor, T> factory,
+            @NonNull final Function<T, R> extractor,
+            @NonNull final Consumer<ScanResult<R>> listener) throws InterruptedException {
+        final Iterator<Path> pathIterator = paths.iterator();
+        final ReentrantLock iteratorLock = new ReentrantLock();
+        final ReentrantLock listenerLock = new ReentrantLock();
+
+        final Runnable worker = () -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                final Path path;
+                iteratorLock.lock();
+                try {
+                    if (!pathIterator.hasNext()) {
+                        return;
+                    }
+                    path = pathIterator.next();
+                } finally {
+                    iteratorLock.unlock();
+                }
+
+                final ScanResult<R> result = scanFile(path, factory, extractor);
+                listenerLock.lock();
+                try {
+                    listener.accept(result);
+                } finally {
+                    listenerLock.unlock();
+                }
+            }
+        };
+
+        final List<Future<?>> workers = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; ++i) {
+            workers.add(executor.submit(worker));
+        }
+
+        awaitWorkers(workers);
+    }
+
+    /** Stops the worker threads. */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T extends MediaInfoBase<T>, R> ScanResult<R> scanFile(
+            final Path path,
+            final Function<MediaInfoAccessor, T> factory,
+            final Function<T, R> extractor) {
+        final long start = System.nanoTime();
+        final MediaInfoAccessor accessor = pool.borrow();
+        final T mediaInfo;
+        try {
+            mediaInfo = factory.apply(accessor);
+        } catch (final RuntimeException ex) {
+            // The factory failed before taking ownership of the accessor
+            accessor.close();
+            log.debug("Unable to analyze media file: {}", path, ex);
+            return new ScanResult<>(path, null, ex, System.nanoTime() - start);
+        }
+
+        // Closing the media info returns the accessor to the pool
+        try (mediaInfo) {
+            final T opened = mediaInfo.open(path);
+            return new ScanResult<>(path, extractor.apply(opened), null, System.nanoTime() - start);
+        } catch (final IOException | RuntimeException ex) {
+            log.debug("Unable to analyze media file: {}", path, ex);
+            return new ScanResult<>(path, null, ex, System.nanoTime() - start);
+        }
+    }
+
+    private static void awaitWorkers(final List<Future<?>> workers) throws InterruptedException {
+        try {
+            for (final Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (final InterruptedException ex) {
+            workers.forEach(w -> w.cancel(true));
+            throw ex;
+        } catch (final ExecutionException ex) {
+            workers.forEach(w -> w.cancel(true));
+            // Thrown by the stream or the listener, as file failures are captured in the scan result
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    /**
+     * The outcome of analyzing a single media file.
+     *
+     * @param <R> the extracted result type
+     */
+    @Value
+    public static class ScanResult<R> {
+        /** The media file path. */
+        Path path;
+        /** The extracted result, or {@code null} if the analysis failed. */
+        R value;
+        /** The failure that occurred, or {@code null} if the analysis succeeded. */
+        Exception error;
+        /** The time spent analyzing the file, in nanoseconds. */
+        long elapsedNanos;
+
+        /**
+         * Determines if the analysis succeeded.
+         *
+         * @return {@code true} if successful; else, {@code false}
+         */
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "mediainfo-scanner-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
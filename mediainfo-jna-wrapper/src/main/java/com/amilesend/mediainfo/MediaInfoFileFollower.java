@@ -0,0 +1,288 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.MediaInfoAccessor;
+import com.amilesend.mediainfo.lib.NativeBufferPool;
+import com.amilesend.mediainfo.type.Status;
+import com.amilesend.mediainfo.util.Validate;
+import com.amilesend.mediainfo.util.VisibleForTesting;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Follows a file that is still being written (e.g., a live recording) with a single {@code Open_Buffer} session that
+ * stays open across polls. Each {@link #poll()} feeds only the bytes appended since the previous poll, so the work per
+ * poll is proportional to the appended bytes rather than to the file size. Snapshots are published when MediaInfo
+ * reports {@link Status#Filled} or {@link Status#Updated}.
+ *
+ * <p>The writer is considered done, and parsing is finalized, once the file has not grown for the idle timeout, when
+ * MediaInfo needs no more bytes, or when {@link #finish()} is invoked (e.g., on a recording-stopped event).</p>
+ *
+ * Example usage:
+ *
+ * <pre>
+ * try (MediaInfoAccessor accessor = new MediaInfoAccessor(library);
+ *         MediaInfoFileFollower follower = new MediaInfoFileFollower(
+ *                 accessor,
+ *                 Path.of("./Recording.ts"),
+ *                 update -&gt; System.out.println(update.getSnapshot().get(StreamType.General, 0, "Duration")),
+ *                 Duration.ofMinutes(5L))) {
+ *     while (follower.poll()) {
+ *         Thread.sleep(60000L);
+ *     }
+ * }
+ * </pre>
+ *
+ * The accessor is not closed by the follower.
+ */
+@Slf4j
+public class MediaInfoFileFollower implements AutoCloseable {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final MediaInfoAccessor accessor;
+    private final FileChannel channel;
+    private final Consumer<MediaInfoStreamParser.Update> listener;
+    private final NativeBufferPool.Lease lease;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+    // The position of the next byte to feed to MediaInfo, which may be ahead of the file size after a seek
+    private long position;
+    private long lastSize;
+    private long lastGrowthNanos;
+    private long bytesFed;
+    private boolean isFilled;
+    private MediaInfoStreamParser.Update finalUpdate;
+
+    /**
+     * Creates a new {@code MediaInfoFileFollower} that feeds MediaInfo via the
+     * {@link NativeBufferPool#getDefault() default buffer pool}.
+     *
+     * @param accessor the accessor to parse with
+     * @param file the file to follow
+     * @param listener receives the updated and final snapshots
+     * @param idleTimeout how long the file must not grow before the writer is considered done
+     * @throws IOException if the file could not be opened or MediaInfo could not be prepared to parse a buffer
+     */
+    public MediaInfoFileFollower(
+            @NonNull final MediaInfoAccessor accessor,
+            @NonNull final Path file,
+            @NonNull final Consumer<MediaInfoStreamParser.Update> listener,
+            @NonNull final Duration idleTimeout) throws IOException {
+        this(accessor, file, listener, idleTimeout, NativeBufferPool.getDefault(), System::nanoTime);
+    }
+
+    @VisibleForTesting
+    MediaInfoFileFollower(
+            @NonNull final MediaInfoAccessor accessor,
+            @NonNull final Path file,
+            @NonNull final Consumer<MediaInfoStreamParser.Update> listener,
+            @NonNull final Duration idleTimeout,
+            @NonNull final NativeBufferPool bufferPool,
+            @NonNull final LongSupplier nanoClock) throws IOException {
+        Validate.isTrue(!idleTimeout.isNegative() && !idleTimeout.isZero(), "idleTimeout must be > 0");
+
+        this.accessor = accessor;
+        this.listener = listener;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoClock = nanoClock;
+        this.lastGrowthNanos = nanoClock.getAsLong();
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            this.lease = bufferPool.lease();
+        } catch (final RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+
+        if (accessor.openBufferInitUnknownLength(0L) == false) {
+            lease.close();
+            channel.close();
+            throw new IOException("Failed to initialize buffer for file: " + file);
+        }
+    }
+
+    /**
+     * Feeds the bytes appended since the previous poll to MediaInfo. Finalizes parsing if the file has not grown for
+     * the idle timeout or has shrunk (e.g., was truncated or replaced).
+     *
+     * @return {@code true} if the file is still being followed; else, {@code false} if parsing finished
+     * @throws IOException if an error occurred while reading the file
+     */
+    public boolean poll() throws IOException {
+        lock.lock();
+        try {
+            if (finalUpdate != null) {
+                return false;
+            }
+
+            final long size = channel.size();
+            final long now = nanoClock.getAsLong();
+            if (size > lastSize) {
+                lastSize = size;
+                lastGrowthNanos = now;
+            } else if (size < lastSize) {
+                log.debug("Followed file shrank from {} to {} bytes; finalizing", lastSize, size);
+                finish();
+                return false;
+            } else if (now - lastGrowthNanos >= idleTimeoutNanos) {
+                finish();
+                return false;
+            }
+
+            parseAppended(size);
+            return finalUpdate == null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Finalizes parsing with the bytes fed so far, e.g., once the writer closed the file, and publishes the final
+     * snapshot. Subsequent calls return the same result.
+     *
+     * @return the final result
+     */
+    public MediaInfoStreamParser.Update finish() {
+        lock.lock();
+        try {
+            if (finalUpdate == null) {
+                accessor.openBufferFinalize();
+                finalUpdate = newUpdate(EnumSet.of(Status.Finalized), true);
+                listener.accept(finalUpdate);
+            }
+
+            return finalUpdate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Determines if parsing finished.
+     *
+     * @return {@code true} if finished; else, {@code false}
+     */
+    public boolean isFinished() {
+        lock.lock();
+        try {
+            return finalUpdate != null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of bytes fed to MediaInfo so far, which includes bytes fed again after a seek back.
+     *
+     * @return the number of bytes
+     */
+    public long getBytesFed() {
+        lock.lock();
+        try {
+            return bytesFed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Finalizes parsing without publishing a result if not finished, and closes the file. */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (finalUpdate == null) {
+                accessor.openBufferFinalize();
+                finalUpdate = newUpdate(EnumSet.of(Status.Finalized), true);
+            }
+
+            lease.close();
+            channel.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void parseAppended(final long size) throws IOException {
+        while (finalUpdate == null && position < size) {
+            final ByteBuffer buffer = lease.getByteBuffer();
+            buffer.limit((int) Math.min(size - position, lease.getSize()));
+            final int read = readFully(buffer, position);
+            if (read <= 0) {
+                return;
+            }
+
+            final EnumSet<Status> status = accessor.openBufferContinueStatus(lease.getMemory(), read);
+            position += read;
+            bytesFed += read;
+
+            if (status.contains(Status.Finalized)) {
+                accessor.openBufferFinalize();
+                finalUpdate = newUpdate(status, true);
+                listener.accept(finalUpdate);
+                return;
+            }
+
+            if (status.contains(Status.Updated) || (status.contains(Status.Filled) && !isFilled)) {
+                isFilled |= status.contains(Status.Filled);
+                listener.accept(newUpdate(status, false));
+            }
+
+            final long gotoPos = accessor.openBufferContinueGotoGet();
+            if (gotoPos >= Status.None.getValue()) {
+                // Seeks beyond the bytes written so far resume once the file has grown past the requested position
+                position = gotoPos;
+                accessor.openBufferInitUnknownLength(gotoPos);
+            }
+        }
+    }
+
+    private int readFully(final ByteBuffer buffer, final long start) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) < 0) {
+                break;
+            }
+        }
+
+        return buffer.position();
+    }
+
+    private MediaInfoStreamParser.Update newUpdate(final EnumSet<Status> status, final boolean isFinal) {
+        return new MediaInfoStreamParser.Update(
+                Collections.unmodifiableSet(status),
+                accessor.snapshot(),
+                lastSize,
+                isFinal);
+    }
+}
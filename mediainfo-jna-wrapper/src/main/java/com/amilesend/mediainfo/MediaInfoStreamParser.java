@@ -0,0 +1,381 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.MediaInfoAccessor;
+import com.amilesend.mediainfo.lib.MediaInfoSnapshot;
+import com.amilesend.mediainfo.lib.NativeBufferPool;
+import com.amilesend.mediainfo.type.Status;
+import com.amilesend.mediainfo.util.Validate;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Parses media information from bytes that arrive over time (e.g., an upload in progress) and publishes partial
+ * results as soon as MediaInfo reports {@link Status#Filled} or {@link Status#Updated}. Bytes are pushed via
+ * {@link #feed(ByteBuffer)} or by subscribing the parser to a {@link Flow.Publisher}.
+ *
+ * <p>The most recent bytes are retained in a seek window so that seeks requested by MediaInfo into bytes that were
+ * already received can be served. Seeks forward skip bytes until the requested position arrives. Seeks to bytes that
+ * are no longer retained cannot be satisfied, in which case parsing is finalized with the information parsed so far
+ * and {@link #isSeekUnsatisfiable()} is set.</p>
+ *
+ * Example usage:
+ *
+ * <pre>
+ * try (MediaInfoAccessor accessor = new MediaInfoAccessor(library);
+ *         MediaInfoStreamParser parser = new MediaInfoStreamParser(accessor, uploadSize, update -&gt; {
+ *             String format = update.getSnapshot().get(StreamType.General, 0, "Format");
+ *             // Reject or route the upload once the format is known
+ *         })) {
+ *     while ((chunk = nextUploadChunk()) != null &amp;&amp; parser.feed(chunk)) {
+ *         // Keep receiving
+ *     }
+ *     MediaInfoSnapshot result = parser.finish().getSnapshot();
+ * }
+ * </pre>
+ *
+ * The accessor is not closed by the parser.
+ */
+@Slf4j
+public class MediaInfoStreamParser implements Flow.Subscriber<ByteBuffer>, AutoCloseable {
+    /** The default number of most recently received bytes that are retained to serve seeks (4 MB). */
+    public static final int DEFAULT_SEEK_WINDOW = 4194304;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final MediaInfoAccessor accessor;
+    private final long mediaSize;
+    private final Consumer<Update> listener;
+    private final NativeBufferPool.Lease lease;
+    private final SeekWindow window;
+    // The position of the next byte to feed to MediaInfo, which is ahead of the bytes received after a forward seek
+    private long feedPosition;
+    private long bytesFed;
+    private boolean isFilled;
+    private boolean isSeekUnsatisfiable;
+    private Update finalUpdate;
+    private Flow.Subscription subscription;
+
+    /**
+     * Creates a new {@code MediaInfoStreamParser} that feeds MediaInfo via the
+     * {@link NativeBufferPool#getDefault() default buffer pool} and retains {@link #DEFAULT_SEEK_WINDOW} bytes.
+     *
+     * @param accessor the accessor to parse with
+     * @param mediaSize the size of the complete media in bytes
+     * @param listener receives the partial and final results
+     * @throws IOException if MediaInfo could not be prepared to parse a buffer
+     */
+    public MediaInfoStreamParser(
+            @NonNull final MediaInfoAccessor accessor,
+            final long mediaSize,
+            @NonNull final Consumer<Update> listener) throws IOException {
+        this(accessor, mediaSize, listener, NativeBufferPool.getDefault(), DEFAULT_SEEK_WINDOW);
+    }
+
+    /**
+     * Creates a new {@code MediaInfoStreamParser}.
+     *
+     * @param accessor the accessor to parse with
+     * @param mediaSize the size of the complete media in bytes
+     * @param listener receives the partial and final results
+     * @param bufferPool the pool of native buffers that bytes are fed to MediaInfo from
+     * @param seekWindow the number of most recently received bytes that are retained to serve seeks
+     * @throws IOException if MediaInfo could not be prepared to parse a buffer
+     */
+    public MediaInfoStreamParser(
+            @NonNull final MediaInfoAccessor accessor,
+            final long mediaSize,
+            @NonNull final Consumer<Update> listener,
+            @NonNull final NativeBufferPool bufferPool,
+            final int seekWindow) throws IOException {
+        Validate.isTrue(mediaSize > 0L, "mediaSize must be > 0");
+        Validate.isTrue(seekWindow >= bufferPool.getBufferSize(), "seekWindow must be >= the buffer size");
+
+        this.accessor = accessor;
+        this.mediaSize = mediaSize;
+        this.listener = listener;
+        this.window = new SeekWindow(seekWindow);
+        this.lease = bufferPool.lease();
+        if (accessor.openBufferInit(mediaSize, 0L) == false) {
+            lease.close();
+            throw new IOException("Failed to initialize media stream");
+        }
+    }
+
+    /**
+     * Feeds the next received bytes, i.e., the bytes between the position and limit of the buffer, which is consumed.
+     * Bytes received after parsing finished are ignored.
+     *
+     * @param data the received bytes
+     * @return {@code true} if MediaInfo wants more bytes; else, {@code false} if parsing finished
+     */
+    public boolean feed(@NonNull final ByteBuffer data) {
+        lock.lock();
+        try {
+            while (finalUpdate == null && data.hasRemaining()) {
+                // Bytes are retained at most one buffer at a time so that they are fed before they can be evicted
+                final int length = Math.min(data.remaining(), lease.getSize());
+                final ByteBuffer slice = data.slice();
+                slice.limit(length);
+                window.append(slice);
+                data.position(data.position() + length);
+                parseReceived();
+            }
+
+            data.position(data.limit());
+            return finalUpdate == null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Finalizes parsing with the bytes received so far, e.g., once the upload completed, and publishes the final
+     * result. Subsequent calls return the same result.
+     *
+     * @return the final result
+     */
+    public Update finish() {
+        lock.lock();
+        try {
+            if (finalUpdate == null) {
+                accessor.openBufferFinalize();
+                finalUpdate = newUpdate(EnumSet.of(Status.Finalized), true);
+                listener.accept(finalUpdate);
+            }
+
+            return finalUpdate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Determines if parsing finished, either because MediaInfo needs no more bytes or because of {@link #finish()}.
+     *
+     * @return {@code true} if finished; else, {@code false}
+     */
+    public boolean isFinished() {
+        lock.lock();
+        try {
+            return finalUpdate != null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Determines if MediaInfo requested a seek to bytes that were no longer retained, which finalized parsing early.
+     *
+     * @return {@code true} if a seek could not be satisfied; else, {@code false}
+     */
+    public boolean isSeekUnsatisfiable() {
+        lock.lock();
+        try {
+            return isSeekUnsatisfiable;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of bytes received so far.
+     *
+     * @return the number of bytes
+     */
+    public long getBytesReceived() {
+        lock.lock();
+        try {
+            return window.getEnd();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of bytes fed to MediaInfo so far, which includes bytes fed again after a seek back.
+     *
+     * @return the number of bytes
+     */
+    public long getBytesFed() {
+        lock.lock();
+        try {
+            return bytesFed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onSubscribe(@NonNull final Flow.Subscription subscription) {
+        lock.lock();
+        try {
+            if (this.subscription != null || finalUpdate != null) {
+                subscription.cancel();
+                return;
+            }
+
+            this.subscription = subscription;
+        } finally {
+            lock.unlock();
+        }
+
+        subscription.request(1L);
+    }
+
+    @Override
+    public void onNext(@NonNull final ByteBuffer item) {
+        if (feed(item)) {
+            subscription.request(1L);
+        } else {
+            subscription.cancel();
+        }
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        log.debug("Media stream failed; finalizing with the bytes received so far", throwable);
+        finish();
+    }
+
+    @Override
+    public void onComplete() {
+        finish();
+    }
+
+    /** Finalizes parsing without publishing a result if not finished and returns the native buffer to its pool. */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (finalUpdate == null) {
+                accessor.openBufferFinalize();
+                finalUpdate = newUpdate(EnumSet.of(Status.Finalized), true);
+            }
+
+            lease.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void parseReceived() {
+        while (finalUpdate == null && feedPosition < window.getEnd()) {
+            final int length = (int) Math.min(window.getEnd() - feedPosition, lease.getSize());
+            window.copyTo(feedPosition, lease.getByteBuffer(), length);
+            final EnumSet<Status> status = accessor.openBufferContinueStatus(lease.getMemory(), length);
+            feedPosition += length;
+            bytesFed += length;
+
+            if (status.contains(Status.Finalized)) {
+                accessor.openBufferFinalize();
+                finalUpdate = newUpdate(status, true);
+                listener.accept(finalUpdate);
+                return;
+            }
+
+            if (status.contains(Status.Updated) || (status.contains(Status.Filled) && !isFilled)) {
+                isFilled |= status.contains(Status.Filled);
+                listener.accept(newUpdate(status, false));
+            }
+
+            final long gotoPos = accessor.openBufferContinueGotoGet();
+            if (gotoPos >= Status.None.getValue()) {
+                if (gotoPos < window.getStart()) {
+                    log.debug("Seek to {} is before the retained bytes starting at {}", gotoPos, window.getStart());
+                    isSeekUnsatisfiable = true;
+                    finish();
+                    return;
+                }
+
+                // Seeks beyond the received bytes resume once the requested position arrives
+                feedPosition = gotoPos;
+                accessor.openBufferInit(mediaSize, gotoPos);
+            }
+        }
+    }
+
+    private Update newUpdate(final EnumSet<Status> status, final boolean isFinal) {
+        return new Update(Collections.unmodifiableSet(status), accessor.snapshot(), window.getEnd(), isFinal);
+    }
+
+    /** A partial or final result of parsing a media stream. */
+    @Value
+    public static class Update {
+        /** The statuses reported by MediaInfo for the last bytes fed. */
+        Set<Status> status;
+        /** The media information parsed so far. */
+        MediaInfoSnapshot snapshot;
+        /** The number of bytes received when the result was published. */
+        long bytesReceived;
+        /** Whether this is the final result, after which no more bytes are parsed. */
+        boolean complete;
+    }
+
+    /** Retains the most recently received bytes in a ring buffer. */
+    private static class SeekWindow {
+        private final byte[] ring;
+        private long end;
+
+        SeekWindow(final int capacity) {
+            this.ring = new byte[capacity];
+        }
+
+        long getStart() {
+            return Math.max(0L, end - ring.length);
+        }
+
+        long getEnd() {
+            return end;
+        }
+
+        void append(final ByteBuffer data) {
+            while (data.hasRemaining()) {
+                final int offset = (int) (end % ring.length);
+                final int length = Math.min(data.remaining(), ring.length - offset);
+                data.get(ring, offset, length);
+                end += length;
+            }
+        }
+
+        void copyTo(final long position, final ByteBuffer target, final int length) {
+            int copied = 0;
+            while (copied < length) {
+                final int offset = (int) ((position + copied) % ring.length);
+                final int segment = Math.min(length - copied, ring.length - offset);
+                target.put(ring, offset, segment);
+                copied += segment;
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.util.VisibleForTesting;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link BufferSource} that memory-maps a file so that chunks are handed to MediaInfo as pointers into the mapped
+ * region. Seeks are pointer arithmetic and no bytes are copied on the Java side; pages are faulted in by the operating
+ * system only when MediaInfo touches them.
+ *
+ * Files are mapped in windows of up to {@link #DEFAULT_WINDOW_SIZE} bytes as a single mapping is limited to
+ * {@code Integer.MAX_VALUE} bytes. A chunk never spans two windows. Mappings are released by the garbage collector
+ * once they are no longer referenced, as there is no supported API to unmap them eagerly.
+ */
+class MemoryMappedBufferSource implements BufferSource {
+    /** The default mapping window size (1 GB). */
+    static final long DEFAULT_WINDOW_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final boolean isChannelOwned;
+    private final long size;
+    private final long windowSize;
+    // The mapped buffer must stay strongly reachable while its address is in use by MediaInfo
+    private MappedByteBuffer window;
+    private Pointer windowAddress;
+    private long windowStart = -1L;
+
+    private MemoryMappedBufferSource(
+            final FileChannel channel,
+            final boolean isChannelOwned,
+            final long windowSize) throws IOException {
+        this.channel = channel;
+        this.isChannelOwned = isChannelOwned;
+        this.size = channel.size();
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Opens and maps the given file. The channel is closed when this source is closed.
+     *
+     * @param path the file path
+     * @return the source
+     * @throws IOException if an error occurred while opening the file
+     */
+    static MemoryMappedBufferSource open(@NonNull final Path path) throws IOException {
+        return new MemoryMappedBufferSource(
+                FileChannel.open(path, StandardOpenOption.READ),
+                true,
+                DEFAULT_WINDOW_SIZE);
+    }
+
+    @VisibleForTesting
+    static MemoryMappedBufferSource of(@NonNull final FileChannel channel, final long windowSize) throws IOException {
+        return new MemoryMappedBufferSource(channel, false, windowSize);
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public Chunk read(final long position, final int maxLength) throws IOException {
+        if (position < 0L || position >= size) {
+            return Chunk.END;
+        }
+
+        final long start = position - position % windowSize;
+        if (start != windowStart) {
+            window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowSize, size - start));
+            windowAddress = Native.getDirectBufferPointer(window);
+            windowStart = start;
+        }
+
+        final long offset = position - windowStart;
+        final int length = (int) Math.min(maxLength, window.capacity() - offset);
+        return new Chunk(windowAddress.share(offset), length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        windowAddress = null;
+        windowStart = -1L;
+        if (isChannelOwned) {
+            channel.close();
+        }
+    }
+}
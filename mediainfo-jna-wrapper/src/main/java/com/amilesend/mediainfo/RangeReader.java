@@ -0,0 +1,71 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads byte ranges of media that is not accessible as a local file, such as objects in object storage that are read
+ * via ranged requests. Each {@link #read(long, int)} invocation is expected to be one round trip, so
+ * {@link MediaInfoBase#open(RangeReader)} coalesces adjacent ranges and caches fetched blocks to keep the number of
+ * invocations low.
+ *
+ * Example usage:
+ *
+ * <pre>
+ * RangeReader reader = new RangeReader() {
+ *     public long size() {
+ *         return s3.headObject(request).contentLength();
+ *     }
+ *
+ *     public ByteBuffer read(long offset, int length) {
+ *         return ByteBuffer.wrap(s3.getObjectAsBytes(rangeRequest(offset, length)).asByteArray());
+ *     }
+ * };
+ *
+ * try (MyVideoMediaInfo myVideo = new MyVideoMediaInfo(accessor).open(reader)) {
+ *     Duration movieDuration = myVideo.getDuration();
+ * }
+ * </pre>
+ */
+public interface RangeReader {
+    /**
+     * Gets the total size of the media in bytes.
+     *
+     * @return the size
+     * @throws IOException if an error occurred while determining the size
+     */
+    long size() throws IOException;
+
+    /**
+     * Reads a range of bytes. Implementations may return fewer bytes than requested, in which case the remaining
+     * bytes are requested again.
+     *
+     * @param offset the position of the first byte to read
+     * @param length the number of bytes to read
+     * @return the bytes between the position and limit of the returned buffer
+     * @throws IOException if an error occurred while reading
+     */
+    ByteBuffer read(long offset, int length) throws IOException;
+}
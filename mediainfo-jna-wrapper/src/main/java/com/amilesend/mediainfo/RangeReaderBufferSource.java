@@ -0,0 +1,150 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.util.Validate;
+import com.sun.jna.Memory;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link BufferSource} over a {@link RangeReader} that caches fetched blocks in native memory. A miss fetches the
+ * requested block together with the following uncached blocks that the chunk extends into, in a single
+ * {@link RangeReader#read(long, int)} invocation, so that sequential chunks and seek targets are typically served
+ * with one round trip. Chunks are pointers into cached blocks and never span two blocks.
+ */
+class RangeReaderBufferSource implements BufferSource {
+    /** The default block size (1 MB). */
+    static final int DEFAULT_BLOCK_SIZE = 1048576;
+    /** The default maximum number of cached blocks. */
+    static final int DEFAULT_MAX_BLOCKS = 16;
+
+    private final RangeReader reader;
+    private final long size;
+    private final int blockSize;
+    private final int maxBlocks;
+    private final Map<Long, Memory> blocks = new LinkedHashMap<>(16, 0.75F, true);
+
+    /**
+     * Creates a new {@code RangeReaderBufferSource}.
+     *
+     * @param reader the range reader
+     * @param blockSize the size of each cached block in bytes
+     * @param maxBlocks the maximum number of cached blocks, which also bounds the blocks fetched at once
+     * @throws IOException if an error occurred while determining the size
+     */
+    RangeReaderBufferSource(@NonNull final RangeReader reader, final int blockSize, final int maxBlocks)
+            throws IOException {
+        Validate.isTrue(blockSize > 0, "blockSize must be > 0");
+        Validate.isTrue(maxBlocks > 0, "maxBlocks must be > 0");
+        Validate.isTrue((long) blockSize * maxBlocks <= Integer.MAX_VALUE, "blockSize * maxBlocks is too large");
+
+        this.reader = reader;
+        this.size = reader.size();
+        this.blockSize = blockSize;
+        this.maxBlocks = maxBlocks;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public Chunk read(final long position, final int maxLength) throws IOException {
+        if (position < 0L || position >= size) {
+            return Chunk.END;
+        }
+
+        final long index = position / blockSize;
+        Memory block = blocks.get(index);
+        if (block == null) {
+            fetch(index, (Math.min(position + maxLength, size) - 1L) / blockSize);
+            block = blocks.get(index);
+        }
+
+        final long offset = position - index * blockSize;
+        return new Chunk(block.share(offset), (int) Math.min(maxLength, block.size() - offset));
+    }
+
+    @Override
+    public void close() {
+        blocks.values().forEach(Memory::close);
+        blocks.clear();
+    }
+
+    private void fetch(final long first, final long last) throws IOException {
+        // Coalesce the uncached blocks that directly follow the first block into one range
+        final long limit = Math.min(last, first + maxBlocks - 1L);
+        long end = first;
+        while (end < limit && !blocks.containsKey(end + 1L)) {
+            ++end;
+        }
+
+        final long start = first * blockSize;
+        final long stop = Math.min((end + 1L) * blockSize, size);
+        final Memory[] fetched = new Memory[(int) (end - first + 1L)];
+        for (int i = 0; i < fetched.length; ++i) {
+            fetched[i] = new Memory(Math.min(blockSize, stop - start - (long) i * blockSize));
+        }
+
+        long offset = start;
+        while (offset < stop) {
+            final ByteBuffer range = reader.read(offset, (int) (stop - offset));
+            if (range == null || !range.hasRemaining()) {
+                throw new IOException("No bytes returned for range at offset " + offset);
+            }
+
+            while (range.hasRemaining() && offset < stop) {
+                final Memory block = fetched[(int) ((offset - start) / blockSize)];
+                final long blockOffset = (offset - start) % blockSize;
+                final int length = (int) Math.min(range.remaining(), block.size() - blockOffset);
+                final ByteBuffer part = range.duplicate();
+                part.limit(part.position() + length);
+                block.getByteBuffer(blockOffset, length).put(part);
+                range.position(range.position() + length);
+                offset += length;
+            }
+        }
+
+        for (int i = 0; i < fetched.length; ++i) {
+            blocks.put(first + i, fetched[i]);
+        }
+
+        evict();
+    }
+
+    private void evict() {
+        // Blocks that were just fetched are the most recently used and are therefore retained
+        final Iterator<Memory> iterator = blocks.values().iterator();
+        while (blocks.size() > maxBlocks && iterator.hasNext()) {
+            iterator.next().close();
+            iterator.remove();
+        }
+    }
+}
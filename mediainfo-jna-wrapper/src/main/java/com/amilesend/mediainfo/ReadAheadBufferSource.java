@@ -0,0 +1,237 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.NativeBufferPool;
+import com.amilesend.mediainfo.util.VisibleForTesting;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A double-buffered {@link BufferSource} that reads the next chunk on a background I/O thread while MediaInfo parses
+ * the current one. The size of the next chunk is predicted from the {@link ChunkSizing}. When MediaInfo requests a
+ * seek, the pending read is discarded and the seek target is read on the calling thread.
+ *
+ * Reads are positional, so the background read never moves the position of the channel.
+ */
+class ReadAheadBufferSource implements BufferSource {
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(new IoThreadFactory());
+
+    private final FileChannel channel;
+    private final long size;
+    private final ChunkSizing sizing;
+    private final Executor executor;
+    private NativeBufferPool.Lease current;
+    private NativeBufferPool.Lease next;
+    private Future<Integer> pending;
+    private long pendingPosition = -1L;
+    // A discarded read that may still be filling the next buffer
+    private Future<Integer> stale;
+    private int hitCount;
+    private int discardCount;
+
+    /**
+     * Creates a new {@code ReadAheadBufferSource} that reads on the shared read-ahead I/O threads.
+     *
+     * @param channel the channel to read from, which is not closed by this source
+     * @param sizing the chunk sizing used to predict the size of the next chunk
+     * @param bufferPool the pool to lease the two buffers from
+     * @throws IOException if an error occurred while determining the size
+     */
+    ReadAheadBufferSource(
+            @NonNull final FileChannel channel,
+            @NonNull final ChunkSizing sizing,
+            @NonNull final NativeBufferPool bufferPool) throws IOException {
+        this(channel, sizing, bufferPool, DEFAULT_EXECUTOR);
+    }
+
+    @VisibleForTesting
+    ReadAheadBufferSource(
+            final FileChannel channel,
+            final ChunkSizing sizing,
+            final NativeBufferPool bufferPool,
+            final Executor executor) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.sizing = sizing;
+        this.executor = executor;
+        this.current = bufferPool.lease();
+        this.next = bufferPool.lease();
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public Chunk read(final long position, final int maxLength) throws IOException {
+        if (position < 0L || position >= size) {
+            return Chunk.END;
+        }
+
+        int length;
+        if (pending != null && pendingPosition == position) {
+            length = Math.min(await(pending), maxLength);
+            pending = null;
+            ++hitCount;
+
+            final NativeBufferPool.Lease filled = next;
+            next = current;
+            current = filled;
+        } else {
+            if (pending != null) {
+                stale = pending;
+                pending = null;
+                ++discardCount;
+            }
+
+            length = readFully(current.getByteBuffer(), position, maxLength);
+        }
+
+        if (length <= 0) {
+            return Chunk.END;
+        }
+
+        prefetch(position + length, sizing.grow(maxLength));
+        return new Chunk(current.getMemory(), length);
+    }
+
+    /**
+     * Waits for any pending or discarded read to complete before the buffers are returned to the pool, as a background
+     * read may still be writing into them. The wait is not interruptible; the interrupt status is restored afterwards.
+     */
+    @Override
+    public void close() {
+        awaitQuietly(pending);
+        awaitQuietly(stale);
+        pending = null;
+        stale = null;
+        current.close();
+        next.close();
+    }
+
+    @VisibleForTesting
+    int getHitCount() {
+        return hitCount;
+    }
+
+    @VisibleForTesting
+    int getDiscardCount() {
+        return discardCount;
+    }
+
+    private void prefetch(final long position, final int length) throws IOException {
+        if (position >= size) {
+            return;
+        }
+
+        // The next buffer can only be refilled once a discarded read into it has completed
+        if (stale != null) {
+            awaitQuietly(stale);
+            stale = null;
+        }
+
+        final ByteBuffer buffer = next.getByteBuffer();
+        final FutureTask<Integer> task = new FutureTask<>(() -> readFully(buffer, position, length));
+        // Only tracked once accepted by the executor, as a rejected task never completes
+        executor.execute(task);
+        pending = task;
+        pendingPosition = position;
+    }
+
+    private int readFully(final ByteBuffer buffer, final long position, final int length) throws IOException {
+        buffer.limit((int) Math.min(Math.min(length, buffer.capacity()), size - position));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                break;
+            }
+        }
+
+        return buffer.position();
+    }
+
+    private static int await(final Future<Integer> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for read-ahead");
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+
+            throw new IOException("Read-ahead failed", ex.getCause());
+        }
+    }
+
+    private static void awaitQuietly(final Future<Integer> future) {
+        if (future == null) {
+            return;
+        }
+
+        boolean isInterrupted = false;
+        try {
+            while (true) {
+                try {
+                    future.get();
+                    return;
+                } catch (final InterruptedException ex) {
+                    // Keep waiting, as the read may still be writing into a pooled buffer
+                    isInterrupted = true;
+                } catch (final ExecutionException ex) {
+                    // The result of a discarded read is not used
+                    return;
+                }
+            }
+        } finally {
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static class IoThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "mediainfo-read-ahead-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
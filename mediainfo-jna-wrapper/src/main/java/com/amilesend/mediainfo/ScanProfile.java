@@ -0,0 +1,265 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.util.Validate;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounds the work MediaInfo performs per file. A profile sets MediaInfo options (e.g., {@code ParseSpeed}) for the
+ * duration of an open and enforces a hard maximum on the number of bytes fed to MediaInfo, after which parsing is
+ * finalized early. A profile may also set a timeout after which parsing is finalized early with the information
+ * parsed so far, which bounds the time spent on untrusted or malformed media. Whether an open was cut short is
+ * reported via {@link BufferReadStats#isTruncated()} and {@link BufferReadStats#isTimedOut()}. A
+ * {@link StopCondition} stops parsing as soon as the needed information is available, which is reported via
+ * {@link BufferReadStats#isSatisfied()}. Note that some options, such as {@code ParseSpeed}, are process-wide in
+ * MediaInfoLib (see {@link Builder#parseSpeed(double)}).
+ *
+ * Example usage:
+ *
+ * <pre>
+ * // Container-level facts only, reading at most 4 MB per file
+ * ScanProfile profile = ScanProfile.builder()
+ *         .parseSpeed(0.0)
+ *         .maxBytes(4194304L)
+ *         .build();
+ *
+ * try (MyVideoMediaInfo myVideo = new MyVideoMediaInfo(accessor).open(new File("./MyVideo.ts"), profile)) {
+ *     boolean isTruncated = myVideo.getBufferReadStats().isTruncated();
+ * }
+ * </pre>
+ */
+public final class ScanProfile {
+    /** The default byte budget of the {@link #QUICK} profile (8 MB). */
+    public static final long DEFAULT_QUICK_MAX_BYTES = 8388608L;
+    /** Applies no options and does not limit the bytes read. */
+    public static final ScanProfile FULL = builder().build();
+    /**
+     * Reads container-level facts with the lowest {@code ParseSpeed}, without testing for continuous file name
+     * sequences, and reads at most {@link #DEFAULT_QUICK_MAX_BYTES} bytes.
+     */
+    public static final ScanProfile QUICK = builder()
+            .parseSpeed(0.0)
+            .option("File_TestContinuousFileNames", "0")
+            .maxBytes(DEFAULT_QUICK_MAX_BYTES)
+            .build();
+
+    private static final String PARSE_SPEED_OPTION = "ParseSpeed";
+    // Longer timeouts do not fit in nanoseconds and are treated as unlimited
+    private static final long MAX_TIMEOUT_SECONDS = Long.MAX_VALUE / 1_000_000_000L;
+
+    /** The options to set before the media is opened. */
+    @Getter
+    private final List<Option> options;
+    /** The maximum number of bytes fed to MediaInfo, or {@link Long#MAX_VALUE} if unlimited. */
+    @Getter
+    private final long maxBytes;
+    /** The maximum time spent feeding MediaInfo, or {@code null} if unlimited. */
+    @Getter
+    private final Duration timeout;
+    /** The condition that stops parsing before MediaInfo finalizes it. */
+    @Getter
+    private final StopCondition stopCondition;
+
+    private ScanProfile(
+            final List<Option> options,
+            final long maxBytes,
+            final Duration timeout,
+            final StopCondition stopCondition) {
+        this.options = options;
+        this.maxBytes = maxBytes;
+        this.timeout = timeout;
+        this.stopCondition = stopCondition;
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Determines if the number of bytes fed to MediaInfo is limited.
+     *
+     * @return {@code true} if limited; else, {@code false}
+     */
+    public boolean isByteLimited() {
+        return maxBytes != Long.MAX_VALUE;
+    }
+
+    /**
+     * Determines if the time spent feeding MediaInfo is limited.
+     *
+     * @return {@code true} if limited; else, {@code false}
+     */
+    public boolean isTimeLimited() {
+        return timeout != null;
+    }
+
+    /**
+     * Determines if the profile must be enforced by opening the media via buffer, as an open by path cannot be
+     * interrupted.
+     *
+     * @return {@code true} if the media must be opened via buffer; else, {@code false}
+     */
+    public boolean requiresBuffer() {
+        return isByteLimited() || isTimeLimited() || stopCondition != StopCondition.NEVER;
+    }
+
+    /**
+     * Gets the timeout in nanoseconds.
+     *
+     * @return the timeout, or {@link Long#MAX_VALUE} if unlimited
+     */
+    long getTimeoutNanos() {
+        if (timeout == null || timeout.getSeconds() >= MAX_TIMEOUT_SECONDS) {
+            return Long.MAX_VALUE;
+        }
+
+        return timeout.toNanos();
+    }
+
+    /**
+     * A MediaInfo option that is set for the duration of an open. The value prior to the open is read via the
+     * {@code <name>_Get} option and restored afterwards.
+     */
+    @Value
+    public static class Option {
+        /** The option name. */
+        String name;
+        /** The value set before the media is opened. */
+        String value;
+    }
+
+    /** Builds a {@link ScanProfile}. */
+    public static class Builder {
+        private final List<Option> options = new ArrayList<>();
+        private long maxBytes = Long.MAX_VALUE;
+        private Duration timeout;
+        private StopCondition stopCondition = StopCondition.NEVER;
+
+        private Builder() { }
+
+        /**
+         * Sets the {@code ParseSpeed} option, where {@code 0.0} reads the least and {@code 1.0} reads the complete
+         * file. The previous value is restored after the open.
+         * <p>
+         * Note: MediaInfoLib stores {@code ParseSpeed} process-wide rather than per handle. Concurrent opens with
+         * profiles that set different parse speeds may observe each other's value, so callers that open media
+         * concurrently should use the same parse speed for all opens.
+         *
+         * @param parseSpeed the parse speed between {@code 0.0} and {@code 1.0}
+         * @return this builder
+         */
+        public Builder parseSpeed(final double parseSpeed) {
+            Validate.isTrue(parseSpeed >= 0.0 && parseSpeed <= 1.0, "parseSpeed must be between 0.0 and 1.0");
+
+            return option(PARSE_SPEED_OPTION, String.valueOf(parseSpeed));
+        }
+
+        /**
+         * Adds an option that is set before the media is opened and restored to its previous value afterwards. The
+         * previous value is read via the {@code <name>_Get} option; options that MediaInfo cannot report are not
+         * restored.
+         *
+         * @param name the option name
+         * @param value the value to set
+         * @return this builder
+         */
+        public Builder option(final String name, @NonNull final String value) {
+            Validate.notBlank(name, "name must not be blank");
+
+            options.add(new Option(name, value));
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of bytes fed to MediaInfo per open. Limiting the bytes requires the media to be
+         * opened via buffer.
+         *
+         * @param maxBytes the maximum number of bytes
+         * @return this builder
+         */
+        public Builder maxBytes(final long maxBytes) {
+            Validate.isTrue(maxBytes > 0L, "maxBytes must be > 0");
+
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time spent feeding MediaInfo per open, after which parsing is finalized with the
+         * information parsed so far. The deadline is checked between chunks. Limiting the time requires the media to
+         * be opened via buffer.
+         *
+         * @param timeout the timeout
+         * @return this builder
+         */
+        public Builder timeout(@NonNull final Duration timeout) {
+            Validate.isTrue(!timeout.isNegative() && !timeout.isZero(), "timeout must be > 0");
+
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Stops parsing as soon as MediaInfo reports {@link com.amilesend.mediainfo.type.Status#Filled}, which may
+         * skip most of the remaining I/O for formats that collect the needed data early.
+         *
+         * @return this builder
+         */
+        public Builder stopWhenFilled() {
+            return stopWhen(StopCondition.FILLED);
+        }
+
+        /**
+         * Sets the condition that stops parsing before MediaInfo finalizes it. Stopping early requires the media to
+         * be opened via buffer.
+         *
+         * @param stopCondition the stop condition
+         * @return this builder
+         */
+        public Builder stopWhen(@NonNull final StopCondition stopCondition) {
+            this.stopCondition = stopCondition;
+            return this;
+        }
+
+        /**
+         * Builds the profile.
+         *
+         * @return the profile
+         */
+        public ScanProfile build() {
+            return new ScanProfile(List.copyOf(options), maxBytes, timeout, stopCondition);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.MediaInfoAccessor;
+import com.amilesend.mediainfo.type.Status;
+import com.amilesend.mediainfo.type.StreamType;
+import com.amilesend.mediainfo.util.StringUtils;
+import com.amilesend.mediainfo.util.Validate;
+import lombok.NonNull;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Determines whether enough media information has been parsed to stop feeding MediaInfo before it reports
+ * {@link Status#Finalized}. A condition is evaluated after each chunk that is fed while opening media via buffer.
+ *
+ * Example usage:
+ *
+ * <pre>
+ * // Stop once the video dimensions are known
+ * ScanProfile profile = ScanProfile.builder()
+ *         .stopWhen(StopCondition.whenPresent(StreamType.Video, "Width", "Height"))
+ *         .build();
+ * </pre>
+ */
+@FunctionalInterface
+public interface StopCondition {
+    /** Never stops early; parsing continues until MediaInfo reports {@link Status#Finalized}. */
+    StopCondition NEVER = (status, accessor) -> false;
+    /** Stops once MediaInfo reports {@link Status#Filled}, i.e., the needed data has been collected. */
+    StopCondition FILLED = (status, accessor) -> status.contains(Status.Filled);
+
+    /**
+     * Determines if parsing can stop.
+     *
+     * @param status the statuses reported for the last chunk fed to MediaInfo
+     * @param accessor the accessor that may be queried for the information parsed so far
+     * @return {@code true} if no more chunks need to be fed; else, {@code false}
+     */
+    boolean isMet(Set<Status> status, MediaInfoAccessor accessor);
+
+    /**
+     * Creates a condition that is met once all parameters of the first stream of the given type have a value. The
+     * parameters are only queried after MediaInfo has accepted the format.
+     *
+     * @param streamType the stream type
+     * @param parameters the parameters that must have a value (e.g., {@code "Width"})
+     * @return the condition
+     */
+    static StopCondition whenPresent(@NonNull final StreamType streamType, @NonNull final String... parameters) {
+        Validate.isTrue(parameters.length > 0, "parameters must not be empty");
+
+        final List<String> requiredParameters = List.of(parameters);
+        return (status, accessor) -> status.contains(Status.Accepted)
+                && requiredParameters.stream()
+                        .allMatch(parameter -> StringUtils.isNotBlank(accessor.get(streamType, 0, parameter)));
+    }
+}
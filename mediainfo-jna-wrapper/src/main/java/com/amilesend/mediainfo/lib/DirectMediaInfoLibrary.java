@@ -0,0 +1,255 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.util.StringUtils;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import com.sun.jna.WString;
+
+/**
+ * A {@link MediaInfoLibrary} implementation that uses JNA direct mapping ({@code Native.register}) instead of an
+ * interface proxy. Native methods are bound once per class loader with primitive and {@link Pointer} signatures,
+ * which avoids the reflection-based dispatch and per-call argument conversion of the proxy.
+ *
+ * Example usage:
+ *
+ * <pre>
+ * MediaInfoLibrary library = MediaInfoLibrary.newInstance(MediaInfoLibrary.Binding.DIRECT);
+ * </pre>
+ *
+ * @see MediaInfoLibrary.Binding
+ */
+public final class DirectMediaInfoLibrary implements MediaInfoLibrary {
+    private static final DirectMediaInfoLibrary INSTANCE = new DirectMediaInfoLibrary();
+    private static boolean isRegistered;
+
+    private DirectMediaInfoLibrary() { }
+
+    /**
+     * Registers the native methods (once) and returns the library instance.
+     *
+     * @return the library instance
+     * @throws UnsatisfiedLinkError if the native library cannot be loaded
+     */
+    static synchronized DirectMediaInfoLibrary newInstance() {
+        if (!isRegistered) {
+            Native.register(DirectMediaInfoLibrary.class, MediaInfoLibrary.getLibraryName());
+            isRegistered = true;
+        }
+
+        return INSTANCE;
+    }
+
+    @Override
+    public Pointer newHandle() {
+        return MediaInfo_New();
+    }
+
+    @Override
+    public void deleteHandle(final Pointer handle) {
+        MediaInfo_Delete(handle);
+    }
+
+    @Override
+    public int open(final Pointer handle, final WString file) {
+        return MediaInfo_Open(handle, file);
+    }
+
+    @Override
+    public int openBufferInit(final Pointer handle, final long length, final long offset) {
+        return MediaInfo_Open_Buffer_Init(handle, length, offset);
+    }
+
+    @Override
+    public int openBufferContinue(final Pointer handle, final byte[] buffer, final int size) {
+        return MediaInfo_Open_Buffer_Continue(handle, buffer, size);
+    }
+
+    @Override
+    public int openBufferContinue(final Pointer handle, final Pointer buffer, final int size) {
+        return MediaInfo_Open_Buffer_Continue(handle, buffer, size);
+    }
+
+    @Override
+    public long openBufferContinueGotoGet(final Pointer handle) {
+        return MediaInfo_Open_Buffer_Continue_GoTo_Get(handle);
+    }
+
+    @Override
+    public int openBufferFinalize(final Pointer handle) {
+        return MediaInfo_Open_Buffer_Finalize(handle);
+    }
+
+    @Override
+    public void close(final Pointer handle) {
+        MediaInfo_Close(handle);
+    }
+
+    @Override
+    public WString inform(final Pointer handle, final int reserved) {
+        return toWString(MediaInfo_Inform(handle, reserved));
+    }
+
+    @Override
+    public WString get(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final WString parameter,
+            final int infoType,
+            final int searchType) {
+        return toWString(MediaInfo_Get(handle, streamType, streamNumber, parameter, infoType, searchType));
+    }
+
+    @Override
+    public WString get(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final Pointer parameter,
+            final int infoType,
+            final int searchType) {
+        return toWString(MediaInfo_Get(handle, streamType, streamNumber, parameter, infoType, searchType));
+    }
+
+    @Override
+    public WString getI(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final int parameterIndex,
+            final int infoType) {
+        return toWString(MediaInfo_GetI(handle, streamType, streamNumber, parameterIndex, infoType));
+    }
+
+    @Override
+    public Pointer informAsPointer(final Pointer handle, final int reserved) {
+        return MediaInfo_Inform(handle, reserved);
+    }
+
+    @Override
+    public Pointer getAsPointer(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final WString parameter,
+            final int infoType,
+            final int searchType) {
+        return MediaInfo_Get(handle, streamType, streamNumber, parameter, infoType, searchType);
+    }
+
+    @Override
+    public Pointer getAsPointer(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final Pointer parameter,
+            final int infoType,
+            final int searchType) {
+        return MediaInfo_Get(handle, streamType, streamNumber, parameter, infoType, searchType);
+    }
+
+    @Override
+    public Pointer getIAsPointer(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final int parameterIndex,
+            final int infoType) {
+        return MediaInfo_GetI(handle, streamType, streamNumber, parameterIndex, infoType);
+    }
+
+    @Override
+    public int countGet(final Pointer handle, final int streamType, final int streamNumber) {
+        return MediaInfo_Count_Get(handle, streamType, streamNumber);
+    }
+
+    @Override
+    public WString option(final Pointer handle, final WString option, final WString value) {
+        return toWString(MediaInfo_Option(handle, option, value));
+    }
+
+    @Override
+    public WString option(final Pointer handle, final Pointer option, final Pointer value) {
+        return toWString(MediaInfo_Option(handle, option, value));
+    }
+
+    // Returned strings are owned by the library and are only valid until the next call on the same handle
+    private static WString toWString(final Pointer value) {
+        return new WString(value == null ? StringUtils.EMPTY : value.getWideString(0L));
+    }
+
+    //////////////////////
+    // Native functions
+    //////////////////////
+
+    private static native Pointer MediaInfo_New();
+
+    private static native void MediaInfo_Delete(Pointer handle);
+
+    private static native int MediaInfo_Open(Pointer handle, WString file);
+
+    private static native int MediaInfo_Open_Buffer_Init(Pointer handle, long length, long offset);
+
+    private static native int MediaInfo_Open_Buffer_Continue(Pointer handle, byte[] buffer, int size);
+
+    private static native int MediaInfo_Open_Buffer_Continue(Pointer handle, Pointer buffer, int size);
+
+    private static native long MediaInfo_Open_Buffer_Continue_GoTo_Get(Pointer handle);
+
+    private static native int MediaInfo_Open_Buffer_Finalize(Pointer handle);
+
+    private static native void MediaInfo_Close(Pointer handle);
+
+    private static native Pointer MediaInfo_Inform(Pointer handle, int reserved);
+
+    private static native Pointer MediaInfo_Get(
+            Pointer handle,
+            int streamType,
+            int streamNumber,
+            WString parameter,
+            int infoType,
+            int searchType);
+
+    private static native Pointer MediaInfo_Get(
+            Pointer handle,
+            int streamType,
+            int streamNumber,
+            Pointer parameter,
+            int infoType,
+            int searchType);
+
+    private static native Pointer MediaInfo_GetI(
+            Pointer handle,
+            int streamType,
+            int streamNumber,
+            int parameterIndex,
+            int infoType);
+
+    private static native int MediaInfo_Count_Get(Pointer handle, int streamType, int streamNumber);
+
+    private static native Pointer MediaInfo_Option(Pointer handle, WString option, WString value);
+
+    private static native Pointer MediaInfo_Option(Pointer handle, Pointer option, Pointer value);
+}
@@ -0,0 +1,365 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.type.StreamType;
+import com.amilesend.mediainfo.util.StringUtils;
+import com.amilesend.mediainfo.util.Validate;
+import com.amilesend.mediainfo.util.VisibleForTesting;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A compiled custom {@code Inform} template that extracts many fields with a single {@code MediaInfo_Inform}
+ * native call. Templates are compiled once per field set and cached for reuse, up to {@link #DEFAULT_MAX_ENTRIES}
+ * field sets. Once the cache is full, new field sets are still compiled but are not retained.
+ *
+ * Example usage:
+ *
+ * <pre>
+ * private static final InformTemplate TEMPLATE = InformTemplate.builder()
+ *         .field(StreamType.General, "Duration")
+ *         .field(StreamType.Video, "Width")
+ *         .field(StreamType.Video, "Height")
+ *         .build();
+ *
+ * InformTemplate.Row row = TEMPLATE.extract(getAccessor());
+ * long duration = row.getLong(StreamType.General, "Duration").orElse(0L);
+ * int width = Integer.parseInt(row.get(StreamType.Video, "Width"));
+ * </pre>
+ */
+public final class InformTemplate {
+    /** The maximum number of cached templates. */
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    // Control characters are used as delimiters as they do not occur in parameter values
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final char RECORD_SEPARATOR = '\u001E';
+    private static final ConcurrentMap<List<Field>, InformTemplate> CACHE = new ConcurrentHashMap<>();
+    private static final AtomicInteger NUM_CACHE_ENTRIES = new AtomicInteger();
+
+    /** The fields in the order that they were added. */
+    @Getter
+    private final List<Field> fields;
+    /** The compiled template value that is applied via the {@code Inform} option. */
+    @Getter
+    private final String template;
+    /** The position of each field within the record for its stream type. */
+    private final int[] recordPositions;
+
+    private InformTemplate(final List<Field> fields) {
+        this.fields = fields;
+        this.recordPositions = new int[fields.size()];
+
+        final Map<StreamType, Map<String, Integer>> parametersByType = new EnumMap<>(StreamType.class);
+        for (int i = 0; i < fields.size(); ++i) {
+            final Field field = fields.get(i);
+            final Map<String, Integer> parameters =
+                    parametersByType.computeIfAbsent(field.getStreamType(), t -> new LinkedHashMap<>());
+            recordPositions[i] = parameters.computeIfAbsent(field.getParameter(), p -> parameters.size());
+        }
+
+        // Each record starts with the stream type name so that it can be attributed to a stream when parsed
+        final StringBuilder compiled = new StringBuilder();
+        parametersByType.forEach((streamType, parameters) -> {
+            if (compiled.length() > 0) {
+                compiled.append(System.lineSeparator());
+            }
+            compiled.append(streamType.name()).append(';').append(streamType.name());
+            parameters.keySet().forEach(p -> compiled.append(FIELD_SEPARATOR).append('%').append(p).append('%'));
+            compiled.append(RECORD_SEPARATOR);
+        });
+        this.template = compiled.toString();
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @VisibleForTesting
+    static int getCacheSize() {
+        return CACHE.size();
+    }
+
+    @VisibleForTesting
+    static InformTemplate getOrCompile(final List<Field> fields, final int maxEntries) {
+        final InformTemplate cached = CACHE.get(fields);
+        if (cached != null) {
+            return cached;
+        }
+
+        final InformTemplate compiled = new InformTemplate(fields);
+        if (NUM_CACHE_ENTRIES.incrementAndGet() > maxEntries) {
+            NUM_CACHE_ENTRIES.decrementAndGet();
+            return compiled;
+        }
+
+        final InformTemplate existing = CACHE.putIfAbsent(fields, compiled);
+        if (existing != null) {
+            // Another thread cached the same field set first
+            NUM_CACHE_ENTRIES.decrementAndGet();
+            return existing;
+        }
+
+        return compiled;
+    }
+
+    /**
+     * Applies this template to an opened file and extracts all fields with a single native call. The template is
+     * applied via {@link MediaInfoAccessor#inform(String)}, which serializes the process-wide output format across
+     * all accessors.
+     *
+     * @param accessor the accessor for the opened file
+     * @return the extracted row
+     */
+    public Row extract(@NonNull final MediaInfoAccessor accessor) {
+        return parse(accessor.inform(template));
+    }
+
+    /**
+     * Splits the inform output that was produced by this template into a row.
+     *
+     * @param output the inform output
+     * @return the row
+     */
+    Row parse(@NonNull final String output) {
+        final Map<StreamType, List<String[]>> recordsByType = new EnumMap<>(StreamType.class);
+        for (final String record : output.split(String.valueOf(RECORD_SEPARATOR))) {
+            final String[] values = record.strip().split(String.valueOf(FIELD_SEPARATOR), -1);
+            toStreamType(values[0]).ifPresent(streamType ->
+                    recordsByType.computeIfAbsent(streamType, t -> new ArrayList<>()).add(values));
+        }
+
+        final String[] values = new String[fields.size()];
+        for (int i = 0; i < values.length; ++i) {
+            final Field field = fields.get(i);
+            final List<String[]> records = recordsByType.getOrDefault(field.getStreamType(), List.of());
+            // The first value of each record is the stream type name
+            final int position = recordPositions[i] + 1;
+            values[i] = field.getStreamNumber() < records.size()
+                    && position < records.get(field.getStreamNumber()).length
+                    ? records.get(field.getStreamNumber())[position]
+                    : StringUtils.EMPTY;
+        }
+
+        return new Row(this, values);
+    }
+
+    private static Optional<StreamType> toStreamType(final String name) {
+        for (final StreamType streamType : StreamType.values()) {
+            if (streamType.name().equals(name)) {
+                return Optional.of(streamType);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private int indexOf(final StreamType streamType, final int streamNumber, final String parameter) {
+        for (int i = 0; i < fields.size(); ++i) {
+            final Field field = fields.get(i);
+            if (field.getStreamType() == streamType
+                    && field.getStreamNumber() == streamNumber
+                    && field.getParameter().equals(parameter)) {
+                return i;
+            }
+        }
+
+        throw new IllegalArgumentException("Field is not defined in the template: " + streamType + " "
+                + streamNumber + " " + parameter);
+    }
+
+    /** A field to extract. */
+    @Value
+    public static class Field {
+        /** The stream type. */
+        StreamType streamType;
+        /** The stream number. */
+        int streamNumber;
+        /** The parameter name (e.g., Width, Duration, Format, etc.). */
+        String parameter;
+    }
+
+    /** Builds and compiles an {@link InformTemplate}. */
+    public static class Builder {
+        private final List<Field> fields = new ArrayList<>();
+
+        private Builder() { }
+
+        /**
+         * Adds a field for the first stream of the given stream type.
+         *
+         * @param streamType the stream type
+         * @param parameter the parameter name (e.g., Width, Duration, Format, etc.)
+         * @return this builder
+         */
+        public Builder field(final StreamType streamType, final String parameter) {
+            return field(streamType, 0, parameter);
+        }
+
+        /**
+         * Adds a field.
+         *
+         * @param streamType the stream type
+         * @param streamNumber the stream number
+         * @param parameter the parameter name (e.g., Width, Duration, Format, etc.)
+         * @return this builder
+         */
+        public Builder field(@NonNull final StreamType streamType, final int streamNumber, final String parameter) {
+            Validate.isTrue(streamNumber >= 0, "streamNumber must be >= 0");
+            Validate.notBlank(parameter, "parameter must not be blank");
+            Validate.isTrue(parameter.indexOf('%') < 0, "parameter must not contain '%'");
+
+            fields.add(new Field(streamType, streamNumber, parameter));
+            return this;
+        }
+
+        /**
+         * Compiles the template, or returns the cached template for the same field set.
+         *
+         * @return the template
+         */
+        public InformTemplate build() {
+            Validate.notEmpty(fields, "at least one field must be defined");
+
+            return getOrCompile(List.copyOf(fields), DEFAULT_MAX_ENTRIES);
+        }
+    }
+
+    /** The extracted values for all fields of a template. Missing values are empty. */
+    public static class Row {
+        private final InformTemplate template;
+        private final String[] values;
+
+        private Row(final InformTemplate template, final String[] values) {
+            this.template = template;
+            this.values = values;
+        }
+
+        /**
+         * Gets the number of values.
+         *
+         * @return the number of values
+         */
+        public int size() {
+            return values.length;
+        }
+
+        /**
+         * Gets a value by the index of its field in the template.
+         *
+         * @param fieldIndex the field index
+         * @return the value, or empty if not found
+         */
+        public String get(final int fieldIndex) {
+            return values[fieldIndex];
+        }
+
+        /**
+         * Gets the value for the first stream of the given stream type.
+         *
+         * @param streamType the stream type
+         * @param parameter the parameter name
+         * @return the value, or empty if not found
+         * @throws IllegalArgumentException if the field is not defined in the template
+         */
+        public String get(final StreamType streamType, final String parameter) {
+            return get(streamType, 0, parameter);
+        }
+
+        /**
+         * Gets the value for the given field.
+         *
+         * @param streamType the stream type
+         * @param streamNumber the stream number
+         * @param parameter the parameter name
+         * @return the value, or empty if not found
+         * @throws IllegalArgumentException if the field is not defined in the template
+         */
+        public String get(final StreamType streamType, final int streamNumber, final String parameter) {
+            return values[template.indexOf(streamType, streamNumber, parameter)];
+        }
+
+        /**
+         * Gets the value for the first stream of the given stream type as a long. Decimal values are truncated.
+         *
+         * @param streamType the stream type
+         * @param parameter the parameter name
+         * @return the value, or empty if not found or not numeric
+         */
+        public Optional<Long> getLong(final StreamType streamType, final String parameter) {
+            return getDouble(streamType, parameter).map(Double::longValue);
+        }
+
+        /**
+         * Gets the value for the first stream of the given stream type as a double.
+         *
+         * @param streamType the stream type
+         * @param parameter the parameter name
+         * @return the value, or empty if not found or not numeric
+         */
+        public Optional<Double> getDouble(final StreamType streamType, final String parameter) {
+            final String value = get(streamType, parameter);
+            if (StringUtils.isBlank(value)) {
+                return Optional.empty();
+            }
+
+            try {
+                return Optional.of(Double.parseDouble(value));
+            } catch (final NumberFormatException ex) {
+                return Optional.empty();
+            }
+        }
+
+        /**
+         * Gets all values keyed by field.
+         *
+         * @return the values in field order
+         */
+        public Map<Field, String> asMap() {
+            final Map<Field, String> map = new LinkedHashMap<>();
+            for (int i = 0; i < values.length; ++i) {
+                map.put(template.fields.get(i), values[i]);
+            }
+
+            return Collections.unmodifiableMap(map);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import com.amilesend.mediainfo.type.Status;
 import com.amilesend.mediainfo.type.StreamType;
 import com.amilesend.mediainfo.util.StringUtils;
 import com.amilesend.mediainfo.util.Validate;
+import com.sun.jna.Native;
 import com.sun.jna.Pointer;
 import com.sun.jna.WString;
 import lombok.AccessLevel;
@@ -35,14 +36,33 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.locks.ReentrantLock;
 
 /** The object used by java applications to interact with the libMediaInfo library. */
 @Slf4j
 public class MediaInfoAccessor implements AutoCloseable {
+    private static final String INFO_PARAMETERS_OPTION = "Info_Parameters";
+    private static final String INFO_VERSION_OPTION = "Info_Version";
+    private static final String JSON_OUTPUT_FORMAT = "JSON";
+    private static final String OUTPUT_OPTION = "Output";
+    private static final String OUTPUT_GET_OPTION = "Inform_Get";
+    private static final String UNKNOWN_OPTION_RESPONSE = "Option not known";
+    // The output format is a global MediaInfoLib option that is shared by every handle in the process
+    private static final ReentrantLock INFORM_LOCK = new ReentrantLock();
+    private static final String STREAM_COUNT_PARAMETER = "StreamCount";
+    private static final long UNKNOWN_LENGTH = -1L;
+
     private final ReentrantLock lock = new ReentrantLock();
+    private final boolean isParameterIndexResolutionEnabled;
+    private final NativeStringCache nativeStringCache;
     private MediaInfoLibrary mediaInfoLibrary;
+    private volatile ParameterIndexResolver parameterIndexResolver;
     @Getter(AccessLevel.PACKAGE)
     @Setter(AccessLevel.PACKAGE)
     private Pointer mediaInfoLibPointer;
@@ -54,7 +74,48 @@ public class MediaInfoAccessor implements AutoCloseable {
      * @see MediaInfoLibrary
      */
     public MediaInfoAccessor(@NonNull final MediaInfoLibrary mediaInfoLibrary) {
+        this(mediaInfoLibrary, false);
+    }
+
+    /**
+     * Creates a new {@code MediaInfo} object.
+     *
+     * @param mediaInfoLibrary the library instance
+     * @param isParameterIndexResolutionEnabled if {@code true}, name-based queries for static parameters are routed
+     *                                          through {@code MediaInfo_GetI} via the {@link ParameterIndexResolver}
+     *                                          for the library version
+     * @see MediaInfoLibrary
+     */
+    public MediaInfoAccessor(
+            @NonNull final MediaInfoLibrary mediaInfoLibrary,
+            final boolean isParameterIndexResolutionEnabled) {
+        this(
+                mediaInfoLibrary,
+                isParameterIndexResolutionEnabled,
+                NativeStringCache.getDefault(mediaInfoLibrary.isUtf8()));
+    }
+
+    /**
+     * Creates a new {@code MediaInfo} object.
+     *
+     * @param mediaInfoLibrary the library instance
+     * @param isParameterIndexResolutionEnabled if {@code true}, name-based queries for static parameters are routed
+     *                                          through {@code MediaInfo_GetI} via the {@link ParameterIndexResolver}
+     *                                          for the library version
+     * @param nativeStringCache the cache of pre-encoded parameter and option names, which must use the same encoding
+     *                          as the library
+     * @see MediaInfoLibrary
+     * @see MediaInfoLibrary#isUtf8()
+     */
+    public MediaInfoAccessor(
+            @NonNull final MediaInfoLibrary mediaInfoLibrary,
+            final boolean isParameterIndexResolutionEnabled,
+            @NonNull final NativeStringCache nativeStringCache) {
+        Validate.isTrue(nativeStringCache.isUtf8() == mediaInfoLibrary.isUtf8(),
+                "nativeStringCache encoding must match the library encoding");
         this.mediaInfoLibrary = mediaInfoLibrary;
+        this.isParameterIndexResolutionEnabled = isParameterIndexResolutionEnabled;
+        this.nativeStringCache = nativeStringCache;
         mediaInfoLibPointer = newPointer();
     }
 
@@ -127,6 +188,31 @@ public class MediaInfoAccessor implements AutoCloseable {
         }
     }
 
+    /**
+     * Prepares a memory buffer for reading and parsing media information from a stream whose total length is not
+     * known yet (e.g., a file that is still being written).
+     *
+     * @param offset the byte offset to start reading from
+     * @return {@code true} if the buffer was successfully initialized; else, {@code false}
+     */
+    public boolean openBufferInitUnknownLength(final long offset) {
+        Validate.isTrue(offset >= 0L, "offset must be >= 0");
+
+        if (Objects.isNull(mediaInfoLibPointer)) {
+            throw new IllegalStateException("MediaInfoLib Pointer is null. This happens when close()/dispose() has " +
+                    "been invoked prior to invoking openBufferInitUnknownLength()");
+        }
+
+        lock.lock();
+        try {
+            // MediaInfo treats the maximum unsigned length as unknown
+            int response = mediaInfoLibrary.openBufferInit(mediaInfoLibPointer, UNKNOWN_LENGTH, offset);
+            return response == Status.Accepted.getValue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /**
      * Reads from a memory buffer to parse media information and tags.
      *
@@ -158,6 +244,56 @@ public class MediaInfoAccessor implements AutoCloseable {
         }
     }
 
+    /**
+     * Reads from a native memory buffer to parse media information and tags. Unlike
+     * {@link #openBufferContinue(byte[], int)}, the buffer is passed to the library without being copied.
+     *
+     * @param buffer the native buffer (e.g., leased from a {@link NativeBufferPool})
+     * @param size the amount of data to read
+     * @return the status bitfield
+     * @see #openBufferContinue(byte[], int)
+     */
+    public int openBufferContinue(@NonNull final Pointer buffer, final int size) {
+        Validate.isTrue(size > 0, "size must be > 0");
+
+        if (Objects.isNull(mediaInfoLibPointer)) {
+            throw new IllegalStateException("MediaInfoLib Pointer is null. This happens when close()/dispose() has " +
+                    "been invoked prior to invoking openBufferContinue()");
+        }
+
+        lock.lock();
+        try {
+            return mediaInfoLibrary.openBufferContinue(mediaInfoLibPointer, buffer, size);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads from a buffer to parse media information and tags, returning the typed status.
+     *
+     * @param buffer the buffer reference
+     * @param size the amount of data to read
+     * @return the statuses that are set (e.g., {@link Status#Filled} once the needed data is collected)
+     * @see #openBufferContinue(byte[], int)
+     */
+    public EnumSet<Status> openBufferContinueStatus(@NonNull final byte[] buffer, final int size) {
+        return Status.fromBitmask(openBufferContinue(buffer, size));
+    }
+
+    /**
+     * Reads from a native memory buffer to parse media information and tags without a copy, returning the typed
+     * status.
+     *
+     * @param buffer the native buffer (e.g., leased from a {@link NativeBufferPool})
+     * @param size the amount of data to read
+     * @return the statuses that are set (e.g., {@link Status#Filled} once the needed data is collected)
+     * @see #openBufferContinue(Pointer, int)
+     */
+    public EnumSet<Status> openBufferContinueStatus(@NonNull final Pointer buffer, final int size) {
+        return Status.fromBitmask(openBufferContinue(buffer, size));
+    }
+
     /**
      * Tests if there is request to seek to another position in the stream.
      *
@@ -212,7 +348,8 @@ public class MediaInfoAccessor implements AutoCloseable {
     }
 
     /**
-     * Get all details about a file.
+     * Get all details about a file. The call is serialized with {@link #inform(String)} across all accessors so that
+     * the details are not rendered with another accessor's temporary output format.
      *
      * @return All details about a file in one string
      */
@@ -222,14 +359,73 @@ public class MediaInfoAccessor implements AutoCloseable {
                     "been invoked prior to invoking inform()");
         }
 
+        INFORM_LOCK.lock();
         lock.lock();
         try {
             return mediaInfoLibrary.inform(mediaInfoLibPointer, 0).toString();
         } finally {
             lock.unlock();
+            INFORM_LOCK.unlock();
+        }
+    }
+
+    /**
+     * Get all details about a file in the given output format (e.g., {@code JSON}, {@code XML}, etc.) or custom
+     * template (e.g., {@code Video;%Width%}).
+     *
+     * <p>Note: The output format is a process-wide MediaInfoLib option rather than a per-handle one. It is set for
+     * the duration of this call and then restored to its previous value, and the set, inform and restore steps are
+     * serialized across all accessors. As a result, concurrent calls to {@link #inform()} and this method on
+     * different accessors do not run in parallel.
+     *
+     * @param outputFormat the output format or custom template
+     * @see InformTemplate
+     * @return All details about a file in one string
+     */
+    public String inform(final String outputFormat) {
+        Validate.notBlank(outputFormat, "outputFormat must not be blank");
+        if (Objects.isNull(mediaInfoLibPointer)) {
+            throw new IllegalStateException("MediaInfoLib Pointer is null. This happens when close()/dispose() has " +
+                    "been invoked prior to invoking inform()");
+        }
+
+        final Pointer outputOption = nativeStringCache.get(OUTPUT_OPTION);
+        INFORM_LOCK.lock();
+        lock.lock();
+        try {
+            final String previousOutputFormat = getCurrentOutputFormat();
+            mediaInfoLibrary.option(mediaInfoLibPointer, outputOption, nativeStringCache.encodeUncached(outputFormat));
+            try {
+                return mediaInfoLibrary.inform(mediaInfoLibPointer, 0).toString();
+            } finally {
+                mediaInfoLibrary.option(
+                        mediaInfoLibPointer,
+                        outputOption,
+                        nativeStringCache.encodeUncached(previousOutputFormat));
+            }
+        } finally {
+            lock.unlock();
+            INFORM_LOCK.unlock();
         }
     }
 
+    /**
+     * Gets all details about a file as a typed report. The report is retrieved in the JSON output format with a
+     * single native call, instead of one native call per parameter. See {@link #inform(String)} for how the
+     * process-wide output format is managed.
+     *
+     * <p>Note: Values in the JSON report use MediaInfo's JSON units, which can differ from the values returned by
+     * {@link #get(StreamType, int, String)}. For example, {@code Duration} is reported in seconds (e.g.,
+     * {@code 5.312}), whereas {@code get(StreamType.General, 0, "Duration")} returns milliseconds (e.g.,
+     * {@code 5312}).
+     *
+     * @return the report
+     * @see MediaInfoReport
+     */
+    public MediaInfoReport report() {
+        return MediaInfoReport.parse(inform(JSON_OUTPUT_FORMAT));
+    }
+
     /**
      * Get a piece of information about a file (parameter is a string).
      *
@@ -287,13 +483,20 @@ public class MediaInfoAccessor implements AutoCloseable {
                     "been invoked prior to invoking get()");
         }
 
+        if (isParameterIndexResolutionEnabled && searchType == InfoType.Name) {
+            final int parameterIndex = getParameterIndexResolver().indexOf(streamType, parameter);
+            if (parameterIndex != ParameterIndexResolver.UNRESOLVED) {
+                return get(streamType, streamNumber, parameterIndex, infoType);
+            }
+        }
+
         lock.lock();
         try {
             return mediaInfoLibrary.get(
                     mediaInfoLibPointer,
                     streamType.ordinal(),
                     streamNumber,
-                    new WString(parameter),
+                    nativeStringCache.get(parameter),
                     infoType.ordinal(),
                     searchType.ordinal()).toString();
         } finally {
@@ -347,6 +550,158 @@ public class MediaInfoAccessor implements AutoCloseable {
         }
     }
 
+    /**
+     * Get a piece of information about a file (parameter is a string) and append it to the destination. The value
+     * is decoded directly from the native string without creating an intermediate {@code String}.
+     *
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param parameter the parameter you are looking for in the stream (e.g., resolution, codec, bitrate, etc.)
+     * @param destination the destination to append the value to
+     * @return the number of chars appended
+     */
+    public int getInto(
+            @NonNull final StreamType streamType,
+            final int streamNumber,
+            final String parameter,
+            @NonNull final StringBuilder destination) {
+        validateGet(streamNumber, parameter, "getInto()");
+
+        lock.lock();
+        try {
+            return appendNativeString(getAsPointer(streamType, streamNumber, parameter), destination);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get a piece of information about a file (parameter is an integer that represents the parameter index) and
+     * append it to the destination. The value is decoded directly from the native string without creating an
+     * intermediate {@code String}.
+     *
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param parameterIndex the parameter index that you are looking for in the stream
+     * @param destination the destination to append the value to
+     * @return the number of chars appended
+     */
+    public int getInto(
+            @NonNull final StreamType streamType,
+            final int streamNumber,
+            final int parameterIndex,
+            @NonNull final StringBuilder destination) {
+        validateGetI(streamNumber, parameterIndex, "getInto()");
+
+        lock.lock();
+        try {
+            return appendNativeString(getIAsPointer(streamType, streamNumber, parameterIndex), destination);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get a numeric piece of information about a file (parameter is a string) such as {@code Width} or
+     * {@code Duration}. The value is parsed directly from the native string without creating any intermediate
+     * objects. Any fractional part is truncated.
+     *
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param parameter the parameter you are looking for in the stream (e.g., resolution, codec, bitrate, etc.)
+     * @param defaultValue the value to return if the value is empty or not numeric
+     * @return the value, or the default value
+     */
+    public long getLong(
+            @NonNull final StreamType streamType,
+            final int streamNumber,
+            final String parameter,
+            final long defaultValue) {
+        validateGet(streamNumber, parameter, "getLong()");
+
+        lock.lock();
+        try {
+            return parseNativeLong(getAsPointer(streamType, streamNumber, parameter), defaultValue);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get a numeric piece of information about a file (parameter is an integer that represents the parameter index).
+     * The value is parsed directly from the native string without creating any intermediate objects. Any fractional
+     * part is truncated.
+     *
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param parameterIndex the parameter index that you are looking for in the stream
+     * @param defaultValue the value to return if the value is empty or not numeric
+     * @return the value, or the default value
+     */
+    public long getLong(
+            @NonNull final StreamType streamType,
+            final int streamNumber,
+            final int parameterIndex,
+            final long defaultValue) {
+        validateGetI(streamNumber, parameterIndex, "getLong()");
+
+        lock.lock();
+        try {
+            return parseNativeLong(getIAsPointer(streamType, streamNumber, parameterIndex), defaultValue);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get a piece of information about a file (parameter is a string) as a view that decodes the native string
+     * lazily. The view is only valid until the next call on this accessor.
+     *
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param parameter the parameter you are looking for in the stream (e.g., resolution, codec, bitrate, etc.)
+     * @return the value view
+     * @see NativeCharSequence
+     */
+    public NativeCharSequence getAsCharSequence(
+            @NonNull final StreamType streamType,
+            final int streamNumber,
+            final String parameter) {
+        validateGet(streamNumber, parameter, "getAsCharSequence()");
+
+        lock.lock();
+        try {
+            return new NativeCharSequence(
+                    getAsPointer(streamType, streamNumber, parameter),
+                    mediaInfoLibrary.isUtf8());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get all details about a file and append them to the destination. The report is decoded directly from the
+     * native string without creating an intermediate {@code String}.
+     *
+     * @param destination the destination to append the report to
+     * @return the number of chars appended
+     */
+    public int informInto(@NonNull final StringBuilder destination) {
+        if (Objects.isNull(mediaInfoLibPointer)) {
+            throw new IllegalStateException("MediaInfoLib Pointer is null. This happens when close()/dispose() has " +
+                    "been invoked prior to invoking inform()");
+        }
+
+        INFORM_LOCK.lock();
+        lock.lock();
+        try {
+            return appendNativeString(mediaInfoLibrary.informAsPointer(mediaInfoLibPointer, 0), destination);
+        } finally {
+            lock.unlock();
+            INFORM_LOCK.unlock();
+        }
+    }
+
     /**
      * Gets the number of streams for the given stream type.
      *
@@ -354,7 +709,7 @@ public class MediaInfoAccessor implements AutoCloseable {
      * @return number of streams of the given stream type
      */
     public int getStreamCount(@NonNull final StreamType streamType) {
-        final String streamCount = get(streamType, 0, "StreamCount");
+        final String streamCount = get(streamType, 0, STREAM_COUNT_PARAMETER);
         if (StringUtils.isBlank(streamCount)) {
             return 0;
         }
@@ -381,6 +736,46 @@ public class MediaInfoAccessor implements AutoCloseable {
         }
     }
 
+    /**
+     * Extracts every parameter of every stream into an immutable snapshot. All native calls are made while holding
+     * the lock once, so the handle can be closed afterwards and the snapshot read without any native calls.
+     *
+     * @return the snapshot
+     * @see MediaInfoSnapshot
+     */
+    public MediaInfoSnapshot snapshot() {
+        if (Objects.isNull(mediaInfoLibPointer)) {
+            throw new IllegalStateException("MediaInfoLib Pointer is null. This happens when close()/dispose() has " +
+                    "been invoked prior to invoking snapshot()");
+        }
+
+        lock.lock();
+        try {
+            final Pointer streamCountParameter = nativeStringCache.get(STREAM_COUNT_PARAMETER);
+            final Map<StreamType, List<MediaInfoSnapshot.StreamInfo>> streams = new EnumMap<>(StreamType.class);
+            for (final StreamType streamType : StreamType.values()) {
+                final String streamCount = mediaInfoLibrary.get(
+                        mediaInfoLibPointer,
+                        streamType.ordinal(),
+                        0,
+                        streamCountParameter,
+                        InfoType.Text.ordinal(),
+                        InfoType.Name.ordinal()).toString();
+                final int numStreams = StringUtils.isBlank(streamCount) ? 0 : Integer.parseInt(streamCount);
+
+                final List<MediaInfoSnapshot.StreamInfo> typeStreams = new ArrayList<>(numStreams);
+                for (int streamNumber = 0; streamNumber < numStreams; ++streamNumber) {
+                    typeStreams.add(newStreamInfo(streamType, streamNumber));
+                }
+                streams.put(streamType, typeStreams);
+            }
+
+            return new MediaInfoSnapshot(streams);
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /**
      * Gets information about MediaInfo.
      *
@@ -403,12 +798,109 @@ public class MediaInfoAccessor implements AutoCloseable {
 
         lock.lock();
         try {
-            return mediaInfoLibrary.option(mediaInfoLibPointer, new WString(option), new WString(value)).toString();
+            return mediaInfoLibrary.option(
+                    mediaInfoLibPointer,
+                    nativeStringCache.get(option),
+                    nativeStringCache.encodeUncached(value)).toString();
         } finally {
             lock.unlock();
         }
     }
 
+    // Must be invoked while holding the inform lock so that the value is not changed before it is restored
+    private String getCurrentOutputFormat() {
+        final String value = getOption(OUTPUT_GET_OPTION);
+        return StringUtils.isBlank(value) || value.startsWith(UNKNOWN_OPTION_RESPONSE) ? StringUtils.EMPTY : value;
+    }
+
+    private ParameterIndexResolver getParameterIndexResolver() {
+        if (parameterIndexResolver == null) {
+            parameterIndexResolver = ParameterIndexResolver.forVersion(
+                    getOption(INFO_VERSION_OPTION),
+                    () -> getOption(INFO_PARAMETERS_OPTION));
+        }
+
+        return parameterIndexResolver;
+    }
+
+    private void validateGet(final int streamNumber, final String parameter, final String methodName) {
+        Validate.isTrue(streamNumber >= 0, "streamNumber must be >= 0");
+        Validate.notBlank(parameter, "parameter must not be blank");
+        if (Objects.isNull(mediaInfoLibPointer)) {
+            throw new IllegalStateException("MediaInfoLib Pointer is null. This happens when close()/dispose() has " +
+                    "been invoked prior to invoking " + methodName);
+        }
+    }
+
+    private void validateGetI(final int streamNumber, final int parameterIndex, final String methodName) {
+        Validate.isTrue(streamNumber >= 0, "streamNumber must be >= 0");
+        Validate.isTrue(parameterIndex >= 0, "parameterIndex must be >= 0");
+        if (Objects.isNull(mediaInfoLibPointer)) {
+            throw new IllegalStateException("MediaInfoLib Pointer is null. This happens when close()/dispose() has " +
+                    "been invoked prior to invoking " + methodName);
+        }
+    }
+
+    private int appendNativeString(final Pointer value, final StringBuilder destination) {
+        return mediaInfoLibrary.isUtf8()
+                ? WideStrings.appendUtf8(value, destination)
+                : WideStrings.append(value, destination);
+    }
+
+    private long parseNativeLong(final Pointer value, final long defaultValue) {
+        return WideStrings.parseLong(value, defaultValue, mediaInfoLibrary.isUtf8() ? 1 : Native.WCHAR_SIZE);
+    }
+
+    // Must be invoked while holding the lock, as the result is only valid until the next call on the handle
+    private Pointer getAsPointer(final StreamType streamType, final int streamNumber, final String parameter) {
+        if (isParameterIndexResolutionEnabled) {
+            final int parameterIndex = getParameterIndexResolver().indexOf(streamType, parameter);
+            if (parameterIndex != ParameterIndexResolver.UNRESOLVED) {
+                return getIAsPointer(streamType, streamNumber, parameterIndex);
+            }
+        }
+
+        return mediaInfoLibrary.getAsPointer(
+                mediaInfoLibPointer,
+                streamType.ordinal(),
+                streamNumber,
+                nativeStringCache.get(parameter),
+                InfoType.Text.ordinal(),
+                InfoType.Name.ordinal());
+    }
+
+    // Must be invoked while holding the lock, as the result is only valid until the next call on the handle
+    private Pointer getIAsPointer(final StreamType streamType, final int streamNumber, final int parameterIndex) {
+        return mediaInfoLibrary.getIAsPointer(
+                mediaInfoLibPointer,
+                streamType.ordinal(),
+                streamNumber,
+                parameterIndex,
+                InfoType.Text.ordinal());
+    }
+
+    private MediaInfoSnapshot.StreamInfo newStreamInfo(final StreamType streamType, final int streamNumber) {
+        final int numParameters = mediaInfoLibrary.countGet(mediaInfoLibPointer, streamType.ordinal(), streamNumber);
+        final String[] names = new String[numParameters];
+        final String[] values = new String[numParameters];
+        for (int i = 0; i < numParameters; ++i) {
+            names[i] = mediaInfoLibrary.getI(
+                    mediaInfoLibPointer,
+                    streamType.ordinal(),
+                    streamNumber,
+                    i,
+                    InfoType.Name.ordinal()).toString();
+            values[i] = mediaInfoLibrary.getI(
+                    mediaInfoLibPointer,
+                    streamType.ordinal(),
+                    streamNumber,
+                    i,
+                    InfoType.Text.ordinal()).toString();
+        }
+
+        return new MediaInfoSnapshot.StreamInfo(names, values);
+    }
+
     private Pointer newPointer() {
         try {
             return mediaInfoLibrary.newHandle();
@@ -0,0 +1,354 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.util.Validate;
+import com.amilesend.mediainfo.util.VisibleForTesting;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A pool of reusable {@link MediaInfoAccessor} instances. Leased accessors keep their native handle between files:
+ * closing a leased accessor closes the opened file via {@link MediaInfoAccessor#closeHandle()} and returns it to the
+ * pool instead of deleting the handle. The pool grows on demand, trims handles that have been idle for longer than
+ * the configured idle timeout, and retires a handle after a configurable number of uses.
+ *
+ * Example usage:
+ *
+ * <pre>
+ * MediaInfoHandlePool pool = new MediaInfoHandlePool(MediaInfoLibrary.newInstance());
+ * try (MyVideoMediaInfoType myVideo = new MyVideoMediaInfoType(pool.borrow()).open(new File("./MyVideo.mkv"))) {
+ *     List&lt;String&gt; videoCodecs = myVideo.getVideoCodecs();
+ * } // The accessor is returned to the pool
+ * </pre>
+ */
+@Slf4j
+public class MediaInfoHandlePool implements AutoCloseable {
+    /** The default maximum number of idle handles retained by the pool. */
+    public static final int DEFAULT_MAX_IDLE = Runtime.getRuntime().availableProcessors();
+    /** The default number of files a handle is used for before it is deleted. */
+    public static final int DEFAULT_MAX_USES_PER_HANDLE = 1000;
+    /** The default duration a handle can remain idle before it is trimmed. */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5L);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<PooledAccessor> idleAccessors = new ArrayDeque<>();
+    private final MediaInfoLibrary mediaInfoLibrary;
+    private final int maxIdle;
+    private final int maxUsesPerHandle;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger liveHandles = new AtomicInteger();
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder returnCount = new LongAdder();
+    private final LongAdder retiredCount = new LongAdder();
+    private final LongAdder trimmedCount = new LongAdder();
+    private final LongAdder totalBorrowNanos = new LongAdder();
+    private final LongAdder totalReturnNanos = new LongAdder();
+    private boolean isClosed;
+
+    /**
+     * Creates a new {@code MediaInfoHandlePool} with the default configuration.
+     *
+     * @param mediaInfoLibrary the library instance
+     */
+    public MediaInfoHandlePool(final MediaInfoLibrary mediaInfoLibrary) {
+        this(mediaInfoLibrary, DEFAULT_MAX_IDLE, DEFAULT_MAX_USES_PER_HANDLE, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * Creates a new {@code MediaInfoHandlePool}.
+     *
+     * @param mediaInfoLibrary the library instance
+     * @param maxIdle the maximum number of idle handles to retain
+     * @param maxUsesPerHandle the number of files a handle is used for before it is deleted
+     * @param idleTimeout the duration a handle can remain idle before it is trimmed
+     */
+    public MediaInfoHandlePool(
+            final MediaInfoLibrary mediaInfoLibrary,
+            final int maxIdle,
+            final int maxUsesPerHandle,
+            final Duration idleTimeout) {
+        this(mediaInfoLibrary, maxIdle, maxUsesPerHandle, idleTimeout, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    MediaInfoHandlePool(
+            @NonNull final MediaInfoLibrary mediaInfoLibrary,
+            final int maxIdle,
+            final int maxUsesPerHandle,
+            @NonNull final Duration idleTimeout,
+            @NonNull final LongSupplier nanoClock) {
+        Validate.isTrue(maxIdle >= 0, "maxIdle must be >= 0");
+        Validate.isTrue(maxUsesPerHandle > 0, "maxUsesPerHandle must be > 0");
+        Validate.isTrue(!idleTimeout.isNegative(), "idleTimeout must be >= 0");
+
+        this.mediaInfoLibrary = mediaInfoLibrary;
+        this.maxIdle = maxIdle;
+        this.maxUsesPerHandle = maxUsesPerHandle;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Leases an accessor from the pool, creating a new native handle if no idle handle is available. The accessor
+     * must be closed (directly or by closing the {@code MediaInfoBase} that uses it) to return it to the pool.
+     *
+     * @return the leased accessor
+     * @throws IllegalStateException if the pool is closed
+     */
+    public MediaInfoAccessor borrow() {
+        final long start = nanoClock.getAsLong();
+
+        PooledAccessor accessor;
+        lock.lock();
+        try {
+            if (isClosed) {
+                throw new IllegalStateException("The handle pool is closed");
+            }
+
+            accessor = idleAccessors.pollFirst();
+        } finally {
+            lock.unlock();
+        }
+
+        if (accessor == null) {
+            accessor = new PooledAccessor(this);
+            liveHandles.incrementAndGet();
+        } else {
+            hitCount.increment();
+        }
+
+        accessor.isLeased.set(true);
+        borrowCount.increment();
+        totalBorrowNanos.add(nanoClock.getAsLong() - start);
+        return accessor;
+    }
+
+    /**
+     * Deletes the handles that have been idle for longer than the configured idle timeout.
+     *
+     * @return the number of handles deleted
+     */
+    public int trimIdle() {
+        final long now = nanoClock.getAsLong();
+        final List<PooledAccessor> expired = new ArrayList<>();
+
+        lock.lock();
+        try {
+            // Idle accessors are ordered from most to least recently returned
+            PooledAccessor oldest = idleAccessors.peekLast();
+            while (oldest != null && now - oldest.lastReturnedNanos >= idleTimeoutNanos) {
+                expired.add(idleAccessors.pollLast());
+                oldest = idleAccessors.peekLast();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        expired.forEach(this::deleteHandle);
+        trimmedCount.add(expired.size());
+        return expired.size();
+    }
+
+    /**
+     * Gets the current pool statistics.
+     *
+     * @return the statistics
+     */
+    public Stats getStats() {
+        final int idleHandles;
+        lock.lock();
+        try {
+            idleHandles = idleAccessors.size();
+        } finally {
+            lock.unlock();
+        }
+
+        return new Stats(
+                borrowCount.sum(),
+                hitCount.sum(),
+                returnCount.sum(),
+                retiredCount.sum(),
+                trimmedCount.sum(),
+                liveHandles.get(),
+                idleHandles,
+                totalBorrowNanos.sum(),
+                totalReturnNanos.sum());
+    }
+
+    /** Closes the pool and deletes all idle handles. Leased accessors are deleted when they are returned. */
+    @Override
+    public void close() {
+        final List<PooledAccessor> toDelete;
+        lock.lock();
+        try {
+            isClosed = true;
+            toDelete = new ArrayList<>(idleAccessors);
+            idleAccessors.clear();
+        } finally {
+            lock.unlock();
+        }
+
+        toDelete.forEach(this::deleteHandle);
+    }
+
+    @VisibleForTesting
+    void release(final PooledAccessor accessor) {
+        final long start = nanoClock.getAsLong();
+        try {
+            if (accessor.isDisposed()) {
+                // The handle was already deleted by the caller
+                liveHandles.decrementAndGet();
+                return;
+            }
+
+            accessor.closeHandle();
+            if (++accessor.useCount >= maxUsesPerHandle) {
+                retiredCount.increment();
+                deleteHandle(accessor);
+                return;
+            }
+
+            boolean isPooled = false;
+            lock.lock();
+            try {
+                if (!isClosed && idleAccessors.size() < maxIdle) {
+                    accessor.lastReturnedNanos = start;
+                    idleAccessors.addFirst(accessor);
+                    isPooled = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (!isPooled) {
+                deleteHandle(accessor);
+            }
+        } finally {
+            returnCount.increment();
+            totalReturnNanos.add(nanoClock.getAsLong() - start);
+        }
+
+        trimIdle();
+    }
+
+    private void deleteHandle(final PooledAccessor accessor) {
+        try {
+            accessor.dispose();
+        } catch (final RuntimeException ex) {
+            log.warn("Unable to delete the pooled MediaInfo handle", ex);
+        } finally {
+            liveHandles.decrementAndGet();
+        }
+    }
+
+    /** An accessor that is returned to its pool when closed. */
+    @VisibleForTesting
+    static class PooledAccessor extends MediaInfoAccessor {
+        private final MediaInfoHandlePool pool;
+        private final AtomicBoolean isLeased = new AtomicBoolean();
+        private int useCount;
+        private long lastReturnedNanos;
+
+        PooledAccessor(final MediaInfoHandlePool pool) {
+            super(pool.mediaInfoLibrary);
+            this.pool = pool;
+        }
+
+        /** Returns the accessor to the pool. Subsequent invocations are ignored until the accessor is leased again. */
+        @Override
+        public void close() {
+            if (isLeased.compareAndSet(true, false)) {
+                pool.release(this);
+            }
+        }
+
+        boolean isDisposed() {
+            return getMediaInfoLibPointer() == null;
+        }
+    }
+
+    /** Point-in-time statistics about a {@link MediaInfoHandlePool}. */
+    @Value
+    public static class Stats {
+        /** The number of accessors leased from the pool. */
+        long borrowCount;
+        /** The number of leases that reused an idle handle. */
+        long hitCount;
+        /** The number of accessors returned to the pool. */
+        long returnCount;
+        /** The number of handles deleted after reaching the maximum number of uses. */
+        long retiredCount;
+        /** The number of idle handles deleted after exceeding the idle timeout. */
+        long trimmedCount;
+        /** The number of native handles currently allocated by the pool (leased and idle). */
+        int liveHandles;
+        /** The number of idle handles currently retained by the pool. */
+        int idleHandles;
+        /** The cumulative time spent leasing accessors, in nanoseconds. */
+        long totalBorrowNanos;
+        /** The cumulative time spent returning accessors, in nanoseconds. */
+        long totalReturnNanos;
+
+        /**
+         * Gets the ratio of leases that reused an idle handle.
+         *
+         * @return the hit rate between {@code 0.0} and {@code 1.0}
+         */
+        public double getHitRate() {
+            return borrowCount == 0L ? 0.0D : (double) hitCount / borrowCount;
+        }
+
+        /**
+         * Gets the average time spent leasing an accessor.
+         *
+         * @return the average borrow latency in nanoseconds
+         */
+        public double getAverageBorrowNanos() {
+            return borrowCount == 0L ? 0.0D : (double) totalBorrowNanos / borrowCount;
+        }
+
+        /**
+         * Gets the average time spent returning an accessor.
+         *
+         * @return the average return latency in nanoseconds
+         */
+        public double getAverageReturnNanos() {
+            return returnCount == 0L ? 0.0D : (double) totalReturnNanos / returnCount;
+        }
+    }
+}
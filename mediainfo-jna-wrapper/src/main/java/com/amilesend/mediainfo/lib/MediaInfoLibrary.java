@@ -22,14 +22,17 @@
  */
 package com.amilesend.mediainfo.lib;
 
+import com.amilesend.mediainfo.util.StringUtils;
 import com.sun.jna.FunctionMapper;
 import com.sun.jna.Library;
 import com.sun.jna.Native;
 import com.sun.jna.Platform;
 import com.sun.jna.Pointer;
 import com.sun.jna.WString;
+import lombok.NonNull;
 
 import java.util.Collections;
+import java.util.Locale;
 import java.util.Map;
 
 /** Defines the JNA interface to access the native libmediainfo library. */
@@ -50,21 +53,110 @@ public interface MediaInfoLibrary extends Library {
             Map.entry("get", "MediaInfo_Get"),
             Map.entry("getI", "MediaInfo_GetI"),
             Map.entry("countGet", "MediaInfo_Count_Get"),
-            Map.entry("option", "MediaInfo_Option"));
+            Map.entry("option", "MediaInfo_Option"),
+            Map.entry("informAsPointer", "MediaInfo_Inform"),
+            Map.entry("getAsPointer", "MediaInfo_Get"),
+            Map.entry("getIAsPointer", "MediaInfo_GetI"));
+
+    /**
+     * The system property used to select the default {@link Binding} (e.g., {@code -Dmediainfo.binding=direct}).
+     */
+    String BINDING_PROPERTY = "mediainfo.binding";
+
+    /** Defines the available native binding strategies. */
+    enum Binding {
+        /** Interface mapping via a {@code Native.load} proxy. */
+        PROXY,
+        /**
+         * Direct mapping via {@code Native.register}, which avoids the reflection-based proxy dispatch on every call.
+         *
+         * @see DirectMediaInfoLibrary
+         */
+        DIRECT,
+        /**
+         * Direct mapping of the UTF-8 {@code MediaInfoA_*} functions, which transfers strings as UTF-8 instead of
+         * {@code wchar_t}.
+         *
+         * @see Utf8MediaInfoLibrary
+         */
+        UTF8,
+        /**
+         * Java Foreign Function &amp; Memory downcalls, which are available on Java 22+ via the multi-release jar.
+         * Falls back to {@link #PROXY} on older JVMs. This binding is opt-in and is not used by default.
+         */
+        FFM;
+
+        /**
+         * Gets the binding for the given name, ignoring case.
+         *
+         * @param name the binding name
+         * @return the binding, or {@link #PROXY} if the name is blank
+         * @throws IllegalArgumentException if the name is not a valid binding
+         */
+        public static Binding fromName(final String name) {
+            if (StringUtils.isBlank(name)) {
+                return PROXY;
+            }
+
+            return Binding.valueOf(name.strip().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Creates a new {@link MediaInfoLibrary} instance with the binding defined by the {@link #BINDING_PROPERTY}
+     * system property. If not defined, {@link Binding#PROXY} is used.
+     *
+     * @return the media info library instance
+     */
+    static MediaInfoLibrary newInstance() {
+        return newInstance(Binding.fromName(System.getProperty(BINDING_PROPERTY)));
+    }
 
     /**
      * Creates a new {@link MediaInfoLibrary} instance.
      *
+     * @param binding the native binding strategy
      * @return the media info library instance
      */
-     static MediaInfoLibrary newInstance() {
-         final String mediaInfoLibPath = Platform.isWindows() ? MEDIA_INFO_LIB_PATH : MEDIA_INFO_LIB_PATH.toLowerCase();
-         return Native.load(
-                 mediaInfoLibPath,
-                 MediaInfoLibrary.class,
-                 Collections.singletonMap(
-                         OPTION_FUNCTION_MAPPER,
-                         (FunctionMapper) (lib, method) -> METHOD_TO_FUNCTION_NAME_MAP.get(method.getName())));
+    static MediaInfoLibrary newInstance(@NonNull final Binding binding) {
+        if (binding == Binding.DIRECT) {
+            return DirectMediaInfoLibrary.newInstance();
+        }
+
+        if (binding == Binding.UTF8) {
+            return Utf8MediaInfoLibrary.newInstance();
+        }
+
+        if (binding == Binding.FFM && FfmSupport.isAvailable()) {
+            return FfmSupport.newLibrary();
+        }
+
+        return Native.load(
+                getLibraryName(),
+                MediaInfoLibrary.class,
+                Collections.singletonMap(
+                        OPTION_FUNCTION_MAPPER,
+                        (FunctionMapper) (lib, method) -> METHOD_TO_FUNCTION_NAME_MAP.get(method.getName())));
+    }
+
+    /**
+     * Gets the platform-specific name of the native library.
+     *
+     * @return the library name
+     */
+    static String getLibraryName() {
+        return Platform.isWindows() ? MEDIA_INFO_LIB_PATH : MEDIA_INFO_LIB_PATH.toLowerCase();
+    }
+
+    /**
+     * Indicates if native strings that are passed or returned as a {@link Pointer} are UTF-8 encoded instead of
+     * {@code wchar_t} encoded.
+     *
+     * @return {@code true} if native strings are UTF-8 encoded; else, {@code false}
+     * @see Utf8MediaInfoLibrary
+     */
+    default boolean isUtf8() {
+        return false;
     }
 
     /////////
@@ -125,6 +217,18 @@ public interface MediaInfoLibrary extends Library {
      */
     int openBufferContinue(Pointer handle, byte[] buffer, int size);
 
+    /**
+     * Reads from a native memory buffer to parse media information and tags without copying the buffer.
+     *
+     * @param handle the library pointer
+     * @param buffer the native buffer
+     * @param size the amount of data to read
+     * @return the status bitfield
+     * @see #openBufferContinue(Pointer, byte[], int)
+     * @see NativeBufferPool
+     */
+    int openBufferContinue(Pointer handle, Pointer buffer, int size);
+
     /**
      * Tests if there is request to seek to another position in the stream.
      *
@@ -176,6 +280,20 @@ public interface MediaInfoLibrary extends Library {
      */
     WString get(Pointer handle, int streamType, int streamNumber, WString parameter, int infoType, int searchType);
 
+    /**
+     * Gets information about a media file where the parameter is a pre-encoded native string.
+     *
+     * @param handle the library pointer
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param parameter the native string parameter
+     * @param infoType the information type
+     * @param searchType the search type
+     * @return the media parameter information
+     * @see NativeStringCache
+     */
+    WString get(Pointer handle, int streamType, int streamNumber, Pointer parameter, int infoType, int searchType);
+
     /**
      * Gets information about a media file where the parameter is an integer that represents the parameter index.
      *
@@ -188,6 +306,72 @@ public interface MediaInfoLibrary extends Library {
      */
     WString getI(Pointer handle, int streamType, int streamNumber, int parameterIndex, int infoType);
 
+    /**
+     * Gets all media details about a file without converting the result to a Java string.
+     *
+     * @param handle the library pointer
+     * @param reserved reserved value. Should be defined as {@code 0}
+     * @return the pointer to the native string, which is only valid until the next call on the same handle
+     * @see #inform(Pointer, int)
+     */
+    Pointer informAsPointer(Pointer handle, int reserved);
+
+    /**
+     * Gets information about a media file where the parameter is a string without converting the result to a Java
+     * string.
+     *
+     * @param handle the library pointer
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param parameter the parameter
+     * @param infoType the information type
+     * @param searchType the search type
+     * @return the pointer to the native string, which is only valid until the next call on the same handle
+     * @see #get(Pointer, int, int, WString, int, int)
+     */
+    Pointer getAsPointer(
+            Pointer handle,
+            int streamType,
+            int streamNumber,
+            WString parameter,
+            int infoType,
+            int searchType);
+
+    /**
+     * Gets information about a media file where the parameter is an integer that represents the parameter index
+     * without converting the result to a Java string.
+     *
+     * @param handle the library pointer
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param parameterIndex the index position for the parameter
+     * @param infoType the information type
+     * @return the pointer to the native string, which is only valid until the next call on the same handle
+     * @see #getI(Pointer, int, int, int, int)
+     */
+    Pointer getIAsPointer(Pointer handle, int streamType, int streamNumber, int parameterIndex, int infoType);
+
+    /**
+     * Gets information about a media file where the parameter is a pre-encoded native string without
+     * converting the result to a Java string.
+     *
+     * @param handle the library pointer
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param parameter the native string parameter
+     * @param infoType the information type
+     * @param searchType the search type
+     * @return the pointer to the native string, which is only valid until the next call on the same handle
+     * @see NativeStringCache
+     */
+    Pointer getAsPointer(
+            Pointer handle,
+            int streamType,
+            int streamNumber,
+            Pointer parameter,
+            int infoType,
+            int searchType);
+
     /**
      * The count of streams for the given stream type, or count of information parameters for a stream.
      *
@@ -211,4 +395,15 @@ public interface MediaInfoLibrary extends Library {
      * @return {@code ""} means no; else, any other value means yes
      */
     WString option(Pointer handle, WString option, WString value);
+
+    /**
+     * Configure or gets information about MediaInfo where the option and value are pre-encoded native strings.
+     *
+     * @param handle the library pointer
+     * @param option the native string option
+     * @param value the native string value
+     * @return {@code ""} means no; else, any other value means yes
+     * @see NativeStringCache
+     */
+    WString option(Pointer handle, Pointer option, Pointer value);
 }
@@ -0,0 +1,370 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.type.InfoType;
+import com.amilesend.mediainfo.type.StreamType;
+import com.amilesend.mediainfo.util.StringUtils;
+import com.amilesend.mediainfo.util.Validate;
+import com.sun.jna.Pointer;
+import com.sun.jna.WString;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The object used by java applications to analyze many files on a single native handle via the
+ * {@code MediaInfoList_*} functions. A directory (or file) is opened once, and each opened file is queried by its
+ * file index, which avoids the per-file handle allocation and teardown of looping over {@link MediaInfoAccessor}.
+ *
+ * Example usage:
+ *
+ * <pre>
+ * try (MediaInfoListAccessor accessor = new MediaInfoListAccessor(MediaInfoListLibrary.newInstance())) {
+ *     int numFiles = accessor.open("/path/to/videos");
+ *     for (int fileIndex = 0; fileIndex &lt; numFiles; ++fileIndex) {
+ *         String fileName = accessor.get(fileIndex, StreamType.General, 0, "CompleteName");
+ *         String width = accessor.get(fileIndex, StreamType.Video, 0, "Width");
+ *     }
+ * }
+ * </pre>
+ */
+@Slf4j
+public class MediaInfoListAccessor implements AutoCloseable {
+    private static final String STREAM_COUNT_PARAMETER = "StreamCount";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final MediaInfoListLibrary mediaInfoListLibrary;
+    private final NativeStringCache nativeStringCache;
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private Pointer mediaInfoListPointer;
+
+    /**
+     * Creates a new {@code MediaInfoListAccessor}.
+     *
+     * @param mediaInfoListLibrary the library instance
+     * @see MediaInfoListLibrary
+     */
+    public MediaInfoListAccessor(@NonNull final MediaInfoListLibrary mediaInfoListLibrary) {
+        this.mediaInfoListLibrary = mediaInfoListLibrary;
+        this.nativeStringCache = NativeStringCache.getDefault();
+        mediaInfoListPointer = newPointer();
+    }
+
+    /** Closes the library instance. */
+    @Override
+    public void close() {
+        dispose();
+    }
+
+    /** Disposes of the library instance reference. */
+    public void dispose() {
+        if (Objects.isNull(mediaInfoListPointer)) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            mediaInfoListLibrary.close(mediaInfoListPointer, MediaInfoListLibrary.ALL_FILES);
+            mediaInfoListLibrary.deleteHandle(mediaInfoListPointer);
+            mediaInfoListPointer = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Opens a file, or all files within a directory and its sub-directories, to parse. Previously opened files
+     * remain open.
+     *
+     * @param path the full path to the file or directory to open
+     * @return the number of files that were opened
+     */
+    public int open(final String path) {
+        return open(path, MediaInfoListLibrary.FileOption.NOTHING);
+    }
+
+    /**
+     * Opens a file, or all files within a directory, to parse.
+     *
+     * @param path the full path to the file or directory to open
+     * @param fileOption the file option
+     * @return the number of files that were opened
+     */
+    public int open(final String path, @NonNull final MediaInfoListLibrary.FileOption fileOption) {
+        Validate.notBlank(path, "path must not be blank");
+
+        lock.lock();
+        try {
+            if (Objects.isNull(mediaInfoListPointer)) {
+                mediaInfoListPointer = newPointer();
+            }
+
+            return mediaInfoListLibrary.open(mediaInfoListPointer, new WString(path), fileOption.getValue());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes an opened file. Note that the indexes of the other opened files are not changed.
+     *
+     * @param fileIndex the file index
+     */
+    public void closeFile(final int fileIndex) {
+        Validate.isTrue(fileIndex >= 0, "fileIndex must be >= 0");
+        validatePointer("closeFile()");
+
+        lock.lock();
+        try {
+            mediaInfoListLibrary.close(mediaInfoListPointer, fileIndex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of opened files.
+     *
+     * @return the number of opened files
+     */
+    public int getFileCount() {
+        validatePointer("getFileCount()");
+
+        lock.lock();
+        try {
+            return mediaInfoListLibrary.countGetFiles(mediaInfoListPointer);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the parsing progress of the opened files.
+     *
+     * @return the progress from {@code 0} to {@code 10000}
+     */
+    public int getState() {
+        validatePointer("getState()");
+
+        lock.lock();
+        try {
+            return mediaInfoListLibrary.stateGet(mediaInfoListPointer);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets all details about a file.
+     *
+     * @param fileIndex the file index
+     * @return All details about a file in one string
+     */
+    public String inform(final int fileIndex) {
+        Validate.isTrue(fileIndex >= 0, "fileIndex must be >= 0");
+        validatePointer("inform()");
+
+        lock.lock();
+        try {
+            return mediaInfoListLibrary.inform(mediaInfoListPointer, fileIndex, 0).toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get a piece of information about a file (parameter is a string).
+     *
+     * @param fileIndex the file index
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param parameter the parameter you are looking for in the stream (e.g., resolution, codec, bitrate, etc.)
+     * @return a string about information you search, an empty string if there is a problem
+     */
+    public String get(
+            final int fileIndex,
+            final StreamType streamType,
+            final int streamNumber,
+            final String parameter) {
+        return get(fileIndex, streamType, streamNumber, parameter, InfoType.Text, InfoType.Name);
+    }
+
+    /**
+     * Get a piece of information about a file (parameter is a string).
+     *
+     * @param fileIndex the file index
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param parameter the parameter you are looking for in the stream (e.g., resolution, codec, bitrate, etc.)
+     * @param infoType the type of information you want about the parameter (the text, the measure, the help...)
+     * @param searchType where to look for the parameter
+     * @return a string about information you search, an empty string if there is a problem
+     */
+    public String get(
+            final int fileIndex,
+            @NonNull final StreamType streamType,
+            final int streamNumber,
+            final String parameter,
+            @NonNull final InfoType infoType,
+            @NonNull final InfoType searchType) {
+        Validate.isTrue(fileIndex >= 0, "fileIndex must be >= 0");
+        Validate.isTrue(streamNumber >= 0, "streamNumber must be >= 0");
+        Validate.notBlank(parameter, "parameter must not be blank");
+        validatePointer("get()");
+
+        lock.lock();
+        try {
+            return mediaInfoListLibrary.get(
+                    mediaInfoListPointer,
+                    fileIndex,
+                    streamType.ordinal(),
+                    streamNumber,
+                    nativeStringCache.get(parameter),
+                    infoType.ordinal(),
+                    searchType.ordinal()).toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get a piece of information about a file (parameter is an integer that represents the parameter index).
+     *
+     * @param fileIndex the file index
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param parameterIndex the parameter index that you are looking for in the stream
+     * @return a string about information you search, an empty string if there is a problem
+     */
+    public String get(
+            final int fileIndex,
+            final StreamType streamType,
+            final int streamNumber,
+            final int parameterIndex) {
+        return get(fileIndex, streamType, streamNumber, parameterIndex, InfoType.Text);
+    }
+
+    /**
+     * Get a piece of information about a file (parameter is an integer that represents the parameter index).
+     *
+     * @param fileIndex the file index
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param parameterIndex the parameter index that you are looking for in the stream
+     * @param infoType the type of information you want about the parameter (the text, the measure, the help...)
+     * @return the information or an empty string if there is a problem
+     */
+    public String get(
+            final int fileIndex,
+            @NonNull final StreamType streamType,
+            final int streamNumber,
+            final int parameterIndex,
+            @NonNull final InfoType infoType) {
+        Validate.isTrue(fileIndex >= 0, "fileIndex must be >= 0");
+        Validate.isTrue(streamNumber >= 0, "streamNumber must be >= 0");
+        Validate.isTrue(parameterIndex >= 0, "parameterIndex must be >= 0");
+        validatePointer("get()");
+
+        lock.lock();
+        try {
+            return mediaInfoListLibrary.getI(
+                    mediaInfoListPointer,
+                    fileIndex,
+                    streamType.ordinal(),
+                    streamNumber,
+                    parameterIndex,
+                    infoType.ordinal()).toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of streams for the given stream type of a file.
+     *
+     * @param fileIndex the file index
+     * @param streamType the stream type
+     * @return number of streams of the given stream type
+     */
+    public int getStreamCount(final int fileIndex, @NonNull final StreamType streamType) {
+        final String streamCount = get(fileIndex, streamType, 0, STREAM_COUNT_PARAMETER);
+        if (StringUtils.isBlank(streamCount)) {
+            return 0;
+        }
+
+        return Integer.parseInt(streamCount);
+    }
+
+    /**
+     * Gets information about MediaInfo.
+     *
+     * @param option The name of option
+     * @return the option value
+     */
+    public String getOption(final String option) {
+        return setOption(option, StringUtils.EMPTY);
+    }
+
+    /**
+     * Configures information about MediaInfo for all files opened by this accessor.
+     *
+     * @param option The name of option
+     * @param value The value of option
+     * @return {@code ""} means no; else, any other value means yes
+     */
+    public String setOption(final String option, @NonNull final String value) {
+        Validate.notBlank(option, "option must not be blank");
+
+        lock.lock();
+        try {
+            return mediaInfoListLibrary.option(
+                    mediaInfoListPointer,
+                    nativeStringCache.get(option),
+                    nativeStringCache.get(value)).toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void validatePointer(final String methodName) {
+        if (Objects.isNull(mediaInfoListPointer)) {
+            throw new IllegalStateException("MediaInfoList Pointer is null. This happens when close()/dispose() has " +
+                    "been invoked prior to invoking " + methodName);
+        }
+    }
+
+    private Pointer newPointer() {
+        try {
+            return mediaInfoListLibrary.newHandle();
+        } catch (final LinkageError error) {
+            throw new MediaInfoException(error);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.sun.jna.FunctionMapper;
+import com.sun.jna.Library;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import com.sun.jna.WString;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Defines the JNA interface to access the {@code MediaInfoList_*} functions of the native libmediainfo library, which
+ * open many files (or a directory) on a single handle and query them by file index.
+ *
+ * @see MediaInfoListAccessor
+ */
+public interface MediaInfoListLibrary extends Library {
+    /** The file position that applies an operation to all opened files. */
+    int ALL_FILES = -1;
+
+    /** Defines the java methods to library method mapping. */
+    Map<String, String> METHOD_TO_FUNCTION_NAME_MAP = Map.ofEntries(
+            Map.entry("newHandle", "MediaInfoList_New"),
+            Map.entry("deleteHandle", "MediaInfoList_Delete"),
+            Map.entry("open", "MediaInfoList_Open"),
+            Map.entry("close", "MediaInfoList_Close"),
+            Map.entry("inform", "MediaInfoList_Inform"),
+            Map.entry("get", "MediaInfoList_Get"),
+            Map.entry("getI", "MediaInfoList_GetI"),
+            Map.entry("countGet", "MediaInfoList_Count_Get"),
+            Map.entry("countGetFiles", "MediaInfoList_Count_Get_Files"),
+            Map.entry("stateGet", "MediaInfoList_State_Get"),
+            Map.entry("option", "MediaInfoList_Option"));
+
+    /** Defines the options used when opening files. */
+    enum FileOption {
+        /** Scans directories recursively. */
+        NOTHING(0),
+        /** Does not scan sub-directories. */
+        NO_RECURSIVE(1),
+        /** Closes all previously opened files before opening. */
+        CLOSE_ALL(2);
+
+        private final int value;
+
+        FileOption(final int value) {
+            this.value = value;
+        }
+
+        /**
+         * Gets the native option value.
+         *
+         * @return the value
+         */
+        public int getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * Creates a new {@link MediaInfoListLibrary} instance.
+     *
+     * @return the media info list library instance
+     */
+    static MediaInfoListLibrary newInstance() {
+        return Native.load(
+                MediaInfoLibrary.getLibraryName(),
+                MediaInfoListLibrary.class,
+                Collections.singletonMap(
+                        OPTION_FUNCTION_MAPPER,
+                        (FunctionMapper) (lib, method) -> METHOD_TO_FUNCTION_NAME_MAP.get(method.getName())));
+    }
+
+    /////////
+    // ctor
+    /////////
+
+    /**
+     * Creates a new pointer reference to a libMediaInfo file list.
+     *
+     * @return the pointer reference
+     */
+    Pointer newHandle();
+
+    /**
+     * Deallocates a pointer reference to a libMediaInfo file list.
+     *
+     * @param handle the pointer reference
+     */
+    void deleteHandle(Pointer handle);
+
+    ////////////////
+    // File Access
+    ////////////////
+
+    /**
+     * Opens a file, or all files within a directory, for parsing media information and tags.
+     *
+     * @param handle the library pointer
+     * @param file the full path to the file or directory to open
+     * @param options the {@link FileOption} value
+     * @return the number of files that were opened
+     */
+    int open(Pointer handle, WString file, int options);
+
+    /**
+     * Closes an opened file.
+     *
+     * @param handle the library pointer
+     * @param filePosition the file index, or {@link #ALL_FILES}
+     */
+    void close(Pointer handle, int filePosition);
+
+    //////////////////////
+    // Media Information
+    //////////////////////
+
+    /**
+     * Gets all media details about a file.
+     *
+     * @param handle the library pointer
+     * @param filePosition the file index
+     * @param reserved reserved value. Should be defined as {@code 0}
+     * @return the media information
+     */
+    WString inform(Pointer handle, int filePosition, int reserved);
+
+    /**
+     * Gets information about a file where the parameter is a pre-encoded native string.
+     *
+     * @param handle the library pointer
+     * @param filePosition the file index
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param parameter the native string parameter
+     * @param infoType the information type
+     * @param searchType the search type
+     * @return the media parameter information
+     * @see NativeStringCache
+     */
+    WString get(
+            Pointer handle,
+            int filePosition,
+            int streamType,
+            int streamNumber,
+            Pointer parameter,
+            int infoType,
+            int searchType);
+
+    /**
+     * Gets information about a file where the parameter is an integer that represents the parameter index.
+     *
+     * @param handle the library pointer
+     * @param filePosition the file index
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param parameterIndex the index position for the parameter
+     * @param infoType the information type
+     * @return the media parameter information
+     */
+    WString getI(Pointer handle, int filePosition, int streamType, int streamNumber, int parameterIndex, int infoType);
+
+    /**
+     * The count of streams for the given stream type, or count of information parameters for a stream.
+     *
+     * @param handle the library pointer
+     * @param filePosition the file index
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @return the count of streams or parameters
+     */
+    int countGet(Pointer handle, int filePosition, int streamType, int streamNumber);
+
+    /**
+     * Gets the number of opened files.
+     *
+     * @param handle the library pointer
+     * @return the number of opened files
+     */
+    int countGetFiles(Pointer handle);
+
+    /**
+     * Gets the parsing progress of the opened files.
+     *
+     * @param handle the library pointer
+     * @return the progress from {@code 0} to {@code 10000}
+     */
+    int stateGet(Pointer handle);
+
+    ////////////
+    // Options
+    ////////////
+
+    /**
+     * Configure or gets information about MediaInfo where the option and value are pre-encoded native strings.
+     *
+     * @param handle the library pointer
+     * @param option the native string option
+     * @param value the native string value
+     * @return {@code ""} means no; else, any other value means yes
+     */
+    WString option(Pointer handle, Pointer option, Pointer value);
+}
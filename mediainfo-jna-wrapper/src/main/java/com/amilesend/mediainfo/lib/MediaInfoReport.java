@@ -0,0 +1,242 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.type.StreamType;
+import com.amilesend.mediainfo.util.JsonReader;
+import com.amilesend.mediainfo.util.StringUtils;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The typed representation of the MediaInfo JSON report for a file. The report is produced with a single
+ * {@code MediaInfo_Inform} native call via {@link MediaInfoAccessor#report()} and parsed without building an
+ * intermediate JSON tree. Values use MediaInfo's JSON units, so {@code Duration} is in seconds rather than the
+ * milliseconds returned by {@link MediaInfoAccessor#get(StreamType, int, String)}.
+ *
+ * Example usage:
+ *
+ * <pre>
+ * try (MediaInfo myVideo = new MediaInfo(accessor).open(new File("./MyVideo.mkv"))) {
+ *     MediaInfoReport report = myVideo.report();
+ *     String width = report.get(StreamType.Video, 0, "Width");
+ *     String duration = report.get(StreamType.General, 0, "Duration");
+ * }
+ * </pre>
+ */
+@Value
+public class MediaInfoReport {
+    private static final String CREATING_LIBRARY_FIELD = "creatingLibrary";
+    private static final String EXTRA_FIELD = "extra";
+    private static final String MEDIA_FIELD = "media";
+    private static final String REF_FIELD = "@ref";
+    private static final String TRACK_FIELD = "track";
+    private static final String TYPE_FIELD = "@type";
+    private static final String TYPE_ORDER_FIELD = "@typeorder";
+    private static final String VERSION_FIELD = "version";
+
+    /** The version of the MediaInfoLib that created the report. */
+    String creatingLibraryVersion;
+    /** The file reference (i.e., the path of the analyzed file). */
+    String ref;
+    /** The tracks in report order. */
+    List<Track> tracks;
+
+    /**
+     * Parses a MediaInfo JSON report.
+     *
+     * @param json the JSON report output
+     * @return the parsed report
+     * @throws IllegalArgumentException if the report is malformed
+     */
+    public static MediaInfoReport parse(@NonNull final String json) {
+        final JsonReader reader = new JsonReader(json);
+        String version = StringUtils.EMPTY;
+        String ref = StringUtils.EMPTY;
+        final List<Track> tracks = new ArrayList<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (CREATING_LIBRARY_FIELD.equals(name)) {
+                version = readStringFields(reader).getOrDefault(VERSION_FIELD, StringUtils.EMPTY);
+            } else if (MEDIA_FIELD.equals(name)) {
+                ref = readMedia(reader, tracks);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new MediaInfoReport(version, ref, Collections.unmodifiableList(tracks));
+    }
+
+    /**
+     * Gets the number of tracks for the given stream type.
+     *
+     * @param streamType the stream type
+     * @return number of tracks of the given stream type
+     */
+    public int getStreamCount(@NonNull final StreamType streamType) {
+        return (int) tracks.stream().filter(t -> t.getType() == streamType).count();
+    }
+
+    /**
+     * Gets the tracks for the given stream type in report order.
+     *
+     * @param streamType the stream type
+     * @return the tracks
+     */
+    public List<Track> getTracks(@NonNull final StreamType streamType) {
+        return tracks.stream()
+                .filter(t -> t.getType() == streamType)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Gets a field value for a track.
+     *
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param field the field name (e.g., Width, Duration, Format, etc.)
+     * @return the field value, or empty if not found
+     */
+    public String get(@NonNull final StreamType streamType, final int streamNumber, @NonNull final String field) {
+        final List<Track> typeTracks = getTracks(streamType);
+        if (streamNumber < 0 || streamNumber >= typeTracks.size()) {
+            return StringUtils.EMPTY;
+        }
+
+        return typeTracks.get(streamNumber).get(field);
+    }
+
+    private static String readMedia(final JsonReader reader, final List<Track> tracks) {
+        String ref = StringUtils.EMPTY;
+        if (reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+            // The media member is null when the file could not be analyzed
+            reader.skipValue();
+            return ref;
+        }
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (REF_FIELD.equals(name)) {
+                ref = reader.nextString();
+            } else if (TRACK_FIELD.equals(name)) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    tracks.add(readTrack(reader));
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return ref;
+    }
+
+    private static Track readTrack(final JsonReader reader) {
+        StreamType type = StreamType.Other;
+        int typeOrder = 1;
+        final Map<String, String> fields = new LinkedHashMap<>();
+        Map<String, String> extra = Collections.emptyMap();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (TYPE_FIELD.equals(name)) {
+                type = toStreamType(reader.nextString());
+            } else if (TYPE_ORDER_FIELD.equals(name)) {
+                typeOrder = Integer.parseInt(reader.nextString());
+            } else if (EXTRA_FIELD.equals(name)) {
+                extra = readStringFields(reader);
+            } else if (reader.peek() == JsonReader.Token.STRING) {
+                fields.put(name, reader.nextString());
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Track(type, typeOrder, Collections.unmodifiableMap(fields), Collections.unmodifiableMap(extra));
+    }
+
+    private static Map<String, String> readStringFields(final JsonReader reader) {
+        final Map<String, String> fields = new LinkedHashMap<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (reader.peek() == JsonReader.Token.STRING) {
+                fields.put(name, reader.nextString());
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return fields;
+    }
+
+    private static StreamType toStreamType(final String type) {
+        for (final StreamType streamType : StreamType.values()) {
+            if (streamType.name().equals(type)) {
+                return streamType;
+            }
+        }
+
+        return StreamType.Other;
+    }
+
+    /** A single track (stream) in the report. */
+    @Value
+    public static class Track {
+        /** The stream type. */
+        StreamType type;
+        /** The 1-based order of this track among the tracks of the same type. */
+        int typeOrder;
+        /** The track fields in report order. */
+        Map<String, String> fields;
+        /** The format-specific fields that MediaInfo reports in the {@code extra} object. */
+        Map<String, String> extra;
+
+        /**
+         * Gets a field value.
+         *
+         * @param field the field name
+         * @return the field value, or empty if not found
+         */
+        public String get(@NonNull final String field) {
+            return fields.getOrDefault(field, StringUtils.EMPTY);
+        }
+    }
+}
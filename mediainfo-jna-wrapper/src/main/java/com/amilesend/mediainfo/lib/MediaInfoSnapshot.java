@@ -0,0 +1,177 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.type.StreamType;
+import com.amilesend.mediainfo.util.StringUtils;
+import lombok.NonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable copy of all media information parameters for an opened file. A snapshot is extracted with a single
+ * lock acquisition via {@link MediaInfoAccessor#snapshot()}; afterwards, the native handle can be closed and the
+ * snapshot can be read concurrently from many threads without any native calls.
+ */
+public final class MediaInfoSnapshot {
+    private final Map<StreamType, List<StreamInfo>> streams;
+
+    MediaInfoSnapshot(@NonNull final Map<StreamType, List<StreamInfo>> streams) {
+        final Map<StreamType, List<StreamInfo>> copy = new EnumMap<>(StreamType.class);
+        streams.forEach((type, infos) -> copy.put(type, List.copyOf(infos)));
+        this.streams = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Gets the number of streams for the given stream type.
+     *
+     * @param streamType the stream type
+     * @return number of streams of the given stream type
+     */
+    public int getStreamCount(@NonNull final StreamType streamType) {
+        return streams.getOrDefault(streamType, List.of()).size();
+    }
+
+    /**
+     * Gets the number of information parameters for a stream.
+     *
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @return the number of parameters, or {@code 0} if the stream does not exist
+     */
+    public int getParameterCount(final StreamType streamType, final int streamNumber) {
+        final StreamInfo stream = getStream(streamType, streamNumber);
+        return stream == null ? 0 : stream.values.length;
+    }
+
+    /**
+     * Get a piece of information about a file (parameter is a string).
+     *
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param parameter the parameter name (e.g., Width, Duration, Format, etc.)
+     * @return the query result, or empty if not found
+     */
+    public String get(final StreamType streamType, final int streamNumber, @NonNull final String parameter) {
+        final StreamInfo stream = getStream(streamType, streamNumber);
+        if (stream == null) {
+            return StringUtils.EMPTY;
+        }
+
+        final Integer index = stream.indexByName.get(parameter);
+        return index == null ? StringUtils.EMPTY : stream.values[index];
+    }
+
+    /**
+     * Get a piece of information about a file (parameter is an integer that represents the parameter index).
+     *
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param parameterIndex the parameter index
+     * @return the query result, or empty if not found
+     */
+    public String get(final StreamType streamType, final int streamNumber, final int parameterIndex) {
+        final StreamInfo stream = getStream(streamType, streamNumber);
+        if (stream == null || parameterIndex < 0 || parameterIndex >= stream.values.length) {
+            return StringUtils.EMPTY;
+        }
+
+        return stream.values[parameterIndex];
+    }
+
+    /**
+     * Gets the name of the parameter at the given index.
+     *
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @param parameterIndex the parameter index
+     * @return the parameter name, or empty if not found
+     */
+    public String getParameterName(final StreamType streamType, final int streamNumber, final int parameterIndex) {
+        final StreamInfo stream = getStream(streamType, streamNumber);
+        if (stream == null || parameterIndex < 0 || parameterIndex >= stream.names.length) {
+            return StringUtils.EMPTY;
+        }
+
+        return stream.names[parameterIndex];
+    }
+
+    /**
+     * Gets all non-empty parameters for a stream in parameter index order.
+     *
+     * @param streamType the stream type
+     * @param streamNumber the stream number
+     * @return the parameter names and values, or an empty map if the stream does not exist
+     */
+    public Map<String, String> getParameters(final StreamType streamType, final int streamNumber) {
+        final StreamInfo stream = getStream(streamType, streamNumber);
+        if (stream == null) {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, String> parameters = new LinkedHashMap<>();
+        for (int i = 0; i < stream.names.length; ++i) {
+            if (StringUtils.isNotBlank(stream.values[i])) {
+                parameters.putIfAbsent(stream.names[i], stream.values[i]);
+            }
+        }
+
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    private StreamInfo getStream(@NonNull final StreamType streamType, final int streamNumber) {
+        final List<StreamInfo> typeStreams = streams.get(streamType);
+        if (typeStreams == null || streamNumber < 0 || streamNumber >= typeStreams.size()) {
+            return null;
+        }
+
+        return typeStreams.get(streamNumber);
+    }
+
+    /** The parameter names and values for a single stream. */
+    static final class StreamInfo {
+        private final String[] names;
+        private final String[] values;
+        private final Map<String, Integer> indexByName;
+
+        StreamInfo(@NonNull final String[] names, @NonNull final String[] values) {
+            if (names.length != values.length) {
+                throw new IllegalArgumentException("names and values must be the same length");
+            }
+
+            this.names = names.clone();
+            this.values = values.clone();
+            final Map<String, Integer> indexes = new HashMap<>(names.length * 2);
+            for (int i = 0; i < names.length; ++i) {
+                // Name lookups resolve to the first matching parameter, consistent with MediaInfo_Get
+                indexes.putIfAbsent(names[i], i);
+            }
+            this.indexByName = Collections.unmodifiableMap(indexes);
+        }
+    }
+}
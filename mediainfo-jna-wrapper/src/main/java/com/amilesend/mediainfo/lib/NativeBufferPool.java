@@ -0,0 +1,247 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.util.Validate;
+import com.sun.jna.Memory;
+import lombok.Getter;
+import lombok.Value;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A pool of long-lived native {@link Memory} buffers that are leased per buffered open. File bytes are read straight
+ * into native memory (via {@link Lease#getByteBuffer()}) and passed to
+ * {@link MediaInfoAccessor#openBufferContinue(com.sun.jna.Pointer, int)} without a Java heap copy, and buffers are
+ * reused across opens instead of being allocated for every file.
+ *
+ * Example usage:
+ *
+ * <pre>
+ * try (NativeBufferPool.Lease lease = NativeBufferPool.getDefault().lease()) {
+ *     int read = channel.read(lease.getByteBuffer());
+ *     accessor.openBufferContinue(lease.getMemory(), read);
+ * } // The buffer is returned to the pool
+ * </pre>
+ */
+public class NativeBufferPool implements AutoCloseable {
+    /** The default buffer size (4 MB), which reduces the number of native calls per file. */
+    public static final int DEFAULT_BUFFER_SIZE = 4194304;
+    /** The default maximum number of idle buffers retained by the pool. */
+    public static final int DEFAULT_MAX_IDLE = Runtime.getRuntime().availableProcessors();
+
+    private static final NativeBufferPool DEFAULT_INSTANCE = new NativeBufferPool(DEFAULT_BUFFER_SIZE, DEFAULT_MAX_IDLE);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Memory> idleBuffers = new ArrayDeque<>();
+    private final AtomicInteger liveBuffers = new AtomicInteger();
+    private final LongAdder leaseCount = new LongAdder();
+    private final LongAdder hitCount = new LongAdder();
+    /** The size of each buffer in bytes. */
+    @Getter
+    private final int bufferSize;
+    private final int maxIdle;
+    private boolean isClosed;
+
+    /**
+     * Creates a new {@code NativeBufferPool}.
+     *
+     * @param bufferSize the size of each buffer in bytes
+     * @param maxIdle the maximum number of idle buffers to retain
+     */
+    public NativeBufferPool(final int bufferSize, final int maxIdle) {
+        Validate.isTrue(bufferSize > 0, "bufferSize must be > 0");
+        Validate.isTrue(maxIdle >= 0, "maxIdle must be >= 0");
+
+        this.bufferSize = bufferSize;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Gets the process-wide pool of {@link #DEFAULT_BUFFER_SIZE} buffers that is used by default.
+     *
+     * @return the shared pool
+     */
+    public static NativeBufferPool getDefault() {
+        return DEFAULT_INSTANCE;
+    }
+
+    /**
+     * Leases a buffer from the pool, allocating a new buffer if no idle buffer is available. The lease must be
+     * closed to return the buffer to the pool.
+     *
+     * @return the lease
+     * @throws IllegalStateException if the pool is closed
+     */
+    public Lease lease() {
+        Memory memory;
+        lock.lock();
+        try {
+            if (isClosed) {
+                throw new IllegalStateException("The buffer pool is closed");
+            }
+
+            memory = idleBuffers.pollFirst();
+        } finally {
+            lock.unlock();
+        }
+
+        if (memory == null) {
+            memory = new Memory(bufferSize);
+            liveBuffers.incrementAndGet();
+        } else {
+            hitCount.increment();
+        }
+
+        leaseCount.increment();
+        return new Lease(this, memory);
+    }
+
+    /**
+     * Gets the current pool statistics.
+     *
+     * @return the statistics
+     */
+    public Stats getStats() {
+        final int idle;
+        lock.lock();
+        try {
+            idle = idleBuffers.size();
+        } finally {
+            lock.unlock();
+        }
+
+        final int live = liveBuffers.get();
+        return new Stats(leaseCount.sum(), hitCount.sum(), live, idle, (long) live * bufferSize);
+    }
+
+    /** Closes the pool and frees all idle buffers. Leased buffers are freed when they are returned. */
+    @Override
+    public void close() {
+        final List<Memory> toFree;
+        lock.lock();
+        try {
+            isClosed = true;
+            toFree = new ArrayList<>(idleBuffers);
+            idleBuffers.clear();
+        } finally {
+            lock.unlock();
+        }
+
+        toFree.forEach(this::free);
+    }
+
+    private void release(final Memory memory) {
+        lock.lock();
+        try {
+            if (!isClosed && idleBuffers.size() < maxIdle) {
+                idleBuffers.addFirst(memory);
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        free(memory);
+    }
+
+    private void free(final Memory memory) {
+        memory.close();
+        liveBuffers.decrementAndGet();
+    }
+
+    /** A leased native buffer that is returned to its pool when closed. */
+    public static class Lease implements AutoCloseable {
+        private final NativeBufferPool pool;
+        private final AtomicBoolean isLeased = new AtomicBoolean(true);
+        /** The native buffer. */
+        @Getter
+        private final Memory memory;
+        private ByteBuffer byteBuffer;
+
+        private Lease(final NativeBufferPool pool, final Memory memory) {
+            this.pool = pool;
+            this.memory = memory;
+        }
+
+        /**
+         * Gets the size of the buffer in bytes.
+         *
+         * @return the buffer size
+         */
+        public int getSize() {
+            return (int) memory.size();
+        }
+
+        /**
+         * Gets a direct {@link ByteBuffer} view of the native buffer, which is cleared for each invocation so that
+         * it can be filled from a channel.
+         *
+         * @return the cleared byte buffer
+         * @throws IllegalStateException if the lease is closed
+         */
+        public ByteBuffer getByteBuffer() {
+            if (!isLeased.get()) {
+                throw new IllegalStateException("The buffer lease is closed");
+            }
+
+            if (byteBuffer == null) {
+                byteBuffer = memory.getByteBuffer(0L, memory.size());
+            }
+
+            byteBuffer.clear();
+            return byteBuffer;
+        }
+
+        /** Returns the buffer to the pool. Subsequent invocations are ignored. */
+        @Override
+        public void close() {
+            if (isLeased.compareAndSet(true, false)) {
+                pool.release(memory);
+            }
+        }
+    }
+
+    /** Point-in-time statistics about a {@link NativeBufferPool}. */
+    @Value
+    public static class Stats {
+        /** The number of buffers leased from the pool. */
+        long leaseCount;
+        /** The number of leases that reused an idle buffer. */
+        long hitCount;
+        /** The number of native buffers currently allocated by the pool (leased and idle). */
+        int liveBuffers;
+        /** The number of idle buffers currently retained by the pool. */
+        int idleBuffers;
+        /** The native memory currently allocated by the pool in bytes. */
+        long nativeBytes;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.util.StringUtils;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import lombok.NonNull;
+
+/**
+ * A {@link CharSequence} view of a native {@code wchar_t} string that decodes lazily. The length is computed on first
+ * use, and chars are read directly from native memory when every character is in the Basic Multilingual Plane;
+ * otherwise, the string is decoded once on first access. UTF-8 strings (see {@link MediaInfoLibrary#isUtf8()}) are
+ * decoded once on first access.
+ *
+ * The native string is owned by the library and is only valid until the next call on the same handle, so a view must
+ * not be accessed after another call is made with the accessor that created it. Call {@link #toString()} to retain
+ * the value.
+ */
+public final class NativeCharSequence implements CharSequence {
+    private final Pointer value;
+    private final boolean isUtf8;
+    private int length = -1;
+    private String decoded;
+
+    /**
+     * Creates a new {@code NativeCharSequence}.
+     *
+     * @param value the native wide string, or {@code null} for an empty sequence
+     */
+    NativeCharSequence(final Pointer value) {
+        this(value, false);
+    }
+
+    /**
+     * Creates a new {@code NativeCharSequence}.
+     *
+     * @param value the native string, or {@code null} for an empty sequence
+     * @param isUtf8 if {@code true}, the native string is UTF-8 encoded; else, {@code wchar_t} encoded
+     */
+    NativeCharSequence(final Pointer value, final boolean isUtf8) {
+        this.value = value;
+        this.isUtf8 = isUtf8;
+    }
+
+    @Override
+    public int length() {
+        if (length < 0) {
+            length = computeLength();
+        }
+
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length()) {
+            throw new IndexOutOfBoundsException("index: " + index + ", length: " + length());
+        }
+
+        return decoded != null
+                ? decoded.charAt(index)
+                : (char) WideStrings.getCodeUnit(value, (long) index * Native.WCHAR_SIZE);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        final int numChars = length();
+        return decoded != null ? decoded : decode(numChars);
+    }
+
+    /**
+     * Determines if this sequence has the same chars as the given sequence without decoding.
+     *
+     * @param other the other sequence
+     * @return {@code true} if the sequences have the same chars; else, {@code false}
+     */
+    public boolean contentEquals(@NonNull final CharSequence other) {
+        if (length() != other.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < other.length(); ++i) {
+            if (charAt(i) != other.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int computeLength() {
+        if (value == null) {
+            decoded = StringUtils.EMPTY;
+            return 0;
+        }
+
+        if (isUtf8) {
+            decoded = decode(0);
+            return decoded.length();
+        }
+
+        int numCodeUnits = 0;
+        for (long offset = 0L; ; offset += Native.WCHAR_SIZE) {
+            final int codeUnit = WideStrings.getCodeUnit(value, offset);
+            if (codeUnit == 0) {
+                return numCodeUnits;
+            }
+
+            if (Native.WCHAR_SIZE != 2 && Character.isSupplementaryCodePoint(codeUnit)) {
+                // Chars no longer map 1:1 to native code units, so decode once
+                decoded = decode(numCodeUnits * 2);
+                return decoded.length();
+            }
+            ++numCodeUnits;
+        }
+    }
+
+    private String decode(final int capacity) {
+        final StringBuilder builder = new StringBuilder(capacity);
+        if (isUtf8) {
+            WideStrings.appendUtf8(value, builder);
+        } else {
+            WideStrings.append(value, builder);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.util.Validate;
+import com.sun.jna.Memory;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread-safe cache of strings that are pre-encoded as native {@code wchar_t} (or UTF-8) strings in
+ * off-heap {@link Memory}. Parameter and option names (e.g., {@code StreamCount}, {@code Duration}, {@code Width}) are
+ * encoded once and reused across calls and handles instead of being converted from a new {@code WString} on every
+ * call.
+ *
+ * Values that vary per call (e.g., option values and output templates) should be encoded via
+ * {@link #encodeUncached(String)} so that they do not fill the cache. Once the cache is full, new strings are still
+ * encoded but are not retained. Cached memory is released when it is
+ * no longer referenced (i.e., after {@link #clear()} and any in-flight calls complete).
+ */
+public final class NativeStringCache {
+    /** The default maximum number of cached strings. */
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    private static final NativeStringCache DEFAULT_INSTANCE = new NativeStringCache(DEFAULT_MAX_ENTRIES);
+    private static final NativeStringCache DEFAULT_UTF8_INSTANCE = new NativeStringCache(DEFAULT_MAX_ENTRIES, true);
+
+    private final ConcurrentMap<String, Memory> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger numEntries = new AtomicInteger();
+    private final AtomicLong nativeBytes = new AtomicLong();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    /** The maximum number of cached strings. */
+    @Getter
+    private final int maxEntries;
+    /** Indicates if strings are encoded as UTF-8 instead of {@code wchar_t}. */
+    @Getter
+    private final boolean isUtf8;
+
+    /**
+     * Creates a new {@code NativeStringCache} for {@code wchar_t} strings.
+     *
+     * @param maxEntries the maximum number of cached strings
+     */
+    public NativeStringCache(final int maxEntries) {
+        this(maxEntries, false);
+    }
+
+    /**
+     * Creates a new {@code NativeStringCache}.
+     *
+     * @param maxEntries the maximum number of cached strings
+     * @param isUtf8 if {@code true}, strings are encoded as UTF-8 (see {@link MediaInfoLibrary#isUtf8()}); else,
+     *               {@code wchar_t}
+     */
+    public NativeStringCache(final int maxEntries, final boolean isUtf8) {
+        Validate.isTrue(maxEntries >= 0, "maxEntries must be >= 0");
+        this.maxEntries = maxEntries;
+        this.isUtf8 = isUtf8;
+    }
+
+    /**
+     * Gets the process-wide {@code wchar_t} cache that is shared by all accessors by default.
+     *
+     * @return the shared cache
+     */
+    public static NativeStringCache getDefault() {
+        return DEFAULT_INSTANCE;
+    }
+
+    /**
+     * Gets the process-wide cache for the given encoding that is shared by all accessors by default.
+     *
+     * @param isUtf8 if {@code true}, the UTF-8 cache is returned; else, the {@code wchar_t} cache
+     * @return the shared cache
+     */
+    public static NativeStringCache getDefault(final boolean isUtf8) {
+        return isUtf8 ? DEFAULT_UTF8_INSTANCE : DEFAULT_INSTANCE;
+    }
+
+    /**
+     * Gets the native wide string for the given value, encoding and caching it if needed.
+     *
+     * @param value the value
+     * @return the native wide string
+     */
+    public Pointer get(@NonNull final String value) {
+        final Memory cached = entries.get(value);
+        if (cached != null) {
+            hitCount.increment();
+            return cached;
+        }
+
+        missCount.increment();
+        final Memory encoded = encode(value);
+        if (numEntries.incrementAndGet() > maxEntries) {
+            numEntries.decrementAndGet();
+            rejectedCount.increment();
+            return encoded;
+        }
+
+        final Memory existing = entries.putIfAbsent(value, encoded);
+        if (existing != null) {
+            // Another thread cached the same value first
+            numEntries.decrementAndGet();
+            return existing;
+        }
+
+        nativeBytes.addAndGet(encoded.size());
+        return encoded;
+    }
+
+    /**
+     * Encodes the given value as a native string without caching it.
+     *
+     * @param value the value
+     * @return the native string, which is released once no longer referenced
+     */
+    Pointer encodeUncached(@NonNull final String value) {
+        return encode(value);
+    }
+
+    /** Removes all cached strings. */
+    public void clear() {
+        entries.keySet().forEach(key -> {
+            final Memory removed = entries.remove(key);
+            if (removed != null) {
+                numEntries.decrementAndGet();
+                nativeBytes.addAndGet(-removed.size());
+            }
+        });
+    }
+
+    /**
+     * Gets a point-in-time snapshot of the cache statistics.
+     *
+     * @return the statistics
+     */
+    public Stats getStats() {
+        return new Stats(
+                hitCount.sum(),
+                missCount.sum(),
+                rejectedCount.sum(),
+                entries.size(),
+                nativeBytes.get());
+    }
+
+    private Memory encode(final String value) {
+        if (isUtf8) {
+            final byte[] bytes = Native.toByteArray(value, StandardCharsets.UTF_8);
+            final Memory memory = new Memory(bytes.length);
+            memory.write(0L, bytes, 0, bytes.length);
+            return memory;
+        }
+
+        final Memory memory = new Memory((long) (value.length() + 1) * Native.WCHAR_SIZE);
+        memory.setWideString(0L, value);
+        return memory;
+    }
+
+    /** The cache statistics. */
+    @Value
+    public static class Stats {
+        /** The number of lookups that returned a cached string. */
+        long hitCount;
+        /** The number of lookups that encoded a new string. */
+        long missCount;
+        /** The number of encoded strings that were not cached because the cache was full. */
+        long rejectedCount;
+        /** The number of cached strings. */
+        int size;
+        /** The total native memory used by cached strings in bytes. */
+        long nativeBytes;
+
+        /**
+         * Gets the ratio of lookups that returned a cached string.
+         *
+         * @return the hit rate, or {@code 0} if there were no lookups
+         */
+        public double getHitRate() {
+            final long lookups = hitCount + missCount;
+            return lookups == 0L ? 0.0D : (double) hitCount / lookups;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.type.StreamType;
+import com.amilesend.mediainfo.util.StringUtils;
+import com.amilesend.mediainfo.util.VisibleForTesting;
+import lombok.NonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Resolves parameter names to their parameter index so that name-based queries can be issued via
+ * {@code MediaInfo_GetI}, which skips the name lookup that {@code MediaInfo_Get} performs on every call.
+ *
+ * The name to index mapping is built from the {@code Info_Parameters} option output, which lists the static
+ * parameters of each stream type in index order. Static parameter indexes only change between library versions, so
+ * resolvers are cached process-wide per library version. Parameters that are not static (e.g., format-specific
+ * tags) are not resolved and must be queried by name.
+ */
+public final class ParameterIndexResolver {
+    /** The result of {@link #indexOf(StreamType, String)} for unresolved parameters. */
+    public static final int UNRESOLVED = -1;
+
+    private static final ConcurrentMap<String, ParameterIndexResolver> CACHE = new ConcurrentHashMap<>();
+
+    private final Map<StreamType, Map<String, Integer>> indexesByType;
+
+    private ParameterIndexResolver(final Map<StreamType, Map<String, Integer>> indexesByType) {
+        this.indexesByType = indexesByType;
+    }
+
+    /**
+     * Gets the cached resolver for the given library version, or creates one from the {@code Info_Parameters}
+     * option output.
+     *
+     * @param libraryVersion the library version (i.e., the {@code Info_Version} option value)
+     * @param infoParameters supplies the {@code Info_Parameters} option output if the resolver is not cached
+     * @return the resolver
+     */
+    public static ParameterIndexResolver forVersion(
+            @NonNull final String libraryVersion,
+            @NonNull final Supplier<String> infoParameters) {
+        return CACHE.computeIfAbsent(libraryVersion, v -> parse(infoParameters.get()));
+    }
+
+    /**
+     * Creates a resolver from the {@code Info_Parameters} option output. The output is formatted as a section per
+     * stream type that starts with the stream type name, followed by one {@code Name : Description} line per
+     * parameter in index order.
+     *
+     * @param infoParameters the {@code Info_Parameters} option output
+     * @return the resolver
+     */
+    @VisibleForTesting
+    static ParameterIndexResolver parse(@NonNull final String infoParameters) {
+        final Map<StreamType, Map<String, Integer>> indexesByType = new EnumMap<>(StreamType.class);
+        Map<String, Integer> indexes = null;
+        int index = 0;
+        for (final String line : infoParameters.split("\r?\n")) {
+            if (StringUtils.isBlank(line)) {
+                continue;
+            }
+
+            final int separator = line.indexOf(':');
+            final String name = (separator < 0 ? line : line.substring(0, separator)).strip();
+            final StreamType streamType = separator < 0 ? toStreamType(name) : null;
+            if (streamType != null) {
+                indexes = new HashMap<>();
+                indexesByType.put(streamType, indexes);
+                index = 0;
+            } else if (indexes != null) {
+                // Name lookups resolve to the first matching parameter, consistent with MediaInfo_Get
+                indexes.putIfAbsent(name, index++);
+            }
+        }
+
+        indexesByType.replaceAll((type, typeIndexes) -> Collections.unmodifiableMap(typeIndexes));
+        return new ParameterIndexResolver(indexesByType);
+    }
+
+    @VisibleForTesting
+    static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Gets the parameter index for the given parameter name.
+     *
+     * @param streamType the stream type
+     * @param parameter the parameter name
+     * @return the parameter index, or {@link #UNRESOLVED} if the parameter is not a static parameter
+     */
+    public int indexOf(@NonNull final StreamType streamType, @NonNull final String parameter) {
+        final Map<String, Integer> indexes = indexesByType.get(streamType);
+        if (indexes == null) {
+            return UNRESOLVED;
+        }
+
+        return indexes.getOrDefault(parameter, UNRESOLVED);
+    }
+
+    /**
+     * Gets the number of resolvable parameters for the given stream type.
+     *
+     * @param streamType the stream type
+     * @return the number of resolvable parameters
+     */
+    public int getParameterCount(@NonNull final StreamType streamType) {
+        return indexesByType.getOrDefault(streamType, Collections.emptyMap()).size();
+    }
+
+    private static StreamType toStreamType(final String name) {
+        for (final StreamType streamType : StreamType.values()) {
+            if (streamType.name().equals(name)) {
+                return streamType;
+            }
+        }
+
+        return null;
+    }
+}
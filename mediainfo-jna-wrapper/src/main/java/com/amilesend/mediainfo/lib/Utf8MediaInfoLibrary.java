@@ -0,0 +1,277 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.util.StringUtils;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import com.sun.jna.WString;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link MediaInfoLibrary} implementation that binds the UTF-8 {@code MediaInfoA_*} functions via JNA direct
+ * mapping. Strings are transferred as UTF-8 instead of {@code wchar_t} (4 bytes per char on Linux and macOS), which
+ * reduces the native memory to copy and decode for mostly ASCII values such as numbers and codec names.
+ *
+ * Native strings that are returned as a {@link Pointer} and pre-encoded parameters are UTF-8 encoded (i.e.,
+ * {@link #isUtf8()} is {@code true}).
+ *
+ * Example usage:
+ *
+ * <pre>
+ * MediaInfoLibrary library = MediaInfoLibrary.newInstance(MediaInfoLibrary.Binding.UTF8);
+ * </pre>
+ *
+ * @see MediaInfoLibrary.Binding
+ */
+public final class Utf8MediaInfoLibrary implements MediaInfoLibrary {
+    private static final Utf8MediaInfoLibrary INSTANCE = new Utf8MediaInfoLibrary();
+    private static final String CHARSET_OPTION = "CharSet";
+    private static final String UTF8_CHARSET = "UTF-8";
+    private static boolean isRegistered;
+
+    private Utf8MediaInfoLibrary() { }
+
+    /**
+     * Registers the native methods and sets the process-wide {@code CharSet} option to UTF-8 (once), and returns the
+     * library instance. Otherwise, the {@code MediaInfoA_*} functions convert strings using the process locale, which
+     * garbles non-ASCII values and paths under a {@code C} or {@code POSIX} locale.
+     *
+     * @return the library instance
+     * @throws UnsatisfiedLinkError if the native library cannot be loaded
+     */
+    static synchronized Utf8MediaInfoLibrary newInstance() {
+        if (!isRegistered) {
+            Native.register(Utf8MediaInfoLibrary.class, MediaInfoLibrary.getLibraryName());
+            MediaInfoA_Option(
+                    null,
+                    Native.toByteArray(CHARSET_OPTION, StandardCharsets.UTF_8),
+                    Native.toByteArray(UTF8_CHARSET, StandardCharsets.UTF_8));
+            isRegistered = true;
+        }
+
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean isUtf8() {
+        return true;
+    }
+
+    @Override
+    public Pointer newHandle() {
+        return MediaInfoA_New();
+    }
+
+    @Override
+    public void deleteHandle(final Pointer handle) {
+        MediaInfoA_Delete(handle);
+    }
+
+    @Override
+    public int open(final Pointer handle, final WString file) {
+        return MediaInfoA_Open(handle, toUtf8(file));
+    }
+
+    @Override
+    public int openBufferInit(final Pointer handle, final long length, final long offset) {
+        return MediaInfoA_Open_Buffer_Init(handle, length, offset);
+    }
+
+    @Override
+    public int openBufferContinue(final Pointer handle, final byte[] buffer, final int size) {
+        return MediaInfoA_Open_Buffer_Continue(handle, buffer, size);
+    }
+
+    @Override
+    public int openBufferContinue(final Pointer handle, final Pointer buffer, final int size) {
+        return MediaInfoA_Open_Buffer_Continue(handle, buffer, size);
+    }
+
+    @Override
+    public long openBufferContinueGotoGet(final Pointer handle) {
+        return MediaInfoA_Open_Buffer_Continue_GoTo_Get(handle);
+    }
+
+    @Override
+    public int openBufferFinalize(final Pointer handle) {
+        return MediaInfoA_Open_Buffer_Finalize(handle);
+    }
+
+    @Override
+    public void close(final Pointer handle) {
+        MediaInfoA_Close(handle);
+    }
+
+    @Override
+    public WString inform(final Pointer handle, final int reserved) {
+        return toWString(MediaInfoA_Inform(handle, reserved));
+    }
+
+    @Override
+    public WString get(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final WString parameter,
+            final int infoType,
+            final int searchType) {
+        return toWString(MediaInfoA_Get(handle, streamType, streamNumber, toUtf8(parameter), infoType, searchType));
+    }
+
+    @Override
+    public WString get(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final Pointer parameter,
+            final int infoType,
+            final int searchType) {
+        return toWString(MediaInfoA_Get(handle, streamType, streamNumber, parameter, infoType, searchType));
+    }
+
+    @Override
+    public WString getI(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final int parameterIndex,
+            final int infoType) {
+        return toWString(MediaInfoA_GetI(handle, streamType, streamNumber, parameterIndex, infoType));
+    }
+
+    @Override
+    public Pointer informAsPointer(final Pointer handle, final int reserved) {
+        return MediaInfoA_Inform(handle, reserved);
+    }
+
+    @Override
+    public Pointer getAsPointer(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final WString parameter,
+            final int infoType,
+            final int searchType) {
+        return MediaInfoA_Get(handle, streamType, streamNumber, toUtf8(parameter), infoType, searchType);
+    }
+
+    @Override
+    public Pointer getAsPointer(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final Pointer parameter,
+            final int infoType,
+            final int searchType) {
+        return MediaInfoA_Get(handle, streamType, streamNumber, parameter, infoType, searchType);
+    }
+
+    @Override
+    public Pointer getIAsPointer(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final int parameterIndex,
+            final int infoType) {
+        return MediaInfoA_GetI(handle, streamType, streamNumber, parameterIndex, infoType);
+    }
+
+    @Override
+    public int countGet(final Pointer handle, final int streamType, final int streamNumber) {
+        return MediaInfoA_Count_Get(handle, streamType, streamNumber);
+    }
+
+    @Override
+    public WString option(final Pointer handle, final WString option, final WString value) {
+        return toWString(MediaInfoA_Option(handle, toUtf8(option), toUtf8(value)));
+    }
+
+    @Override
+    public WString option(final Pointer handle, final Pointer option, final Pointer value) {
+        return toWString(MediaInfoA_Option(handle, option, value));
+    }
+
+    private static byte[] toUtf8(final WString value) {
+        return Native.toByteArray(value.toString(), StandardCharsets.UTF_8);
+    }
+
+    // Returned strings are owned by the library and are only valid until the next call on the same handle
+    private static WString toWString(final Pointer value) {
+        return new WString(value == null ? StringUtils.EMPTY : value.getString(0L, StandardCharsets.UTF_8.name()));
+    }
+
+    //////////////////////
+    // Native functions
+    //////////////////////
+
+    private static native Pointer MediaInfoA_New();
+
+    private static native void MediaInfoA_Delete(Pointer handle);
+
+    private static native int MediaInfoA_Open(Pointer handle, byte[] file);
+
+    private static native int MediaInfoA_Open_Buffer_Init(Pointer handle, long length, long offset);
+
+    private static native int MediaInfoA_Open_Buffer_Continue(Pointer handle, byte[] buffer, int size);
+
+    private static native int MediaInfoA_Open_Buffer_Continue(Pointer handle, Pointer buffer, int size);
+
+    private static native long MediaInfoA_Open_Buffer_Continue_GoTo_Get(Pointer handle);
+
+    private static native int MediaInfoA_Open_Buffer_Finalize(Pointer handle);
+
+    private static native void MediaInfoA_Close(Pointer handle);
+
+    private static native Pointer MediaInfoA_Inform(Pointer handle, int reserved);
+
+    private static native Pointer MediaInfoA_Get(
+            Pointer handle,
+            int streamType,
+            int streamNumber,
+            byte[] parameter,
+            int infoType,
+            int searchType);
+
+    private static native Pointer MediaInfoA_Get(
+            Pointer handle,
+            int streamType,
+            int streamNumber,
+            Pointer parameter,
+            int infoType,
+            int searchType);
+
+    private static native Pointer MediaInfoA_GetI(
+            Pointer handle,
+            int streamType,
+            int streamNumber,
+            int parameterIndex,
+            int infoType);
+
+    private static native int MediaInfoA_Count_Get(Pointer handle, int streamType, int streamNumber);
+
+    private static native Pointer MediaInfoA_Option(Pointer handle, byte[] option, byte[] value);
+
+    private static native Pointer MediaInfoA_Option(Pointer handle, Pointer option, Pointer value);
+}
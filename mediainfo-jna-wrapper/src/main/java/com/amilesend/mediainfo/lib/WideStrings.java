@@ -0,0 +1,183 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import lombok.NonNull;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes native {@code wchar_t} strings (UTF-32 on Linux and macOS, UTF-16 on Windows) in place without creating
+ * intermediate {@code String} objects. UTF-8 strings returned by the {@code MediaInfoA_*} functions are also
+ * supported.
+ */
+final class WideStrings {
+    private WideStrings() { }
+
+    /**
+     * Appends the native wide string to the destination.
+     *
+     * @param value the native wide string, or {@code null}
+     * @param destination the destination
+     * @return the number of chars appended
+     */
+    static int append(final Pointer value, @NonNull final StringBuilder destination) {
+        if (value == null) {
+            return 0;
+        }
+
+        final int start = destination.length();
+        for (long offset = 0L; ; offset += Native.WCHAR_SIZE) {
+            final int codeUnit = getCodeUnit(value, offset);
+            if (codeUnit == 0) {
+                return destination.length() - start;
+            }
+
+            if (Native.WCHAR_SIZE == 2) {
+                destination.append((char) codeUnit);
+            } else {
+                destination.appendCodePoint(codeUnit);
+            }
+        }
+    }
+
+    /**
+     * Appends the native UTF-8 string to the destination. ASCII chars are appended directly; the remainder of the
+     * string is decoded at once after the first non-ASCII byte.
+     *
+     * @param value the native UTF-8 string, or {@code null}
+     * @param destination the destination
+     * @return the number of chars appended
+     */
+    static int appendUtf8(final Pointer value, @NonNull final StringBuilder destination) {
+        if (value == null) {
+            return 0;
+        }
+
+        final int start = destination.length();
+        for (long offset = 0L; ; ++offset) {
+            final byte codeUnit = value.getByte(offset);
+            if (codeUnit == 0) {
+                return destination.length() - start;
+            }
+
+            if (codeUnit < 0) {
+                destination.append(value.getString(offset, StandardCharsets.UTF_8.name()));
+                return destination.length() - start;
+            }
+            destination.append((char) codeUnit);
+        }
+    }
+
+    /**
+     * Parses the native wide string as a long. Any fractional part is truncated (e.g., {@code 5005.000} is parsed
+     * as {@code 5005}).
+     *
+     * @param value the native wide string, or {@code null}
+     * @param defaultValue the value to return if the string is empty or not numeric
+     * @return the parsed value, or the default value
+     */
+    static long parseLong(final Pointer value, final long defaultValue) {
+        return parseLong(value, defaultValue, Native.WCHAR_SIZE);
+    }
+
+    /**
+     * Parses the native string as a long. Any fractional part is truncated. Non-ASCII UTF-8 bytes are never
+     * mistaken for digits as they are negative when read as signed bytes.
+     *
+     * @param value the native string, or {@code null}
+     * @param defaultValue the value to return if the string is empty, not numeric or out of range for a long
+     * @param codeUnitSize the size of a code unit in bytes (i.e., {@code 1} for UTF-8, or {@link Native#WCHAR_SIZE})
+     * @return the parsed value, or the default value
+     */
+    static long parseLong(final Pointer value, final long defaultValue, final int codeUnitSize) {
+        if (value == null) {
+            return defaultValue;
+        }
+
+        long offset = 0L;
+        int codeUnit = getCodeUnit(value, offset, codeUnitSize);
+        final boolean isNegative = codeUnit == '-';
+        if (isNegative || codeUnit == '+') {
+            offset += codeUnitSize;
+            codeUnit = getCodeUnit(value, offset, codeUnitSize);
+        }
+
+        // Accumulated as a negative value so that Long.MIN_VALUE can be represented
+        long result = 0L;
+        boolean hasDigits = false;
+        try {
+            for (; codeUnit >= '0' && codeUnit <= '9'; codeUnit = getCodeUnit(value, offset, codeUnitSize)) {
+                result = Math.subtractExact(Math.multiplyExact(result, 10L), codeUnit - '0');
+                hasDigits = true;
+                offset += codeUnitSize;
+            }
+        } catch (final ArithmeticException ex) {
+            return defaultValue;
+        }
+
+        if (!hasDigits || (codeUnit != 0 && codeUnit != '.')) {
+            return defaultValue;
+        }
+
+        // Validate that a fractional part only contains digits
+        if (codeUnit == '.') {
+            for (offset += codeUnitSize; (codeUnit = getCodeUnit(value, offset, codeUnitSize)) != 0;
+                    offset += codeUnitSize) {
+                if (codeUnit < '0' || codeUnit > '9') {
+                    return defaultValue;
+                }
+            }
+        }
+
+        if (isNegative) {
+            return result;
+        }
+
+        return result == Long.MIN_VALUE ? defaultValue : -result;
+    }
+
+    /**
+     * Gets the code unit (i.e., the {@code wchar_t} value) at the given byte offset.
+     *
+     * @param value the native wide string
+     * @param offset the byte offset
+     * @return the code unit
+     */
+    static int getCodeUnit(final Pointer value, final long offset) {
+        return getCodeUnit(value, offset, Native.WCHAR_SIZE);
+    }
+
+    private static int getCodeUnit(final Pointer value, final long offset, final int codeUnitSize) {
+        switch (codeUnitSize) {
+            case 1:
+                return value.getByte(offset);
+            case 2:
+                return value.getChar(offset);
+            default:
+                return value.getInt(offset);
+        }
+    }
+}
@@ -25,6 +25,8 @@ package com.amilesend.mediainfo.type;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.EnumSet;
+
 /** Defines the available status response types. */
 @RequiredArgsConstructor
 @Getter
@@ -36,4 +38,22 @@ public enum Status {
     Finalized(0x08);
 
     private final int value;
+
+    /**
+     * Converts the status bitfield returned by {@code MediaInfo_Open_Buffer_Continue} to the set of statuses that
+     * are set. {@link #None} is never included; an empty set is returned when no bit is set.
+     *
+     * @param bitmask the status bitfield
+     * @return the statuses that are set
+     */
+    public static EnumSet<Status> fromBitmask(final int bitmask) {
+        final EnumSet<Status> statuses = EnumSet.noneOf(Status.class);
+        for (final Status status : values()) {
+            if (status != None && (bitmask & status.value) == status.value) {
+                statuses.add(status);
+            }
+        }
+
+        return statuses;
+    }
 }
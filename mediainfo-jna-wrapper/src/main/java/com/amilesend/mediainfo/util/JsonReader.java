@@ -0,0 +1,251 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.util;
+
+import lombok.NonNull;
+
+/**
+ * A minimal streaming (pull) JSON reader. Tokens are read directly from the input without building an intermediate
+ * tree. Numbers, booleans, and {@code null} literals are returned as their raw text via {@link #nextString()}.
+ */
+public class JsonReader {
+    /** The JSON token types. */
+    public enum Token {
+        BEGIN_OBJECT,
+        END_OBJECT,
+        BEGIN_ARRAY,
+        END_ARRAY,
+        /** A string or a literal value (number, boolean, or null). Object names are also strings. */
+        STRING,
+        END_DOCUMENT
+    }
+
+    private final CharSequence json;
+    private int position;
+
+    /**
+     * Creates a new {@code JsonReader}.
+     *
+     * @param json the JSON content
+     */
+    public JsonReader(@NonNull final CharSequence json) {
+        this.json = json;
+    }
+
+    /**
+     * Gets the next token without consuming it.
+     *
+     * @return the next token
+     */
+    public Token peek() {
+        skipSeparators();
+        if (position >= json.length()) {
+            return Token.END_DOCUMENT;
+        }
+
+        switch (json.charAt(position)) {
+            case '{':
+                return Token.BEGIN_OBJECT;
+            case '}':
+                return Token.END_OBJECT;
+            case '[':
+                return Token.BEGIN_ARRAY;
+            case ']':
+                return Token.END_ARRAY;
+            default:
+                return Token.STRING;
+        }
+    }
+
+    /**
+     * Determines if the current object or array has more elements.
+     *
+     * @return {@code true} if there are more elements; else, {@code false}
+     */
+    public boolean hasNext() {
+        final Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    /** Consumes the start of an object. */
+    public void beginObject() {
+        expect(Token.BEGIN_OBJECT);
+    }
+
+    /** Consumes the end of an object. */
+    public void endObject() {
+        expect(Token.END_OBJECT);
+    }
+
+    /** Consumes the start of an array. */
+    public void beginArray() {
+        expect(Token.BEGIN_ARRAY);
+    }
+
+    /** Consumes the end of an array. */
+    public void endArray() {
+        expect(Token.END_ARRAY);
+    }
+
+    /**
+     * Consumes the next object member name.
+     *
+     * @return the name
+     */
+    public String nextName() {
+        return nextString();
+    }
+
+    /**
+     * Consumes the next string or literal value.
+     *
+     * @return the value
+     */
+    public String nextString() {
+        if (peek() != Token.STRING) {
+            throw malformed("Expected a string");
+        }
+
+        return json.charAt(position) == '"' ? readQuotedString() : readLiteral();
+    }
+
+    /** Consumes and discards the next value, including any nested objects or arrays. */
+    public void skipValue() {
+        int depth = 0;
+        do {
+            switch (peek()) {
+                case BEGIN_OBJECT:
+                case BEGIN_ARRAY:
+                    ++position;
+                    ++depth;
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    ++position;
+                    --depth;
+                    break;
+                case STRING:
+                    nextString();
+                    break;
+                default:
+                    throw malformed("Unexpected end of document");
+            }
+        } while (depth > 0);
+    }
+
+    private void expect(final Token expected) {
+        if (peek() != expected) {
+            throw malformed("Expected " + expected);
+        }
+        ++position;
+    }
+
+    private void skipSeparators() {
+        while (position < json.length()) {
+            final char c = json.charAt(position);
+            // Separators are implied by the token sequence, so they are skipped like whitespace
+            if (c != ',' && c != ':' && !Character.isWhitespace(c)) {
+                return;
+            }
+            ++position;
+        }
+    }
+
+    private String readQuotedString() {
+        final StringBuilder value = new StringBuilder();
+        ++position; // Opening quote
+        while (position < json.length()) {
+            final char c = json.charAt(position++);
+            if (c == '"') {
+                return value.toString();
+            }
+
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+
+            if (position >= json.length()) {
+                break;
+            }
+
+            final char escaped = json.charAt(position++);
+            switch (escaped) {
+                case 'b':
+                    value.append('\b');
+                    break;
+                case 'f':
+                    value.append('\f');
+                    break;
+                case 'n':
+                    value.append('\n');
+                    break;
+                case 'r':
+                    value.append('\r');
+                    break;
+                case 't':
+                    value.append('\t');
+                    break;
+                case 'u':
+                    value.append(readUnicodeEscape());
+                    break;
+                default: // Includes '"', '\\', and '/'
+                    value.append(escaped);
+                    break;
+            }
+        }
+
+        throw malformed("Unterminated string");
+    }
+
+    private char readUnicodeEscape() {
+        if (position + 4 > json.length()) {
+            throw malformed("Invalid unicode escape");
+        }
+
+        try {
+            final char c = (char) Integer.parseInt(json.subSequence(position, position + 4).toString(), 16);
+            position += 4;
+            return c;
+        } catch (final NumberFormatException ex) {
+            throw malformed("Invalid unicode escape");
+        }
+    }
+
+    private String readLiteral() {
+        final int start = position;
+        while (position < json.length()) {
+            final char c = json.charAt(position);
+            if (c == ',' || c == ':' || c == '}' || c == ']' || Character.isWhitespace(c)) {
+                break;
+            }
+            ++position;
+        }
+
+        return json.subSequence(start, position).toString();
+    }
+
+    private IllegalArgumentException malformed(final String message) {
+        return new IllegalArgumentException(message + " at position " + position);
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.util.StringUtils;
+import com.sun.jna.NativeLibrary;
+import com.sun.jna.Pointer;
+import com.sun.jna.WString;
+
+import java.io.File;
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/**
+ * A {@link MediaInfoLibrary} implementation that uses Java Foreign Function &amp; Memory (FFM) downcalls instead of
+ * JNA. Wide strings are encoded into {@link Arena}-scoped memory for the duration of each call, and buffers passed to
+ * {@code MediaInfo_Open_Buffer_Continue} are accessed in place without copying.
+ *
+ * Only 64-bit platforms are supported by the FFM native linker, so {@code size_t} values are mapped to {@code long}.
+ */
+final class FfmMediaInfoLibrary implements MediaInfoLibrary {
+    private static final Linker LINKER = Linker.nativeLinker();
+    private static final ValueLayout SIZE_T = JAVA_LONG;
+    private static final long WCHAR_SIZE = LINKER.canonicalLayouts().get("wchar_t").byteSize();
+    private static final Charset WCHAR_CHARSET = getWideCharset();
+
+    private final MethodHandle newHandle;
+    private final MethodHandle deleteHandle;
+    private final MethodHandle open;
+    private final MethodHandle openBufferInit;
+    private final MethodHandle openBufferContinue;
+    private final MethodHandle openBufferContinueGotoGet;
+    private final MethodHandle openBufferFinalize;
+    private final MethodHandle close;
+    private final MethodHandle inform;
+    private final MethodHandle get;
+    private final MethodHandle getI;
+    private final MethodHandle countGet;
+    private final MethodHandle option;
+
+    /**
+     * Creates a new {@code FfmMediaInfoLibrary}.
+     *
+     * @param libraryName the native library name
+     * @throws UnsatisfiedLinkError if the native library or a function cannot be found
+     */
+    FfmMediaInfoLibrary(final String libraryName) {
+        final SymbolLookup lookup = lookup(libraryName);
+        newHandle = downcall(lookup, "MediaInfo_New", FunctionDescriptor.of(ADDRESS));
+        deleteHandle = downcall(lookup, "MediaInfo_Delete", FunctionDescriptor.ofVoid(ADDRESS));
+        open = downcall(lookup, "MediaInfo_Open", FunctionDescriptor.of(SIZE_T, ADDRESS, ADDRESS));
+        openBufferInit = downcall(
+                lookup,
+                "MediaInfo_Open_Buffer_Init",
+                FunctionDescriptor.of(SIZE_T, ADDRESS, JAVA_LONG, JAVA_LONG));
+        // Critical downcalls can access heap arrays in place, which avoids copying the buffer to native memory
+        openBufferContinue = downcall(
+                lookup,
+                "MediaInfo_Open_Buffer_Continue",
+                FunctionDescriptor.of(SIZE_T, ADDRESS, ADDRESS, SIZE_T),
+                Linker.Option.critical(true));
+        openBufferContinueGotoGet = downcall(
+                lookup,
+                "MediaInfo_Open_Buffer_Continue_GoTo_Get",
+                FunctionDescriptor.of(JAVA_LONG, ADDRESS));
+        openBufferFinalize = downcall(
+                lookup,
+                "MediaInfo_Open_Buffer_Finalize",
+                FunctionDescriptor.of(SIZE_T, ADDRESS));
+        close = downcall(lookup, "MediaInfo_Close", FunctionDescriptor.ofVoid(ADDRESS));
+        inform = downcall(lookup, "MediaInfo_Inform", FunctionDescriptor.of(ADDRESS, ADDRESS, SIZE_T));
+        get = downcall(
+                lookup,
+                "MediaInfo_Get",
+                FunctionDescriptor.of(ADDRESS, ADDRESS, JAVA_INT, SIZE_T, ADDRESS, JAVA_INT, JAVA_INT));
+        getI = downcall(
+                lookup,
+                "MediaInfo_GetI",
+                FunctionDescriptor.of(ADDRESS, ADDRESS, JAVA_INT, SIZE_T, SIZE_T, JAVA_INT));
+        countGet = downcall(lookup, "MediaInfo_Count_Get", FunctionDescriptor.of(SIZE_T, ADDRESS, JAVA_INT, SIZE_T));
+        option = downcall(lookup, "MediaInfo_Option", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS, ADDRESS));
+    }
+
+    @Override
+    public Pointer newHandle() {
+        try {
+            return toPointer((MemorySegment) newHandle.invokeExact());
+        } catch (final Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public void deleteHandle(final Pointer handle) {
+        try {
+            deleteHandle.invokeExact(toSegment(handle));
+        } catch (final Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public int open(final Pointer handle, final WString file) {
+        try (Arena arena = Arena.ofConfined()) {
+            return (int) (long) open.invokeExact(toSegment(handle), toWideString(arena, file));
+        } catch (final Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public int openBufferInit(final Pointer handle, final long length, final long offset) {
+        try {
+            return (int) (long) openBufferInit.invokeExact(toSegment(handle), length, offset);
+        } catch (final Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public int openBufferContinue(final Pointer handle, final byte[] buffer, final int size) {
+        try {
+            return (int) (long) openBufferContinue.invokeExact(
+                    toSegment(handle),
+                    MemorySegment.ofArray(buffer),
+                    (long) size);
+        } catch (final Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public int openBufferContinue(final Pointer handle, final Pointer buffer, final int size) {
+        try {
+            // Native segments are also accepted by the critical downcall handle
+            return (int) (long) openBufferContinue.invokeExact(toSegment(handle), toSegment(buffer), (long) size);
+        } catch (final Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public long openBufferContinueGotoGet(final Pointer handle) {
+        try {
+            return (long) openBufferContinueGotoGet.invokeExact(toSegment(handle));
+        } catch (final Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public int openBufferFinalize(final Pointer handle) {
+        try {
+            return (int) (long) openBufferFinalize.invokeExact(toSegment(handle));
+        } catch (final Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public void close(final Pointer handle) {
+        try {
+            close.invokeExact(toSegment(handle));
+        } catch (final Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public WString inform(final Pointer handle, final int reserved) {
+        return fromWideString(informAsSegment(handle, reserved));
+    }
+
+    @Override
+    public WString get(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final WString parameter,
+            final int infoType,
+            final int searchType) {
+        return fromWideString(getAsSegment(handle, streamType, streamNumber, parameter, infoType, searchType));
+    }
+
+    @Override
+    public WString get(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final Pointer parameter,
+            final int infoType,
+            final int searchType) {
+        return fromWideString(getAsSegment(
+                handle, streamType, streamNumber, toSegment(parameter), infoType, searchType));
+    }
+
+    @Override
+    public WString getI(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final int parameterIndex,
+            final int infoType) {
+        return fromWideString(getIAsSegment(handle, streamType, streamNumber, parameterIndex, infoType));
+    }
+
+    @Override
+    public Pointer informAsPointer(final Pointer handle, final int reserved) {
+        return toPointer(informAsSegment(handle, reserved));
+    }
+
+    @Override
+    public Pointer getAsPointer(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final WString parameter,
+            final int infoType,
+            final int searchType) {
+        return toPointer(getAsSegment(handle, streamType, streamNumber, parameter, infoType, searchType));
+    }
+
+    @Override
+    public Pointer getAsPointer(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final Pointer parameter,
+            final int infoType,
+            final int searchType) {
+        return toPointer(getAsSegment(handle, streamType, streamNumber, toSegment(parameter), infoType, searchType));
+    }
+
+    @Override
+    public Pointer getIAsPointer(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final int parameterIndex,
+            final int infoType) {
+        return toPointer(getIAsSegment(handle, streamType, streamNumber, parameterIndex, infoType));
+    }
+
+    @Override
+    public int countGet(final Pointer handle, final int streamType, final int streamNumber) {
+        try {
+            // A stream number of -1 is sign-extended to SIZE_MAX, which requests the count of streams
+            return (int) (long) countGet.invokeExact(toSegment(handle), streamType, (long) streamNumber);
+        } catch (final Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public WString option(final Pointer handle, final WString option, final WString value) {
+        try (Arena arena = Arena.ofConfined()) {
+            return fromWideString((MemorySegment) this.option.invokeExact(
+                    toSegment(handle),
+                    toWideString(arena, option),
+                    toWideString(arena, value)));
+        } catch (final Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    @Override
+    public WString option(final Pointer handle, final Pointer option, final Pointer value) {
+        try {
+            return fromWideString((MemorySegment) this.option.invokeExact(
+                    toSegment(handle),
+                    toSegment(option),
+                    toSegment(value)));
+        } catch (final Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    private MemorySegment informAsSegment(final Pointer handle, final int reserved) {
+        try {
+            return (MemorySegment) inform.invokeExact(toSegment(handle), (long) reserved);
+        } catch (final Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    private MemorySegment getAsSegment(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final WString parameter,
+            final int infoType,
+            final int searchType) {
+        try (Arena arena = Arena.ofConfined()) {
+            return getAsSegment(
+                    handle, streamType, streamNumber, toWideString(arena, parameter), infoType, searchType);
+        }
+    }
+
+    private MemorySegment getAsSegment(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final MemorySegment parameter,
+            final int infoType,
+            final int searchType) {
+        try {
+            return (MemorySegment) get.invokeExact(
+                    toSegment(handle),
+                    streamType,
+                    (long) streamNumber,
+                    parameter,
+                    infoType,
+                    searchType);
+        } catch (final Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    private MemorySegment getIAsSegment(
+            final Pointer handle,
+            final int streamType,
+            final int streamNumber,
+            final int parameterIndex,
+            final int infoType) {
+        try {
+            return (MemorySegment) getI.invokeExact(
+                    toSegment(handle),
+                    streamType,
+                    (long) streamNumber,
+                    (long) parameterIndex,
+                    infoType);
+        } catch (final Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    private static SymbolLookup lookup(final String libraryName) {
+        // Reuses the JNA library search (e.g., jna.library.path and the bundled native library artifacts)
+        final File file = NativeLibrary.getInstance(libraryName).getFile();
+        return file != null
+                ? SymbolLookup.libraryLookup(file.toPath(), Arena.global())
+                : SymbolLookup.libraryLookup(System.mapLibraryName(libraryName), Arena.global());
+    }
+
+    private static MethodHandle downcall(
+            final SymbolLookup lookup,
+            final String name,
+            final FunctionDescriptor descriptor,
+            final Linker.Option... options) {
+        final MemorySegment address = lookup.find(name)
+                .orElseThrow(() -> new UnsatisfiedLinkError("Unable to find function " + name));
+        return LINKER.downcallHandle(address, descriptor, options);
+    }
+
+    private static Charset getWideCharset() {
+        final boolean isLittleEndian = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+        if (WCHAR_SIZE == 2L) {
+            return isLittleEndian ? StandardCharsets.UTF_16LE : StandardCharsets.UTF_16BE;
+        }
+
+        return Charset.forName(isLittleEndian ? "UTF-32LE" : "UTF-32BE");
+    }
+
+    private static MemorySegment toSegment(final Pointer pointer) {
+        return MemorySegment.ofAddress(Pointer.nativeValue(pointer));
+    }
+
+    private static Pointer toPointer(final MemorySegment segment) {
+        return segment.address() == 0L ? null : new Pointer(segment.address());
+    }
+
+    private static MemorySegment toWideString(final Arena arena, final WString value) {
+        final byte[] bytes = (value.toString() + '\0').getBytes(WCHAR_CHARSET);
+        final MemorySegment segment = arena.allocate(bytes.length, WCHAR_SIZE);
+        MemorySegment.copy(bytes, 0, segment, ValueLayout.JAVA_BYTE, 0L, bytes.length);
+        return segment;
+    }
+
+    // Returned strings are owned by the library and are only valid until the next call on the same handle
+    private static WString fromWideString(final MemorySegment address) {
+        if (address.address() == 0L) {
+            return new WString(StringUtils.EMPTY);
+        }
+
+        final MemorySegment value = address.reinterpret(Long.MAX_VALUE);
+        long length = 0L;
+        while (WCHAR_SIZE == 2L
+                ? value.get(ValueLayout.JAVA_CHAR_UNALIGNED, length) != 0
+                : value.get(ValueLayout.JAVA_INT_UNALIGNED, length) != 0) {
+            length += WCHAR_SIZE;
+        }
+
+        return new WString(new String(value.asSlice(0L, length).toArray(ValueLayout.JAVA_BYTE), WCHAR_CHARSET));
+    }
+
+    private static RuntimeException propagate(final Throwable t) {
+        if (t instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (t instanceof Error error) {
+            throw error;
+        }
+
+        return new IllegalStateException("Native call failed", t);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import java.lang.foreign.Linker;
+
+/**
+ * Provides the Java Foreign Function &amp; Memory (FFM) backend on Java 22+. This class replaces the Java 11
+ * implementation via the multi-release jar overlay.
+ *
+ * @see MediaInfoLibrary.Binding#FFM
+ */
+final class FfmSupport {
+    private static final boolean IS_AVAILABLE = isNativeLinkerAvailable();
+
+    private FfmSupport() { }
+
+    /**
+     * Determines if the FFM backend is available on the running JVM.
+     *
+     * @return {@code true} if the FFM backend is available; else, {@code false}
+     */
+    static boolean isAvailable() {
+        return IS_AVAILABLE;
+    }
+
+    /**
+     * Creates a new FFM-based {@link MediaInfoLibrary} instance.
+     *
+     * @return the library instance
+     * @throws UnsupportedOperationException if the FFM backend is not available
+     */
+    static MediaInfoLibrary newLibrary() {
+        if (!IS_AVAILABLE) {
+            throw new UnsupportedOperationException("The FFM native linker is not supported on this platform");
+        }
+
+        return new FfmMediaInfoLibrary(MediaInfoLibrary.getLibraryName());
+    }
+
+    private static boolean isNativeLinkerAvailable() {
+        try {
+            Linker.nativeLinker();
+            return true;
+        } catch (final UnsupportedOperationException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.NativeBufferPool;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ByteBufferSourceTest {
+    private static byte[] newContent(final int size) {
+        final byte[] content = new byte[size];
+        for (int i = 0; i < size; ++i) {
+            content[i] = (byte) i;
+        }
+
+        return content;
+    }
+
+    /////////
+    // read
+    /////////
+
+    @Test
+    public void read_withDirectBuffer_shouldReturnPointerIntoBuffer() {
+        final ByteBuffer data = ByteBuffer.allocateDirect(256).put(newContent(256));
+        data.position(16);
+        final ByteBufferSource sourceUnderTest = new ByteBufferSource(data, 240L, null);
+
+        final BufferSource.Chunk actual = sourceUnderTest.read(4L, 8);
+
+        assertAll(
+                () -> assertEquals(240L, sourceUnderTest.size()),
+                () -> assertEquals(8, actual.getLength()),
+                () -> assertArrayEquals(new byte[] {20, 21, 22, 23}, actual.getData().getByteArray(0L, 4)),
+                () -> assertEquals(16, data.position()));
+    }
+
+    @Test
+    public void read_withHeapBuffer_shouldCopyIntoLease() {
+        final NativeBufferPool pool = new NativeBufferPool(64, 1);
+        final ByteBuffer data = ByteBuffer.wrap(newContent(256), 16, 200);
+        try (ByteBufferSource sourceUnderTest = new ByteBufferSource(data, 200L, pool.lease())) {
+            final BufferSource.Chunk actual = sourceUnderTest.read(4L, 128);
+
+            assertAll(
+                    () -> assertEquals(64, actual.getLength()),
+                    () -> assertArrayEquals(new byte[] {20, 21, 22, 23}, actual.getData().getByteArray(0L, 4)),
+                    () -> assertEquals(16, data.position()));
+        }
+    }
+
+    @Test
+    public void read_withPartialData_shouldReturnEndBeyondData() {
+        final ByteBuffer data = ByteBuffer.allocateDirect(128);
+        final ByteBufferSource sourceUnderTest = new ByteBufferSource(data, 1024L, null);
+
+        assertAll(
+                () -> assertEquals(1024L, sourceUnderTest.size()),
+                () -> assertEquals(28, sourceUnderTest.read(100L, 64).getLength()),
+                () -> assertSame(BufferSource.Chunk.END, sourceUnderTest.read(128L, 64)),
+                () -> assertSame(BufferSource.Chunk.END, sourceUnderTest.read(-1L, 64)));
+    }
+
+    @Test
+    public void new_withNullData_shouldThrowException() {
+        assertThrows(NullPointerException.class, () -> new ByteBufferSource(null, 1024L, null));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.NativeBufferPool;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ChannelBufferSourceTest {
+    @TempDir
+    Path tempDir;
+
+    @SneakyThrows
+    private Path newFile(final int size) {
+        final byte[] content = new byte[size];
+        for (int i = 0; i < size; ++i) {
+            content[i] = (byte) i;
+        }
+
+        return Files.write(tempDir.resolve("media.bin"), content);
+    }
+
+    /////////
+    // read
+    /////////
+
+    @Test
+    @SneakyThrows
+    public void read_withPosition_shouldReadFromPosition() {
+        final NativeBufferPool pool = new NativeBufferPool(64, 1);
+        try (SeekableByteChannel channel = Files.newByteChannel(newFile(1024));
+                ChannelBufferSource sourceUnderTest = new ChannelBufferSource(channel, 1024L, pool.lease())) {
+            final BufferSource.Chunk actual = sourceUnderTest.read(100L, 4);
+
+            assertAll(
+                    () -> assertEquals(4, actual.getLength()),
+                    () -> assertArrayEquals(new byte[] {100, 101, 102, 103}, actual.getData().getByteArray(0L, 4)),
+                    () -> assertEquals(104L, channel.position()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void read_withMaxLengthOverCapacity_shouldTruncateToBuffer() {
+        final NativeBufferPool pool = new NativeBufferPool(64, 1);
+        try (SeekableByteChannel channel = Files.newByteChannel(newFile(1024));
+                ChannelBufferSource sourceUnderTest = new ChannelBufferSource(channel, 1024L, pool.lease())) {
+            assertEquals(64, sourceUnderTest.read(0L, 128).getLength());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void read_withPartialReads_shouldFillChunk() {
+        final SeekableByteChannel mockChannel = mock(SeekableByteChannel.class);
+        when(mockChannel.read(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            buffer.put((byte) 1);
+            return 1;
+        });
+        final NativeBufferPool pool = new NativeBufferPool(64, 1);
+        try (ChannelBufferSource sourceUnderTest = new ChannelBufferSource(mockChannel, 1024L, pool.lease())) {
+            assertEquals(16, sourceUnderTest.read(0L, 16).getLength());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void read_withPositionOutOfRange_shouldReturnEnd() {
+        final NativeBufferPool pool = new NativeBufferPool(64, 1);
+        try (SeekableByteChannel channel = Files.newByteChannel(newFile(1024));
+                ChannelBufferSource sourceUnderTest = new ChannelBufferSource(channel, 1024L, pool.lease())) {
+            assertAll(
+                    () -> assertSame(BufferSource.Chunk.END, sourceUnderTest.read(1024L, 16)),
+                    () -> assertSame(BufferSource.Chunk.END, sourceUnderTest.read(-1L, 16)));
+        }
+    }
+
+    //////////
+    // close
+    //////////
+
+    @Test
+    @SneakyThrows
+    public void close_withLease_shouldReturnBufferAndLeaveChannelOpen() {
+        final NativeBufferPool pool = new NativeBufferPool(64, 1);
+        try (SeekableByteChannel channel = Files.newByteChannel(newFile(1024))) {
+            new ChannelBufferSource(channel, 1024L, pool.lease()).close();
+
+            assertAll(
+                    () -> assertTrue(channel.isOpen()),
+                    () -> assertEquals(1, pool.getStats().getIdleBuffers()));
+        }
+    }
+
+    @Test
+    public void new_withNullChannel_shouldThrowException() {
+        final NativeBufferPool pool = new NativeBufferPool(64, 1);
+        assertThrows(NullPointerException.class, () -> new ChannelBufferSource(null, 1024L, pool.lease()));
+    }
+}
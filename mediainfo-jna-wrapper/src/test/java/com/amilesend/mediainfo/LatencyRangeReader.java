@@ -0,0 +1,69 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import lombok.SneakyThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** A local stand-in for an object storage {@link RangeReader} that simulates a fixed latency per round trip. */
+public class LatencyRangeReader implements RangeReader {
+    private final byte[] content;
+    private final Duration latency;
+    private final AtomicInteger roundTrips = new AtomicInteger();
+
+    public LatencyRangeReader(final byte[] content, final Duration latency) {
+        this.content = content;
+        this.latency = latency;
+    }
+
+    @SneakyThrows
+    public static LatencyRangeReader of(final Path path, final Duration latency) {
+        return new LatencyRangeReader(Files.readAllBytes(path), latency);
+    }
+
+    @Override
+    public long size() {
+        return content.length;
+    }
+
+    @Override
+    @SneakyThrows
+    public ByteBuffer read(final long offset, final int length) {
+        roundTrips.incrementAndGet();
+        if (!latency.isZero()) {
+            Thread.sleep(latency.toMillis());
+        }
+
+        final int start = (int) Math.min(offset, content.length);
+        return ByteBuffer.wrap(content, start, Math.min(length, content.length - start)).slice();
+    }
+
+    public int getRoundTrips() {
+        return roundTrips.get();
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.MediaInfoAccessor;
+import com.amilesend.mediainfo.lib.MediaInfoHandlePool;
+import com.amilesend.mediainfo.lib.MediaInfoLibrary;
+import com.amilesend.mediainfo.type.StreamType;
+import com.sun.jna.Pointer;
+import com.sun.jna.WString;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.File;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class MediaInfoAsyncTest {
+    private static final int WORKER_THREADS = 4;
+
+    @Mock
+    private MediaInfoHandlePool mockPool;
+    @Mock
+    private MediaInfoAccessor mockAccessor;
+    private File mockFile;
+    private MediaInfoAsync asyncUnderTest;
+
+    @BeforeEach
+    @SneakyThrows
+    public void setUp() {
+        lenient().when(mockPool.borrow()).thenReturn(mockAccessor);
+        mockFile = mock(File.class);
+        lenient().when(mockFile.isFile()).thenReturn(true);
+        lenient().when(mockFile.length()).thenReturn(4194304L);
+        lenient().when(mockFile.getCanonicalPath()).thenReturn("/full/path/to/file.mkv");
+        asyncUnderTest = new MediaInfoAsync(mockPool, WORKER_THREADS);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        asyncUnderTest.close();
+    }
+
+    /////////
+    // ctor
+    /////////
+
+    @Test
+    public void ctor_withInvalidThreads_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new MediaInfoAsync(mockPool, 0));
+    }
+
+    /////////
+    // open
+    /////////
+
+    @Test
+    @SneakyThrows
+    public void open_withValidFile_shouldReturnSession() {
+        when(mockAccessor.open(anyString())).thenReturn(true);
+        when(mockAccessor.get(any(StreamType.class), anyInt(), anyString())).thenReturn("1280");
+        when(mockAccessor.inform()).thenReturn("Inform");
+
+        final MediaInfoAsync.Session session = asyncUnderTest.open(mockFile).get(5L, TimeUnit.SECONDS);
+        final String width = session.get(StreamType.Video, 0, "Width").get(5L, TimeUnit.SECONDS);
+        final String inform = session.inform().get(5L, TimeUnit.SECONDS);
+        session.closeAsync().get(5L, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertEquals("1280", width),
+                () -> assertEquals("Inform", inform),
+                () -> verify(mockAccessor).close());
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withOpenFailure_shouldReturnAccessorAndFail() {
+        when(mockAccessor.open(anyString())).thenReturn(false);
+
+        final ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> asyncUnderTest.open(mockFile).get(5L, TimeUnit.SECONDS));
+
+        assertAll(
+                () -> assertInstanceOf(UncheckedIOException.class, thrown.getCause()),
+                () -> verify(mockAccessor).close());
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withClosedSession_shouldFailNativeCalls() {
+        when(mockAccessor.open(anyString())).thenReturn(true);
+        final MediaInfoAsync.Session session = asyncUnderTest.open(mockFile).get(5L, TimeUnit.SECONDS);
+
+        session.close();
+        session.close();
+
+        final ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> session.inform().get(5L, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, thrown.getCause());
+    }
+
+    /**
+     * Simulates thousands of concurrent callers multiplexed onto a few carrier threads. The native calls are held
+     * until every caller has submitted its request, so the test would dead-lock if any caller blocked on a native
+     * call. All native calls must execute on the dedicated worker threads.
+     */
+    @Test
+    @SneakyThrows
+    public void open_withThousandsOfConcurrentCallers_shouldNotBlockCallerThreads() {
+        final int callers = 5000;
+        final CountDownLatch releaseNativeCalls = new CountDownLatch(1);
+        final Set<String> nativeCallThreads = ConcurrentHashMap.newKeySet();
+        when(mockAccessor.open(anyString())).thenAnswer(invocation -> {
+            nativeCallThreads.add(Thread.currentThread().getName());
+            releaseNativeCalls.await();
+            return true;
+        });
+        when(mockAccessor.get(any(StreamType.class), anyInt(), eq("Width"))).thenAnswer(invocation -> {
+            nativeCallThreads.add(Thread.currentThread().getName());
+            return "1280";
+        });
+
+        final ExecutorService carriers = Executors.newFixedThreadPool(2);
+        try {
+            final List<Future<CompletableFuture<String>>> submissions = IntStream.range(0, callers)
+                    .mapToObj(i -> carriers.submit(() -> asyncUnderTest.open(mockFile)
+                            .thenCompose(session -> session.get(StreamType.Video, 0, "Width")
+                                    .thenCompose(width -> session.closeAsync().thenApply(v -> width)))))
+                    .collect(Collectors.toList());
+
+            final List<CompletableFuture<String>> results = submissions.stream()
+                    .map(submission -> {
+                        try {
+                            return submission.get(10L, TimeUnit.SECONDS);
+                        } catch (final Exception ex) {
+                            throw new IllegalStateException("Caller thread blocked on a native call", ex);
+                        }
+                    })
+                    .collect(Collectors.toList());
+            releaseNativeCalls.countDown();
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(30L, TimeUnit.SECONDS);
+
+            assertAll(
+                    () -> assertTrue(results.stream().allMatch(r -> "1280".equals(r.join()))),
+                    () -> assertTrue(nativeCallThreads.stream().allMatch(n -> n.startsWith("mediainfo-async-"))),
+                    () -> assertTrue(nativeCallThreads.size() <= WORKER_THREADS),
+                    () -> verify(mockAccessor, times(callers)).close());
+        } finally {
+            releaseNativeCalls.countDown();
+            carriers.shutdownNow();
+        }
+    }
+
+    //////////
+    // close
+    //////////
+
+    @Test
+    @SneakyThrows
+    public void close_withOpenSession_shouldReleaseHandleOnCallingThread() {
+        when(mockAccessor.open(anyString())).thenReturn(true);
+        final MediaInfoAsync.Session session = asyncUnderTest.open(mockFile).get(5L, TimeUnit.SECONDS);
+
+        asyncUnderTest.close();
+        final CompletableFuture<Void> closed = session.closeAsync();
+
+        assertAll(
+                () -> assertTrue(closed.isDone()),
+                () -> verify(mockAccessor).close());
+    }
+
+    @Test
+    @SneakyThrows
+    public void close_withOpenSession_shouldFailNativeCalls() {
+        when(mockAccessor.open(anyString())).thenReturn(true);
+        final MediaInfoAsync.Session session = asyncUnderTest.open(mockFile).get(5L, TimeUnit.SECONDS);
+
+        asyncUnderTest.close();
+        final ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> session.inform().get(5L, TimeUnit.SECONDS));
+        session.close();
+
+        assertAll(
+                () -> assertInstanceOf(RejectedExecutionException.class, thrown.getCause()),
+                () -> verify(mockAccessor).close());
+    }
+
+    ////////////
+    // analyze
+    ////////////
+
+    @Test
+    @SneakyThrows
+    public void analyze_withValidFile_shouldReturnExtractedValue() {
+        when(mockAccessor.open(anyString())).thenReturn(true);
+        when(mockAccessor.get(any(StreamType.class), anyInt(), eq("Width"))).thenReturn("1280");
+
+        final Integer actual = asyncUnderTest.analyze(mockFile, MyTestVideoInfo::new, MyTestVideoInfo::getWidth)
+                .get(5L, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertEquals(1280, actual),
+                () -> verify(mockAccessor).close());
+    }
+
+    @Test
+    @SneakyThrows
+    public void analyze_withOpenFailure_shouldFail() {
+        when(mockAccessor.open(anyString())).thenReturn(false);
+
+        final ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> asyncUnderTest.analyze(mockFile, MyTestVideoInfo::new, MyTestVideoInfo::getWidth)
+                        .get(5L, TimeUnit.SECONDS));
+
+        assertInstanceOf(UncheckedIOException.class, thrown.getCause());
+    }
+
+    @Test
+    @SneakyThrows
+    public void analyze_withFailedFactory_shouldReturnAccessorAndFail() {
+        final IllegalStateException expected = new IllegalStateException("Factory failure");
+
+        final ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> asyncUnderTest.analyze(
+                        mockFile,
+                        accessor -> {
+                            throw expected;
+                        },
+                        MyTestVideoInfo::getWidth).get(5L, TimeUnit.SECONDS));
+
+        assertAll(
+                () -> assertEquals(expected, thrown.getCause()),
+                () -> verify(mockAccessor).close());
+    }
+
+    /**
+     * Runs many analyze calls on all workers against a pool that retains a single idle handle, so returned handles
+     * are immediately leased by other workers. Each handle must be closed by the same thread that opened it, which
+     * fails if a handle is returned to the pool twice while another worker is using it.
+     */
+    @Test
+    @SneakyThrows
+    public void analyze_withSingleHandlePool_shouldNotLeaseHandleTwice() {
+        final MediaInfoLibrary mockLibrary = mock(MediaInfoLibrary.class);
+        final AtomicLong nextPeer = new AtomicLong();
+        final ConcurrentMap<Pointer, Thread> owners = new ConcurrentHashMap<>();
+        final AtomicInteger violations = new AtomicInteger();
+        when(mockLibrary.newHandle()).thenAnswer(invocation -> new Pointer(nextPeer.incrementAndGet()));
+        when(mockLibrary.open(any(Pointer.class), any(WString.class))).thenAnswer(invocation -> {
+            if (owners.putIfAbsent(invocation.getArgument(0), Thread.currentThread()) != null) {
+                violations.incrementAndGet();
+            }
+            Thread.yield();
+            return 1;
+        });
+        doAnswer(invocation -> {
+            // Handles are closed again when deleted, after the owner already closed them
+            final Thread owner = owners.remove(invocation.getArgument(0));
+            if (owner != null && owner != Thread.currentThread()) {
+                violations.incrementAndGet();
+            }
+            return null;
+        }).when(mockLibrary).close(any(Pointer.class));
+
+        try (MediaInfoHandlePool pool = new MediaInfoHandlePool(
+                        mockLibrary, 1, Integer.MAX_VALUE, Duration.ofMinutes(5L));
+                MediaInfoAsync async = new MediaInfoAsync(pool, WORKER_THREADS)) {
+            final List<CompletableFuture<String>> results = IntStream.range(0, 2000)
+                    .mapToObj(i -> async.analyze(
+                            new File("video" + i + ".mkv"),
+                            accessor -> new MyTestVideoInfo(accessor) {
+                                @Override
+                                public MyTestVideoInfo open(final File file) {
+                                    getAccessor().open(file.getPath());
+                                    return this;
+                                }
+                            },
+                            mediaInfo -> "Analyzed"))
+                    .collect(Collectors.toList());
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(30L, TimeUnit.SECONDS);
+
+            assertAll(
+                    () -> assertEquals(0, violations.get()),
+                    () -> assertEquals(pool.getStats().getBorrowCount(), pool.getStats().getReturnCount()));
+        }
+    }
+}
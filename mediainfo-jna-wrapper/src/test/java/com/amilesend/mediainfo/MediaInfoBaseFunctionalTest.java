@@ -24,18 +24,29 @@ package com.amilesend.mediainfo;
 
 import com.amilesend.mediainfo.lib.MediaInfoAccessor;
 import com.amilesend.mediainfo.lib.MediaInfoLibrary;
+import com.amilesend.mediainfo.lib.MediaInfoListAccessor;
+import com.amilesend.mediainfo.lib.MediaInfoListLibrary;
+import com.amilesend.mediainfo.type.StreamType;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 public class MediaInfoBaseFunctionalTest {
     private static final String SAMPLE_MKV_VIDEO_PATH = "src/test/SampleVideo_1280x720_1mb.mkv";
@@ -106,4 +117,118 @@ public class MediaInfoBaseFunctionalTest {
                 ZonedDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC")).toInstant(),
                 mp4MediaInfoUnderTest.getCreationTime());
     }
+
+    @Test
+    @SneakyThrows
+    public void getWidth_withDirectBinding_shouldReturnWidth() {
+        final MediaInfoLibrary library = MediaInfoLibrary.newInstance(MediaInfoLibrary.Binding.DIRECT);
+        try (MyTestVideoInfo mediaInfo = new MyTestVideoInfo(new MediaInfoAccessor(library))
+                .open(new File(SAMPLE_MP4_VIDEO_PATH))) {
+            assertAll(
+                    () -> assertEquals(1280, mediaInfo.getWidth()),
+                    () -> assertEquals(Duration.ofMillis(5312), mediaInfo.getDuration()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void getWidth_withUtf8Binding_shouldReturnWidth() {
+        final MediaInfoLibrary library = MediaInfoLibrary.newInstance(MediaInfoLibrary.Binding.UTF8);
+        try (MyTestVideoInfo mediaInfo = new MyTestVideoInfo(new MediaInfoAccessor(library))
+                .open(new File(SAMPLE_MP4_VIDEO_PATH))) {
+            assertAll(
+                    () -> assertEquals(1280, mediaInfo.getWidth()),
+                    () -> assertEquals(List.of("AVC"), mediaInfo.getVideoCodecs()),
+                    () -> assertEquals(1280L, mediaInfo.getAccessor().getLong(StreamType.Video, 0, "Width", -1L)));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void get_withUtf8BindingAndNonAsciiFileName_shouldReturnDecodedValue(@TempDir final Path tempDir) {
+        final String fileName = "Vid\u00e9o_\u65e5\u672c\u8a9e";
+        // The JVM must be able to represent the file name on the file system to create the test file
+        assumeTrue(Charset.forName(System.getProperty("sun.jnu.encoding", "UTF-8")).newEncoder().canEncode(fileName));
+        final Path file = Files.copy(Path.of(SAMPLE_MKV_VIDEO_PATH), tempDir.resolve(fileName + ".mkv"));
+
+        final MediaInfoLibrary library = MediaInfoLibrary.newInstance(MediaInfoLibrary.Binding.UTF8);
+        try (MyTestVideoInfo mediaInfo = new MyTestVideoInfo(new MediaInfoAccessor(library))
+                .open(file.toFile(), MediaInfoBase.OpenMode.NATIVE)) {
+            assertAll(
+                    () -> assertEquals(fileName, mediaInfo.getAccessor().get(StreamType.General, 0, "FileName")),
+                    () -> assertEquals(1280, mediaInfo.getWidth()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void getWidth_withMemoryMapMode_shouldReturnWidth() {
+        try (MyTestVideoInfo mediaInfo = new MyTestVideoInfo(new MediaInfoAccessor(MediaInfoLibrary.newInstance()))
+                .open(new File(SAMPLE_MKV_VIDEO_PATH), MediaInfoBase.OpenMode.MEMORY_MAP)) {
+            assertAll(
+                    () -> assertEquals(1280, mediaInfo.getWidth()),
+                    () -> assertEquals(Duration.ofMillis(3600), mediaInfo.getDuration()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void getWidth_withReadAheadMode_shouldReturnWidth() {
+        try (MyTestVideoInfo mediaInfo = new MyTestVideoInfo(new MediaInfoAccessor(MediaInfoLibrary.newInstance()))
+                .open(new File(SAMPLE_MP4_VIDEO_PATH), MediaInfoBase.OpenMode.READ_AHEAD)) {
+            assertAll(
+                    () -> assertEquals(1280, mediaInfo.getWidth()),
+                    () -> assertEquals(Duration.ofMillis(5312), mediaInfo.getDuration()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void getWidth_withRangeReader_shouldReturnWidthWithinTwoRoundTrips() {
+        final LatencyRangeReader reader = LatencyRangeReader.of(Path.of(SAMPLE_MP4_VIDEO_PATH), Duration.ofMillis(20));
+        try (MyTestVideoInfo mediaInfo = new MyTestVideoInfo(new MediaInfoAccessor(MediaInfoLibrary.newInstance()))
+                .open(reader)) {
+            assertAll(
+                    () -> assertEquals(1280, mediaInfo.getWidth()),
+                    () -> assertEquals(Duration.ofMillis(5312), mediaInfo.getDuration()),
+                    // The sample spans two 1 MB blocks, each of which is fetched at most once
+                    () -> assertTrue(reader.getRoundTrips() <= 2));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void get_withParameterIndexResolution_shouldMatchNameBasedQueries() {
+        final MediaInfoLibrary library = MediaInfoLibrary.newInstance();
+        final Map<StreamType, List<String>> parameters = Map.of(
+                StreamType.General, List.of("Format", "Duration", "FileSize", "OverallBitRate", "Video_Codec_List"),
+                StreamType.Video, List.of("Format", "Width", "Height", "FrameRate", "BitRate"),
+                StreamType.Audio, List.of("Format", "Channels", "SamplingRate", "BitRate"));
+
+        for (final String path : List.of(SAMPLE_MKV_VIDEO_PATH, SAMPLE_MP4_VIDEO_PATH)) {
+            final MediaInfoAccessor nameAccessor = new MediaInfoAccessor(library, false);
+            final MediaInfoAccessor indexAccessor = new MediaInfoAccessor(library, true);
+            try (MyTestVideoInfo byName = new MyTestVideoInfo(nameAccessor).open(new File(path));
+                 MyTestVideoInfo byIndex = new MyTestVideoInfo(indexAccessor).open(new File(path))) {
+                assertEquals("1280", indexAccessor.get(StreamType.Video, 0, "Width"));
+                parameters.forEach((streamType, names) -> names.forEach(name -> assertEquals(
+                        nameAccessor.get(streamType, 0, name),
+                        indexAccessor.get(streamType, 0, name),
+                        path + " " + streamType + " " + name)));
+            }
+        }
+    }
+
+    @Test
+    public void get_withMediaInfoListDirectory_shouldReturnValuePerFile() {
+        try (MediaInfoListAccessor accessor = new MediaInfoListAccessor(MediaInfoListLibrary.newInstance())) {
+            final int numFiles = accessor.open("src/test", MediaInfoListLibrary.FileOption.NO_RECURSIVE);
+
+            assertAll(
+                    () -> assertEquals(2, numFiles),
+                    () -> assertEquals(2, accessor.getFileCount()),
+                    () -> assertEquals("1280", accessor.get(0, StreamType.Video, 0, "Width")),
+                    () -> assertEquals("1280", accessor.get(1, StreamType.Video, 0, "Width")));
+        }
+    }
 }
@@ -26,10 +26,12 @@ import com.amilesend.mediainfo.lib.MediaInfoAccessor;
 import com.amilesend.mediainfo.type.Status;
 import com.amilesend.mediainfo.util.StringUtils;
 import com.sun.jna.Platform;
+import com.sun.jna.Pointer;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
@@ -37,14 +39,28 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.RandomAccessFile;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -56,18 +72,22 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class MediaInfoBaseTest {
+    private static final int MIN_FILE_SIZE = 65536;
+
     @Mock
     private MediaInfoAccessor mockAccessor;
     private MyTestVideoInfo mediaInfoUnderTest;
@@ -96,7 +116,7 @@ public class MediaInfoBaseTest {
     public void open_withReadViaBuffer_shouldReturnMediaInfo() {
         final File mockFile = setUpMockFile();
         doReturn(true).when(mediaInfoUnderTest).preferOpenViaBuffer(anyString());
-        doReturn(mediaInfoUnderTest).when(mediaInfoUnderTest).readViaBuffer(any(File.class));
+        doReturn(mediaInfoUnderTest).when(mediaInfoUnderTest).readViaBuffer(any(File.class), any(ChunkSizing.class));
 
         final MyTestVideoInfo actual = mediaInfoUnderTest.open(mockFile);
 
@@ -121,6 +141,173 @@ public class MediaInfoBaseTest {
                 () -> verify(mockAccessor).open(isA(String.class)));
     }
 
+    @Test
+    @SneakyThrows
+    public void open_withBufferMode_shouldReadViaBuffer() {
+        final File mockFile = setUpMockFile();
+        doReturn(mediaInfoUnderTest).when(mediaInfoUnderTest).readViaBuffer(any(File.class), any(ChunkSizing.class));
+
+        final MyTestVideoInfo actual = mediaInfoUnderTest.open(mockFile, MediaInfoBase.OpenMode.BUFFER);
+
+        assertAll(
+                () -> assertEquals(mediaInfoUnderTest, actual),
+                () -> verify(mediaInfoUnderTest, never()).preferOpenViaBuffer(anyString()),
+                () -> verifyNoInteractions(mockAccessor));
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withMemoryMapMode_shouldReadViaMemoryMap() {
+        final File mockFile = setUpMockFile();
+        doReturn(mediaInfoUnderTest).when(mediaInfoUnderTest).readViaMemoryMap(any(File.class), any(ChunkSizing.class));
+
+        final MyTestVideoInfo actual = mediaInfoUnderTest.open(mockFile, MediaInfoBase.OpenMode.MEMORY_MAP);
+
+        assertAll(
+                () -> assertEquals(mediaInfoUnderTest, actual),
+                () -> verify(mediaInfoUnderTest, never()).preferOpenViaBuffer(anyString()),
+                () -> verify(mediaInfoUnderTest, never()).readViaBuffer(any(File.class), any(ChunkSizing.class)),
+                () -> verifyNoInteractions(mockAccessor));
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withReadAheadMode_shouldReadViaReadAhead() {
+        final File mockFile = setUpMockFile();
+        doReturn(mediaInfoUnderTest).when(mediaInfoUnderTest).readViaReadAhead(any(File.class), any(ChunkSizing.class));
+
+        final MyTestVideoInfo actual = mediaInfoUnderTest.open(mockFile, MediaInfoBase.OpenMode.READ_AHEAD);
+
+        assertAll(
+                () -> assertEquals(mediaInfoUnderTest, actual),
+                () -> verify(mediaInfoUnderTest, never()).preferOpenViaBuffer(anyString()),
+                () -> verifyNoInteractions(mockAccessor));
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withScanProfile_shouldApplyOptionsAndReadViaBuffer() {
+        final File mockFile = setUpMockFile();
+        doReturn(mediaInfoUnderTest).when(mediaInfoUnderTest).readViaBuffer(any(File.class), any(ChunkSizing.class));
+        when(mockAccessor.getOption(eq("ParseSpeed_Get"))).thenReturn("0.300");
+        when(mockAccessor.getOption(eq("File_TestContinuousFileNames_Get"))).thenReturn("1");
+
+        final MyTestVideoInfo actual = mediaInfoUnderTest.open(mockFile, ScanProfile.QUICK);
+
+        assertAll(
+                () -> assertEquals(mediaInfoUnderTest, actual),
+                () -> verify(mediaInfoUnderTest, never()).preferOpenViaBuffer(anyString()),
+                () -> verify(mockAccessor).setOption(eq("ParseSpeed"), eq("0.0")),
+                () -> verify(mockAccessor).setOption(eq("ParseSpeed"), eq("0.300")),
+                () -> verify(mockAccessor).setOption(eq("File_TestContinuousFileNames"), eq("0")),
+                () -> verify(mockAccessor).setOption(eq("File_TestContinuousFileNames"), eq("1")));
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withScanProfileAndFailedOpen_shouldRestorePreviousOptions() {
+        final File mockFile = setUpMockFile();
+        final ScanProfile profile = ScanProfile.builder().parseSpeed(0.0).build();
+        doReturn(false).when(mediaInfoUnderTest).preferOpenViaBuffer(anyString());
+        when(mockAccessor.getOption(eq("ParseSpeed_Get"))).thenReturn("0.500");
+        when(mockAccessor.open(anyString())).thenReturn(false);
+
+        assertAll(
+                () -> assertThrows(IOException.class, () -> mediaInfoUnderTest.open(mockFile, profile)),
+                () -> verify(mockAccessor).setOption(eq("ParseSpeed"), eq("0.500")));
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withScanProfileAndUnreadableOption_shouldNotRestoreOption() {
+        final File mockFile = setUpMockFile();
+        final ScanProfile profile = ScanProfile.builder().option("Custom", "0").build();
+        doReturn(false).when(mediaInfoUnderTest).preferOpenViaBuffer(anyString());
+        when(mockAccessor.getOption(eq("Custom_Get"))).thenReturn("Option not known");
+        when(mockAccessor.open(anyString())).thenReturn(true);
+
+        mediaInfoUnderTest.open(mockFile, profile);
+
+        assertAll(
+                () -> verify(mockAccessor).setOption(eq("Custom"), eq("0")),
+                () -> verify(mockAccessor, times(1)).setOption(eq("Custom"), anyString()));
+    }
+
+    @Test
+    public void open_withNativeModeAndByteLimitedProfile_shouldThrowException() {
+        final File mockFile = mock(File.class);
+        when(mockFile.isFile()).thenReturn(true);
+        when(mockFile.length()).thenReturn(4194304L);
+
+        assertThrows(IllegalArgumentException.class, () -> mediaInfoUnderTest.open(
+                mockFile, MediaInfoBase.OpenMode.NATIVE, ChunkSizing.DEFAULT, ScanProfile.QUICK));
+    }
+
+    @Test
+    public void open_withNativeModeAndTimeLimitedProfile_shouldThrowException() {
+        final File mockFile = mock(File.class);
+        when(mockFile.isFile()).thenReturn(true);
+        when(mockFile.length()).thenReturn(4194304L);
+        final ScanProfile profile = ScanProfile.builder().timeout(Duration.ofSeconds(1L)).build();
+
+        assertThrows(IllegalArgumentException.class, () -> mediaInfoUnderTest.open(
+                mockFile, MediaInfoBase.OpenMode.NATIVE, ChunkSizing.DEFAULT, profile));
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withTimeLimitedProfile_shouldReadViaBuffer() {
+        final File mockFile = setUpMockFile();
+        final ScanProfile profile = ScanProfile.builder().timeout(Duration.ofSeconds(1L)).build();
+        doReturn(mediaInfoUnderTest).when(mediaInfoUnderTest).readViaBuffer(any(File.class), any(ChunkSizing.class));
+
+        final MyTestVideoInfo actual = mediaInfoUnderTest.open(mockFile, profile);
+
+        assertAll(
+                () -> assertEquals(mediaInfoUnderTest, actual),
+                () -> verify(mediaInfoUnderTest, never()).preferOpenViaBuffer(anyString()),
+                () -> verify(mockAccessor, never()).open(anyString()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void openUntrusted_withFile_shouldReadViaBuffer() {
+        final File mockFile = setUpMockFile();
+        doReturn(mediaInfoUnderTest).when(mediaInfoUnderTest).readViaBuffer(any(File.class), any(ChunkSizing.class));
+
+        final MyTestVideoInfo actual = mediaInfoUnderTest.openUntrusted(mockFile, Duration.ofSeconds(1L));
+
+        assertAll(
+                () -> assertEquals(mediaInfoUnderTest, actual),
+                () -> verify(mediaInfoUnderTest).readViaBuffer(eq(mockFile), eq(ChunkSizing.DEFAULT)),
+                () -> verifyNoInteractions(mockAccessor));
+    }
+
+    @Test
+    public void openUntrusted_withInvalidTimeout_shouldThrowException() {
+        final File mockFile = mock(File.class);
+
+        assertAll(
+                () -> assertThrows(NullPointerException.class,
+                        () -> mediaInfoUnderTest.openUntrusted(mockFile, null)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> mediaInfoUnderTest.openUntrusted(mockFile, Duration.ZERO)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withNativeMode_shouldOpenByPath() {
+        final File mockFile = setUpMockFile();
+        when(mockAccessor.open(anyString())).thenReturn(true);
+
+        final MyTestVideoInfo actual = mediaInfoUnderTest.open(mockFile, MediaInfoBase.OpenMode.NATIVE);
+
+        assertAll(
+                () -> assertEquals(mediaInfoUnderTest, actual),
+                () -> verify(mediaInfoUnderTest, never()).preferOpenViaBuffer(anyString()),
+                () -> verify(mockAccessor).open(eq("/full/path/to/file.mkv")));
+    }
+
     @Test
     @SneakyThrows
     public void open_withOpenFailing_shouldThrowException() {
@@ -133,7 +320,158 @@ public class MediaInfoBaseTest {
 
     @Test
     public void open_withNullFile_shouldThrowException() {
-        assertThrows(NullPointerException.class, () -> mediaInfoUnderTest.open(null));
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> mediaInfoUnderTest.open((File) null)),
+                () -> assertThrows(NullPointerException.class, () -> mediaInfoUnderTest.open((Path) null)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> mediaInfoUnderTest.open(setUpMockFile(), (MediaInfoBase.OpenMode) null)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> mediaInfoUnderTest.open(setUpMockFile(), (ScanProfile) null)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withChannel_shouldReadViaSource() {
+        final SeekableByteChannel mockChannel = mock(SeekableByteChannel.class);
+        doReturn(true).when(mediaInfoUnderTest).openViaSource(any(BufferSource.class), any(ChunkSizing.class));
+
+        final MyTestVideoInfo actual = mediaInfoUnderTest.open(mockChannel, 1024L);
+
+        assertAll(
+                () -> assertEquals(mediaInfoUnderTest, actual),
+                () -> verify(mediaInfoUnderTest).openViaSource(isA(ChannelBufferSource.class), eq(ChunkSizing.DEFAULT)),
+                () -> verify(mockChannel, never()).close());
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withChannelOpenFailing_shouldThrowException() {
+        final SeekableByteChannel mockChannel = mock(SeekableByteChannel.class);
+        doReturn(false).when(mediaInfoUnderTest).openViaSource(any(BufferSource.class), any(ChunkSizing.class));
+
+        assertThrows(IOException.class, () -> mediaInfoUnderTest.open(mockChannel, 1024L));
+    }
+
+    @Test
+    public void open_withInvalidChannelSize_shouldThrowException() {
+        final SeekableByteChannel mockChannel = mock(SeekableByteChannel.class);
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> mediaInfoUnderTest.open(mockChannel, 0L)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> mediaInfoUnderTest.open((SeekableByteChannel) null, 1024L)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withDefaultFileSystemPath_shouldOpenFile() {
+        final Path path = Path.of("/full/path/to/file.mkv");
+        doReturn(mediaInfoUnderTest).when(mediaInfoUnderTest).open(any(File.class));
+
+        final MyTestVideoInfo actual = mediaInfoUnderTest.open(path);
+
+        assertAll(
+                () -> assertEquals(mediaInfoUnderTest, actual),
+                () -> verify(mediaInfoUnderTest).open(eq(path.toFile())));
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withZipFileSystemPath_shouldReadViaChannel(@TempDir final Path tempDir) {
+        final Path zipPath = tempDir.resolve("media.zip");
+        final URI zipUri = URI.create("jar:" + zipPath.toUri());
+        try (FileSystem zipFs = FileSystems.newFileSystem(zipUri, Map.of("create", "true"))) {
+            Files.write(zipFs.getPath("file.mkv"), new byte[1024]);
+        }
+
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
+        when(mockAccessor.openBufferContinue(any(Pointer.class), anyInt())).thenReturn(Status.Finalized.getValue());
+
+        try (FileSystem zipFs = FileSystems.newFileSystem(zipPath, (ClassLoader) null)) {
+            final MyTestVideoInfo actual = mediaInfoUnderTest.open(zipFs.getPath("file.mkv"));
+
+            assertAll(
+                    () -> assertEquals(mediaInfoUnderTest, actual),
+                    () -> verify(mockAccessor).openBufferInit(eq(1024L), eq(0L)),
+                    () -> verify(mockAccessor).openBufferContinue(any(Pointer.class), eq(1024)),
+                    () -> verify(mockAccessor).openBufferFinalize());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withByteArray_shouldFeedBytes() {
+        final byte[] content = new byte[1024];
+        new SecureRandom().nextBytes(content);
+        final List<byte[]> fedBytes = new ArrayList<>();
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
+        when(mockAccessor.openBufferContinue(any(Pointer.class), anyInt())).thenAnswer(invocation -> {
+            final Pointer buffer = invocation.getArgument(0);
+            fedBytes.add(buffer.getByteArray(0L, invocation.getArgument(1)));
+            return Status.Finalized.getValue();
+        });
+
+        final MyTestVideoInfo actual = mediaInfoUnderTest.open(content, 24, 1000);
+
+        assertAll(
+                () -> assertEquals(mediaInfoUnderTest, actual),
+                () -> assertArrayEquals(Arrays.copyOfRange(content, 24, 1024), fedBytes.get(0)),
+                () -> verify(mockAccessor).openBufferInit(eq(1000L), eq(0L)),
+                () -> assertTrue(mediaInfoUnderTest.getBufferReadStats().isDataSufficient()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withPartialDirectBuffer_shouldReportInsufficientData() {
+        final ByteBuffer data = ByteBuffer.allocateDirect(1024);
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
+        when(mockAccessor.openBufferContinue(any(Pointer.class), anyInt())).thenReturn(Status.Accepted.getValue());
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(1048000L);
+
+        final MyTestVideoInfo actual = mediaInfoUnderTest.open(data, 1048576L);
+
+        assertAll(
+                () -> assertEquals(mediaInfoUnderTest, actual),
+                () -> verify(mockAccessor).openBufferInit(eq(1048576L), eq(0L)),
+                () -> verify(mockAccessor).openBufferInit(eq(1048576L), eq(1048000L)),
+                () -> verify(mockAccessor).openBufferFinalize(),
+                () -> assertFalse(mediaInfoUnderTest.getBufferReadStats().isDataSufficient()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withRangeReader_shouldReadViaSource() {
+        final LatencyRangeReader reader = new LatencyRangeReader(new byte[1024], Duration.ZERO);
+        doReturn(true).when(mediaInfoUnderTest).openViaSource(any(BufferSource.class), any(ChunkSizing.class));
+
+        final MyTestVideoInfo actual = mediaInfoUnderTest.open(reader);
+
+        assertAll(
+                () -> assertEquals(mediaInfoUnderTest, actual),
+                () -> verify(mediaInfoUnderTest)
+                        .openViaSource(isA(RangeReaderBufferSource.class), eq(ChunkSizing.DEFAULT)));
+    }
+
+    @Test
+    public void open_withEmptyRangeReader_shouldThrowException() {
+        final LatencyRangeReader reader = new LatencyRangeReader(new byte[0], Duration.ZERO);
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> mediaInfoUnderTest.open(reader)),
+                () -> assertThrows(NullPointerException.class, () -> mediaInfoUnderTest.open((RangeReader) null)));
+    }
+
+    @Test
+    public void open_withInvalidByteData_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> mediaInfoUnderTest.open(ByteBuffer.allocate(0))),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> mediaInfoUnderTest.open(ByteBuffer.allocate(16), 8L)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> mediaInfoUnderTest.open(new byte[16], 8, 16)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> mediaInfoUnderTest.open((ByteBuffer) null)));
     }
 
     @Test
@@ -172,10 +510,10 @@ public class MediaInfoBaseTest {
     @SneakyThrows
     public void readViaBuffer_withFileOpened_shouldReturnMediaInfo() {
         final File mockFile = mock(File.class);
-        doReturn(true).when(mediaInfoUnderTest).openViaBuffer(any(RandomAccessFile.class));
+        doReturn(true).when(mediaInfoUnderTest).openViaBuffer(any(RandomAccessFile.class), any(ChunkSizing.class));
 
         try (MockedConstruction<RandomAccessFile> rafCons = mockConstruction(RandomAccessFile.class)) {
-            final MyTestVideoInfo actual = mediaInfoUnderTest.readViaBuffer(mockFile);
+            final MyTestVideoInfo actual = mediaInfoUnderTest.readViaBuffer(mockFile, ChunkSizing.DEFAULT);
 
             assertEquals(mediaInfoUnderTest, actual);
         }
@@ -186,10 +524,10 @@ public class MediaInfoBaseTest {
     public void readViaBuffer_withFailedFileOpen_shouldThrowException() {
         final File mockFile = mock(File.class);
         when(mockFile.getCanonicalPath()).thenReturn("/path/file.mkv");
-        doReturn(false).when(mediaInfoUnderTest).openViaBuffer(any(RandomAccessFile.class));
+        doReturn(false).when(mediaInfoUnderTest).openViaBuffer(any(RandomAccessFile.class), any(ChunkSizing.class));
 
         try (MockedConstruction<RandomAccessFile> rafCons = mockConstruction(RandomAccessFile.class)) {
-            assertThrows(IOException.class, () -> mediaInfoUnderTest.readViaBuffer(mockFile));
+            assertThrows(IOException.class, () -> mediaInfoUnderTest.readViaBuffer(mockFile, ChunkSizing.DEFAULT));
         }
     }
 
@@ -201,27 +539,31 @@ public class MediaInfoBaseTest {
     @SneakyThrows
     public void openViaBuffer_withBufferAllocated_shouldReadFile() {
         final RandomAccessFile mockFile = mock(RandomAccessFile.class);
-        when(mockFile.read(any(byte[].class))).thenReturn(0);
+        final FileChannel mockChannel = mock(FileChannel.class);
+        when(mockFile.getChannel()).thenReturn(mockChannel);
+        when(mockChannel.read(any(ByteBuffer.class))).thenReturn(0);
         when(mockFile.length()).thenReturn(512L);
         when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
-        when(mockAccessor.openBufferContinue(any(byte[].class), anyInt())).thenReturn(Status.Updated.getValue());
+        when(mockAccessor.openBufferContinue(any(Pointer.class), anyInt())).thenReturn(Status.Updated.getValue());
         when(mockAccessor.openBufferContinueGotoGet()).thenReturn(1L);
         when(mockAccessor.openBufferFinalize()).thenReturn(0);
 
-        assertTrue(mediaInfoUnderTest.openViaBuffer(mockFile));
+        assertTrue(mediaInfoUnderTest.openViaBuffer(mockFile, ChunkSizing.DEFAULT));
     }
 
     @Test
     @SneakyThrows
     public void openViaBuffer_withBufferAllocatedAndNoGotoPos_shouldReadFile() {
         final RandomAccessFile mockFile = mock(RandomAccessFile.class);
-        when(mockFile.read(any(byte[].class))).thenReturn(0);
+        final FileChannel mockChannel = mock(FileChannel.class);
+        when(mockFile.getChannel()).thenReturn(mockChannel);
+        when(mockChannel.read(any(ByteBuffer.class))).thenReturn(0);
         when(mockFile.length()).thenReturn(512L);
         when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
-        when(mockAccessor.openBufferContinue(any(byte[].class), anyInt())).thenReturn(Status.Updated.getValue());
+        when(mockAccessor.openBufferContinue(any(Pointer.class), anyInt())).thenReturn(Status.Updated.getValue());
         when(mockAccessor.openBufferContinueGotoGet()).thenReturn(-1L);
 
-        final boolean actual = mediaInfoUnderTest.openViaBuffer(mockFile);
+        final boolean actual = mediaInfoUnderTest.openViaBuffer(mockFile, ChunkSizing.DEFAULT);
 
         assertAll(
                 () -> assertTrue(actual),
@@ -232,28 +574,58 @@ public class MediaInfoBaseTest {
     @SneakyThrows
     public void openViaBuffer_withBufferAllocatedAndFinalized_shouldReadFile() {
         final RandomAccessFile mockFile = mock(RandomAccessFile.class);
-        when(mockFile.read(any(byte[].class))).thenReturn(0);
+        final FileChannel mockChannel = mock(FileChannel.class);
+        when(mockFile.getChannel()).thenReturn(mockChannel);
+        when(mockChannel.read(any(ByteBuffer.class))).thenReturn(0);
         when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
-        when(mockAccessor.openBufferContinue(any(byte[].class), anyInt())).thenReturn(8);
+        when(mockAccessor.openBufferContinue(any(Pointer.class), anyInt())).thenReturn(8);
 
-        final boolean actual = mediaInfoUnderTest.openViaBuffer(mockFile);
+        final boolean actual = mediaInfoUnderTest.openViaBuffer(mockFile, ChunkSizing.DEFAULT);
 
         assertAll(
                 () -> assertTrue(actual),
                 () -> verify(mockAccessor, never()).openBufferContinueGotoGet());
     }
 
+    @Test
+    @SneakyThrows
+    public void openViaBuffer_withAdaptiveSizing_shouldLimitReads() {
+        final RandomAccessFile mockFile = mock(RandomAccessFile.class);
+        final FileChannel mockChannel = mock(FileChannel.class);
+        final List<Integer> requestedSizes = new ArrayList<>();
+        when(mockFile.getChannel()).thenReturn(mockChannel);
+        when(mockChannel.read(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            requestedSizes.add(buffer.remaining());
+            return buffer.remaining();
+        });
+        when(mockFile.length()).thenReturn(1048576L);
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
+        when(mockAccessor.openBufferContinue(any(Pointer.class), anyInt()))
+                .thenReturn(Status.Accepted.getValue())
+                .thenReturn(Status.Accepted.getValue())
+                .thenReturn(Status.Finalized.getValue());
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(-1L);
+
+        final boolean actual = mediaInfoUnderTest.openViaBuffer(mockFile, ChunkSizing.adaptive(1024, 2048));
+
+        assertAll(
+                () -> assertTrue(actual),
+                () -> assertEquals(List.of(1024, 2048, 2048), requestedSizes),
+                () -> assertEquals(5120L, mediaInfoUnderTest.getBufferReadStats().getBytesRead()));
+    }
+
     @Test
     @SneakyThrows
     public void openViaBuffer_withBufferInitFailed_shouldNotReadFile() {
         final RandomAccessFile mockFile = mock(RandomAccessFile.class);
         when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(false);
 
-        final boolean actual = mediaInfoUnderTest.openViaBuffer(mockFile);
+        final boolean actual = mediaInfoUnderTest.openViaBuffer(mockFile, ChunkSizing.DEFAULT);
 
         assertAll(
                 () -> assertFalse(actual),
-                () -> verify(mockAccessor, never()).openBufferContinue(any(byte[].class), anyInt()),
+                () -> verify(mockAccessor, never()).openBufferContinue(any(Pointer.class), anyInt()),
                 () -> verify(mockAccessor, never()).openBufferFinalize());
     }
 
@@ -261,14 +633,16 @@ public class MediaInfoBaseTest {
     @SneakyThrows
     public void openViaBuffer_withEndOfFileReached_shouldNotReadFile() {
         final RandomAccessFile mockFile = mock(RandomAccessFile.class);
-        when(mockFile.read(any(byte[].class))).thenReturn(-1); // End of file reached
+        final FileChannel mockChannel = mock(FileChannel.class);
+        when(mockFile.getChannel()).thenReturn(mockChannel);
+        when(mockChannel.read(any(ByteBuffer.class))).thenReturn(-1); // End of file reached
         when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
 
-        final boolean actual = mediaInfoUnderTest.openViaBuffer(mockFile);
+        final boolean actual = mediaInfoUnderTest.openViaBuffer(mockFile, ChunkSizing.DEFAULT);
 
         assertAll(
                 () -> assertTrue(actual),
-                () -> verify(mockAccessor, never()).openBufferContinue(any(byte[].class), anyInt()),
+                () -> verify(mockAccessor, never()).openBufferContinue(any(Pointer.class), anyInt()),
                 () -> verify(mockAccessor, never()).openBufferContinueGotoGet(),
                 () -> verify(mockAccessor).openBufferFinalize());
     }
@@ -277,10 +651,323 @@ public class MediaInfoBaseTest {
     @SneakyThrows
     public void openViaBuffer_withIOException_shouldThrowException() {
         final RandomAccessFile mockFile = mock(RandomAccessFile.class);
-        when(mockFile.read(any(byte[].class))).thenThrow(new IOException("Exception"));
+        final FileChannel mockChannel = mock(FileChannel.class);
+        when(mockFile.getChannel()).thenReturn(mockChannel);
+        when(mockChannel.read(any(ByteBuffer.class))).thenThrow(new IOException("Exception"));
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
+
+        assertThrows(IOException.class, () -> mediaInfoUnderTest.openViaBuffer(mockFile, ChunkSizing.DEFAULT));
+    }
+
+    /////////////////////
+    // readViaMemoryMap
+    /////////////////////
+
+    @Test
+    @SneakyThrows
+    public void readViaMemoryMap_withFile_shouldFeedMappedBytes(@TempDir final Path tempDir) {
+        final byte[] content = new byte[MIN_FILE_SIZE];
+        new SecureRandom().nextBytes(content);
+        final File file = Files.write(tempDir.resolve("file.mkv"), content).toFile();
+        final List<byte[]> fedBytes = new ArrayList<>();
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
+        when(mockAccessor.openBufferContinue(any(Pointer.class), anyInt())).thenAnswer(invocation -> {
+            final Pointer buffer = invocation.getArgument(0);
+            fedBytes.add(buffer.getByteArray(0L, invocation.getArgument(1)));
+            return Status.Accepted.getValue();
+        });
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(-1L);
+
+        final MyTestVideoInfo actual = mediaInfoUnderTest.readViaMemoryMap(file, ChunkSizing.DEFAULT);
+
+        assertAll(
+                () -> assertEquals(mediaInfoUnderTest, actual),
+                () -> assertEquals(1, fedBytes.size()),
+                () -> assertArrayEquals(content, fedBytes.get(0)),
+                () -> verify(mockAccessor).openBufferInit(eq((long) MIN_FILE_SIZE), eq(0L)),
+                () -> verify(mockAccessor).openBufferFinalize());
+    }
+
+    @Test
+    @SneakyThrows
+    public void readViaMemoryMap_withFailedBufferInit_shouldThrowException(@TempDir final Path tempDir) {
+        final File file = Files.write(tempDir.resolve("file.mkv"), new byte[MIN_FILE_SIZE]).toFile();
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(false);
+
+        assertThrows(IOException.class, () -> mediaInfoUnderTest.readViaMemoryMap(file, ChunkSizing.DEFAULT));
+    }
+
+    /////////////////////
+    // readViaReadAhead
+    /////////////////////
+
+    @Test
+    @SneakyThrows
+    public void readViaReadAhead_withFile_shouldFeedFileBytesInOrder(@TempDir final Path tempDir) {
+        final byte[] content = new byte[MIN_FILE_SIZE * 4];
+        new SecureRandom().nextBytes(content);
+        final File file = Files.write(tempDir.resolve("file.mkv"), content).toFile();
+        final List<byte[]> fedBytes = new ArrayList<>();
         when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
+        when(mockAccessor.openBufferContinue(any(Pointer.class), anyInt())).thenAnswer(invocation -> {
+            final Pointer buffer = invocation.getArgument(0);
+            fedBytes.add(buffer.getByteArray(0L, invocation.getArgument(1)));
+            return Status.Accepted.getValue();
+        });
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(-1L);
+
+        final MyTestVideoInfo actual = mediaInfoUnderTest.readViaReadAhead(file, ChunkSizing.DEFAULT);
+
+        final ByteBuffer fed = ByteBuffer.allocate(content.length);
+        fedBytes.forEach(fed::put);
+        assertAll(
+                () -> assertEquals(mediaInfoUnderTest, actual),
+                () -> assertEquals(3, fedBytes.size()),
+                () -> assertArrayEquals(content, fed.array()),
+                () -> verify(mockAccessor).openBufferFinalize());
+    }
 
-        assertThrows(IOException.class, () -> mediaInfoUnderTest.openViaBuffer(mockFile));
+    @Test
+    @SneakyThrows
+    public void readViaReadAhead_withFailedBufferInit_shouldThrowException(@TempDir final Path tempDir) {
+        final File file = Files.write(tempDir.resolve("file.mkv"), new byte[MIN_FILE_SIZE]).toFile();
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(false);
+
+        assertThrows(IOException.class, () -> mediaInfoUnderTest.readViaReadAhead(file, ChunkSizing.DEFAULT));
+    }
+
+    //////////////////
+    // openViaSource
+    //////////////////
+
+    @Test
+    @SneakyThrows
+    public void openViaSource_withGotoPos_shouldReadFromGotoPos() {
+        final BufferSource mockSource = mock(BufferSource.class);
+        when(mockSource.size()).thenReturn(1024L);
+        when(mockSource.read(anyLong(), anyInt())).thenReturn(new BufferSource.Chunk(Pointer.NULL, 128));
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
+        when(mockAccessor.openBufferContinue(any(Pointer.class), anyInt()))
+                .thenReturn(Status.Accepted.getValue())
+                .thenReturn(Status.Accepted.getValue())
+                .thenReturn(Status.Finalized.getValue());
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(-1L).thenReturn(896L);
+
+        final boolean actual = mediaInfoUnderTest.openViaSource(mockSource, ChunkSizing.fixed(128));
+
+        assertAll(
+                () -> assertTrue(actual),
+                () -> verify(mockSource).read(eq(0L), eq(128)),
+                () -> verify(mockSource).read(eq(128L), eq(128)),
+                () -> verify(mockSource).read(eq(896L), eq(128)),
+                () -> verify(mockAccessor).openBufferInit(eq(1024L), eq(896L)),
+                () -> verify(mockAccessor).openBufferFinalize());
+    }
+
+    @Test
+    @SneakyThrows
+    public void openViaSource_withAdaptiveSizing_shouldGrowAndShrinkAfterGotoPos() {
+        final BufferSource mockSource = mock(BufferSource.class);
+        when(mockSource.size()).thenReturn(4096L);
+        when(mockSource.read(anyLong(), anyInt())).thenAnswer(invocation ->
+                new BufferSource.Chunk(Pointer.NULL, invocation.getArgument(1)));
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
+        when(mockAccessor.openBufferContinue(any(Pointer.class), anyInt()))
+                .thenReturn(Status.Accepted.getValue())
+                .thenReturn(Status.Accepted.getValue())
+                .thenReturn(Status.Accepted.getValue())
+                .thenReturn(Status.Finalized.getValue());
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(-1L).thenReturn(-1L).thenReturn(4000L);
+
+        final boolean actual = mediaInfoUnderTest.openViaSource(mockSource, ChunkSizing.adaptive(64, 256));
+
+        final BufferReadStats stats = mediaInfoUnderTest.getBufferReadStats();
+        assertAll(
+                () -> assertTrue(actual),
+                () -> verify(mockSource).read(eq(0L), eq(64)),
+                () -> verify(mockSource).read(eq(64L), eq(128)),
+                () -> verify(mockSource).read(eq(192L), eq(256)),
+                () -> verify(mockSource).read(eq(4000L), eq(64)),
+                () -> assertEquals(new BufferReadStats(512L, 320L, 4, 1, true, false, false, false, false), stats));
+    }
+
+    @Test
+    @SneakyThrows
+    public void openViaSource_withByteBudgetReached_shouldFinalizeAsTruncated() {
+        final File mockFile = setUpMockFile();
+        final BufferSource mockSource = mock(BufferSource.class);
+        final ScanProfile profile = ScanProfile.builder().maxBytes(100L).build();
+        when(mockSource.size()).thenReturn(4096L);
+        when(mockSource.read(anyLong(), anyInt())).thenAnswer(invocation ->
+                new BufferSource.Chunk(Pointer.NULL, invocation.getArgument(1)));
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
+        when(mockAccessor.openBufferContinue(any(Pointer.class), anyInt())).thenReturn(Status.Accepted.getValue());
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(-1L);
+        doAnswer(invocation -> mediaInfoUnderTest.openViaSource(mockSource, ChunkSizing.adaptive(64, 256))
+                ? mediaInfoUnderTest : null)
+                .when(mediaInfoUnderTest).readViaBuffer(any(File.class), any(ChunkSizing.class));
+
+        mediaInfoUnderTest.open(mockFile, profile);
+
+        final BufferReadStats stats = mediaInfoUnderTest.getBufferReadStats();
+        assertAll(
+                () -> verify(mockSource).read(eq(0L), eq(64)),
+                () -> verify(mockSource).read(eq(64L), eq(36)),
+                () -> verify(mockAccessor).openBufferFinalize(),
+                () -> assertEquals(100L, stats.getBytesRead()),
+                () -> assertTrue(stats.isTruncated()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void openViaSource_withTimeoutElapsed_shouldFinalizeAsTimedOut() {
+        final File mockFile = setUpMockFile();
+        final BufferSource mockSource = mock(BufferSource.class);
+        final ScanProfile profile = ScanProfile.builder().timeout(Duration.ofNanos(1L)).build();
+        when(mockSource.size()).thenReturn(4096L);
+        when(mockSource.read(anyLong(), anyInt())).thenReturn(new BufferSource.Chunk(Pointer.NULL, 128));
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
+        when(mockAccessor.openBufferContinue(any(Pointer.class), anyInt())).thenReturn(Status.Accepted.getValue());
+        doAnswer(invocation -> mediaInfoUnderTest.openViaSource(mockSource, ChunkSizing.fixed(128))
+                ? mediaInfoUnderTest : null)
+                .when(mediaInfoUnderTest).readViaBuffer(any(File.class), any(ChunkSizing.class));
+
+        mediaInfoUnderTest.open(mockFile, profile);
+
+        final BufferReadStats stats = mediaInfoUnderTest.getBufferReadStats();
+        assertAll(
+                () -> verify(mockSource).read(anyLong(), anyInt()),
+                () -> verify(mockAccessor).openBufferFinalize(),
+                () -> assertEquals(128L, stats.getBytesRead()),
+                () -> assertTrue(stats.isTimedOut()),
+                () -> assertTrue(stats.isPartial()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void openViaSource_withInterruptedThread_shouldFinalizeAsCancelled() {
+        final BufferSource mockSource = mock(BufferSource.class);
+        when(mockSource.size()).thenReturn(4096L);
+        when(mockSource.read(anyLong(), anyInt())).thenReturn(new BufferSource.Chunk(Pointer.NULL, 128));
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
+        when(mockAccessor.openBufferContinue(any(Pointer.class), anyInt())).thenReturn(Status.Accepted.getValue());
+
+        Thread.currentThread().interrupt();
+        final boolean actual;
+        final boolean isInterrupted;
+        try {
+            actual = mediaInfoUnderTest.openViaSource(mockSource, ChunkSizing.fixed(128));
+        } finally {
+            isInterrupted = Thread.interrupted();
+        }
+
+        final BufferReadStats stats = mediaInfoUnderTest.getBufferReadStats();
+        assertAll(
+                () -> assertTrue(actual),
+                () -> assertTrue(isInterrupted),
+                () -> verify(mockSource).read(anyLong(), anyInt()),
+                () -> verify(mockAccessor).openBufferFinalize(),
+                () -> assertTrue(stats.isCancelled()),
+                () -> assertFalse(stats.isTimedOut()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void openViaSource_withInterruptedRead_shouldFinalizeAsCancelled() {
+        final BufferSource mockSource = mock(BufferSource.class);
+        when(mockSource.size()).thenReturn(4096L);
+        when(mockSource.read(anyLong(), anyInt()))
+                .thenReturn(new BufferSource.Chunk(Pointer.NULL, 128))
+                .thenThrow(new InterruptedIOException("Interrupted"));
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
+        when(mockAccessor.openBufferContinue(any(Pointer.class), anyInt())).thenReturn(Status.Accepted.getValue());
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(-1L);
+
+        final boolean actual = mediaInfoUnderTest.openViaSource(mockSource, ChunkSizing.fixed(128));
+
+        final BufferReadStats stats = mediaInfoUnderTest.getBufferReadStats();
+        assertAll(
+                () -> assertTrue(actual),
+                () -> verify(mockAccessor).openBufferFinalize(),
+                () -> assertEquals(new BufferReadStats(128L, 0L, 1, 0, true, false, false, true, false), stats));
+    }
+
+    @Test
+    @SneakyThrows
+    public void openViaSource_withStopWhenFilled_shouldFinalizeAsSatisfied() {
+        final File mockFile = setUpMockFile();
+        final BufferSource mockSource = mock(BufferSource.class);
+        final ScanProfile profile = ScanProfile.builder().stopWhenFilled().build();
+        when(mockSource.size()).thenReturn(4096L);
+        when(mockSource.read(anyLong(), anyInt())).thenReturn(new BufferSource.Chunk(Pointer.NULL, 128));
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
+        when(mockAccessor.openBufferContinue(any(Pointer.class), anyInt()))
+                .thenReturn(Status.Accepted.getValue())
+                .thenReturn(Status.Accepted.getValue() | Status.Filled.getValue());
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(-1L);
+        doAnswer(invocation -> mediaInfoUnderTest.openViaSource(mockSource, ChunkSizing.fixed(128))
+                ? mediaInfoUnderTest : null)
+                .when(mediaInfoUnderTest).readViaBuffer(any(File.class), any(ChunkSizing.class));
+
+        mediaInfoUnderTest.open(mockFile, profile);
+
+        final BufferReadStats stats = mediaInfoUnderTest.getBufferReadStats();
+        assertAll(
+                () -> verify(mockSource).read(eq(0L), eq(128)),
+                () -> verify(mockSource).read(eq(128L), eq(128)),
+                () -> verify(mockAccessor).openBufferFinalize(),
+                () -> assertEquals(new BufferReadStats(256L, 0L, 2, 0, true, false, false, false, true), stats),
+                () -> assertFalse(stats.isPartial()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void openViaSource_withStopConditionNotMet_shouldReadUntilFinalized() {
+        final BufferSource mockSource = mock(BufferSource.class);
+        when(mockSource.size()).thenReturn(4096L);
+        when(mockSource.read(anyLong(), anyInt())).thenReturn(new BufferSource.Chunk(Pointer.NULL, 128));
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
+        when(mockAccessor.openBufferContinue(any(Pointer.class), anyInt()))
+                .thenReturn(Status.Accepted.getValue() | Status.Filled.getValue())
+                .thenReturn(Status.Accepted.getValue() | Status.Filled.getValue() | Status.Finalized.getValue());
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(-1L);
+
+        mediaInfoUnderTest.openViaSource(mockSource, ChunkSizing.fixed(128));
+
+        final BufferReadStats stats = mediaInfoUnderTest.getBufferReadStats();
+        assertAll(
+                () -> verify(mockSource).read(eq(128L), eq(128)),
+                () -> assertEquals(2, stats.getChunkCount()),
+                () -> assertFalse(stats.isSatisfied()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void openViaSource_withEndOfSource_shouldFinalize() {
+        final BufferSource mockSource = mock(BufferSource.class);
+        when(mockSource.read(anyLong(), anyInt())).thenReturn(BufferSource.Chunk.END);
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
+
+        final boolean actual = mediaInfoUnderTest.openViaSource(mockSource, ChunkSizing.fixed(128));
+
+        assertAll(
+                () -> assertTrue(actual),
+                () -> verify(mockAccessor, never()).openBufferContinue(any(Pointer.class), anyInt()),
+                () -> verify(mockAccessor).openBufferFinalize());
+    }
+
+    @Test
+    @SneakyThrows
+    public void openViaSource_withBufferInitFailed_shouldNotReadSource() {
+        final BufferSource mockSource = mock(BufferSource.class);
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(false);
+
+        final boolean actual = mediaInfoUnderTest.openViaSource(mockSource, ChunkSizing.fixed(128));
+
+        assertAll(
+                () -> assertFalse(actual),
+                () -> verify(mockSource, never()).read(anyLong(), anyInt()),
+                () -> verify(mockAccessor, never()).openBufferFinalize());
     }
 
     ////////////////////////
@@ -0,0 +1,291 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.MediaInfoAccessor;
+import com.amilesend.mediainfo.lib.MediaInfoHandlePool;
+import com.amilesend.mediainfo.lib.MediaInfoLibrary;
+import com.sun.jna.Pointer;
+import com.sun.jna.WString;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class MediaInfoBatchScannerTest {
+    @Mock
+    private MediaInfoHandlePool mockPool;
+    @Mock
+    private MediaInfoAccessor mockAccessor;
+    private MediaInfoBatchScanner scannerUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(mockPool.borrow()).thenReturn(mockAccessor);
+        scannerUnderTest = new MediaInfoBatchScanner(mockPool, 4);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        scannerUnderTest.close();
+    }
+
+    @SneakyThrows
+    private static MyTestVideoInfo newMockMediaInfo(final int width) {
+        final MyTestVideoInfo mockMediaInfo = mock(MyTestVideoInfo.class);
+        when(mockMediaInfo.open(any(Path.class))).thenReturn(mockMediaInfo);
+        when(mockMediaInfo.getWidth()).thenReturn(width);
+        return mockMediaInfo;
+    }
+
+    /////////
+    // ctor
+    /////////
+
+    @Test
+    public void ctor_withInvalidParallelism_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new MediaInfoBatchScanner(mockPool, 0));
+    }
+
+    /////////
+    // scan
+    /////////
+
+    @Test
+    @SneakyThrows
+    public void scan_withCollection_shouldReturnResultForEachPath() {
+        final List<Path> paths = IntStream.range(0, 100)
+                .mapToObj(i -> Path.of("video" + i + ".mkv"))
+                .collect(Collectors.toList());
+        final MyTestVideoInfo mockMediaInfo = newMockMediaInfo(1280);
+
+        final List<MediaInfoBatchScanner.ScanResult<Integer>> actual =
+                scannerUnderTest.scan(paths, accessor -> mockMediaInfo, MyTestVideoInfo::getWidth);
+
+        assertAll(
+                () -> assertEquals(100, actual.size()),
+                () -> assertEquals(
+                        Set.copyOf(paths),
+                        actual.stream().map(MediaInfoBatchScanner.ScanResult::getPath).collect(Collectors.toSet())),
+                () -> assertTrue(actual.stream().allMatch(MediaInfoBatchScanner.ScanResult::isSuccess)),
+                () -> assertTrue(actual.stream().allMatch(r -> r.getValue() == 1280)),
+                () -> verify(mockPool, times(100)).borrow(),
+                () -> verify(mockMediaInfo, times(100)).close(),
+                // The accessor is returned to the pool by closing the media info only
+                () -> verify(mockAccessor, never()).close());
+    }
+
+    @Test
+    @SneakyThrows
+    public void scan_withFailedOpen_shouldCaptureError() {
+        final MyTestVideoInfo mockMediaInfo = newMockMediaInfo(1280);
+        final MyTestVideoInfo mockFailedMediaInfo = mock(MyTestVideoInfo.class);
+        final IOException expected = new IOException("Exception");
+        when(mockFailedMediaInfo.open(any(Path.class))).thenThrow(expected);
+        final Map<String, MyTestVideoInfo> mediaInfos =
+                Map.of("good.mkv", mockMediaInfo, "bad.mkv", mockFailedMediaInfo);
+        final Path goodPath = Path.of("good.mkv");
+        final Path badPath = Path.of("bad.mkv");
+
+        final List<MediaInfoBatchScanner.ScanResult<Integer>> actual = scannerUnderTest.scan(
+                Stream.of(goodPath, badPath),
+                newPathAwareFactory(mediaInfos),
+                MyTestVideoInfo::getWidth);
+
+        final Map<Path, MediaInfoBatchScanner.ScanResult<Integer>> resultsByPath = actual.stream()
+                .collect(Collectors.toMap(MediaInfoBatchScanner.ScanResult::getPath, Function.identity()));
+        assertAll(
+                () -> assertEquals(2, actual.size()),
+                () -> assertTrue(resultsByPath.get(goodPath).isSuccess()),
+                () -> assertEquals(1280, resultsByPath.get(goodPath).getValue()),
+                () -> assertFalse(resultsByPath.get(badPath).isSuccess()),
+                () -> assertNull(resultsByPath.get(badPath).getValue()),
+                () -> assertEquals(expected, resultsByPath.get(badPath).getError()),
+                () -> verify(mockPool, times(2)).borrow());
+    }
+
+    @Test
+    @SneakyThrows
+    public void scan_withNonDefaultFileSystemPath_shouldOpenPath() {
+        final MyTestVideoInfo mockMediaInfo = newMockMediaInfo(1280);
+        final Path mockPath = mock(Path.class);
+        lenient().when(mockPath.toFile()).thenThrow(new UnsupportedOperationException("Not the default file system"));
+
+        final List<MediaInfoBatchScanner.ScanResult<Integer>> actual =
+                scannerUnderTest.scan(List.of(mockPath), accessor -> mockMediaInfo, MyTestVideoInfo::getWidth);
+
+        assertAll(
+                () -> assertEquals(1, actual.size()),
+                () -> assertTrue(actual.get(0).isSuccess()),
+                () -> assertEquals(1280, actual.get(0).getValue()),
+                () -> verify(mockMediaInfo).open(mockPath));
+    }
+
+    @Test
+    @SneakyThrows
+    public void scan_withFailedFactory_shouldReturnAccessorAndCaptureError() {
+        final IllegalStateException expected = new IllegalStateException("Factory failure");
+
+        final List<MediaInfoBatchScanner.ScanResult<Integer>> actual = scannerUnderTest.scan(
+                List.of(Path.of("video.mkv")),
+                accessor -> {
+                    throw expected;
+                },
+                MyTestVideoInfo::getWidth);
+
+        assertAll(
+                () -> assertEquals(1, actual.size()),
+                () -> assertEquals(expected, actual.get(0).getError()),
+                () -> verify(mockAccessor).close());
+    }
+
+    /**
+     * Scans with more workers than pooled handles so that returned handles are immediately leased by other workers.
+     * Each handle must be closed by the same thread that opened it, which fails if a handle is returned to the pool
+     * twice while another worker is using it.
+     */
+    @Test
+    @SneakyThrows
+    public void scan_withPoolSmallerThanWorkers_shouldNotLeaseHandleTwice() {
+        final MediaInfoLibrary mockLibrary = mock(MediaInfoLibrary.class);
+        final AtomicLong nextPeer = new AtomicLong();
+        final ConcurrentMap<Pointer, Thread> owners = new ConcurrentHashMap<>();
+        final AtomicInteger violations = new AtomicInteger();
+        when(mockLibrary.newHandle()).thenAnswer(invocation -> new Pointer(nextPeer.incrementAndGet()));
+        when(mockLibrary.open(any(Pointer.class), any(WString.class))).thenAnswer(invocation -> {
+            if (owners.putIfAbsent(invocation.getArgument(0), Thread.currentThread()) != null) {
+                violations.incrementAndGet();
+            }
+            Thread.yield();
+            return 1;
+        });
+        doAnswer(invocation -> {
+            // Handles are closed again when deleted, after the owner already closed them
+            final Thread owner = owners.remove(invocation.getArgument(0));
+            if (owner != null && owner != Thread.currentThread()) {
+                violations.incrementAndGet();
+            }
+            return null;
+        }).when(mockLibrary).close(any(Pointer.class));
+        final List<Path> paths = IntStream.range(0, 2000)
+                .mapToObj(i -> Path.of("video" + i + ".mkv"))
+                .collect(Collectors.toList());
+
+        try (MediaInfoHandlePool pool = new MediaInfoHandlePool(mockLibrary, 1, Integer.MAX_VALUE, Duration.ofMinutes(5L));
+                MediaInfoBatchScanner scanner = new MediaInfoBatchScanner(pool, 8)) {
+            final List<MediaInfoBatchScanner.ScanResult<Path>> actual = scanner.scan(
+                    paths,
+                    accessor -> new MyTestVideoInfo(accessor) {
+                        @Override
+                        public MyTestVideoInfo open(final Path path) {
+                            getAccessor().open(path.toString());
+                            return this;
+                        }
+                    },
+                    mediaInfo -> null);
+
+            assertAll(
+                    () -> assertEquals(2000, actual.size()),
+                    () -> assertTrue(actual.stream().allMatch(MediaInfoBatchScanner.ScanResult::isSuccess)),
+                    () -> assertEquals(0, violations.get()),
+                    () -> assertEquals(pool.getStats().getBorrowCount(), pool.getStats().getReturnCount()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void scan_withFailedExtraction_shouldCaptureError() {
+        final MyTestVideoInfo mockMediaInfo = newMockMediaInfo(1280);
+        when(mockMediaInfo.getWidth()).thenThrow(new NumberFormatException("Exception"));
+
+        final List<MediaInfoBatchScanner.ScanResult<Integer>> actual = scannerUnderTest.scan(
+                List.of(Path.of("video.mkv")),
+                accessor -> mockMediaInfo,
+                MyTestVideoInfo::getWidth);
+
+        assertAll(
+                () -> assertEquals(1, actual.size()),
+                () -> assertInstanceOf(NumberFormatException.class, actual.get(0).getError()),
+                () -> verify(mockMediaInfo).close());
+    }
+
+    @Test
+    @SneakyThrows
+    public void scan_withFailingListener_shouldThrowException() {
+        final MyTestVideoInfo mockMediaInfo = newMockMediaInfo(1280);
+
+        assertThrows(IllegalStateException.class, () -> scannerUnderTest.scan(
+                Stream.of(Path.of("video.mkv")),
+                accessor -> mockMediaInfo,
+                MyTestVideoInfo::getWidth,
+                result -> {
+                    throw new IllegalStateException("Listener failure");
+                }));
+    }
+
+    private static Function<MediaInfoAccessor, MyTestVideoInfo> newPathAwareFactory(
+            final Map<String, MyTestVideoInfo> mediaInfos) {
+        // Each worker thread handles one path at a time, so the file name is resolved when open is invoked
+        return accessor -> new MyTestVideoInfo(accessor) {
+            @Override
+            public MyTestVideoInfo open(final Path path) throws IOException {
+                return mediaInfos.get(path.getFileName().toString()).open(path);
+            }
+        };
+    }
+}
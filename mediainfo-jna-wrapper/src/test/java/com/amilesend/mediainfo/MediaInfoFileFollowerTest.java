@@ -0,0 +1,319 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.MediaInfoAccessor;
+import com.amilesend.mediainfo.lib.MediaInfoSnapshot;
+import com.amilesend.mediainfo.lib.NativeBufferPool;
+import com.amilesend.mediainfo.type.Status;
+import com.sun.jna.Pointer;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class MediaInfoFileFollowerTest {
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(5L);
+
+    private final ByteArrayOutputStream fedBytes = new ByteArrayOutputStream();
+    private final Deque<EnumSet<Status>> statuses = new ArrayDeque<>();
+    private final List<MediaInfoStreamParser.Update> updates = new ArrayList<>();
+    private final AtomicLong clock = new AtomicLong();
+    private NativeBufferPool pool;
+    private Path file;
+    @TempDir
+    private Path tempDir;
+    @Mock
+    private MediaInfoAccessor mockAccessor;
+    @Mock
+    private MediaInfoSnapshot mockSnapshot;
+
+    @BeforeEach
+    @SneakyThrows
+    public void setUp() {
+        pool = new NativeBufferPool(16, 1);
+        file = Files.createFile(tempDir.resolve("recording.ts"));
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        pool.close();
+    }
+
+    @SneakyThrows
+    private MediaInfoFileFollower newFollower() {
+        when(mockAccessor.openBufferInitUnknownLength(anyLong())).thenReturn(true);
+        return new MediaInfoFileFollower(mockAccessor, file, updates::add, IDLE_TIMEOUT, pool, clock::get);
+    }
+
+    @SafeVarargs
+    private void setUpContinue(final EnumSet<Status>... chunkStatuses) {
+        statuses.addAll(Arrays.asList(chunkStatuses));
+        when(mockAccessor.openBufferContinueStatus(any(Pointer.class), anyInt())).thenAnswer(invocation -> {
+            final Pointer buffer = invocation.getArgument(0);
+            final int length = invocation.getArgument(1);
+            fedBytes.write(buffer.getByteArray(0L, length));
+            return statuses.size() > 1 ? statuses.poll() : statuses.peek();
+        });
+    }
+
+    @SneakyThrows
+    private void append(final int from, final int to) {
+        final byte[] data = newData(from, to);
+        Files.write(file, data, StandardOpenOption.APPEND);
+    }
+
+    private static byte[] newData(final int from, final int to) {
+        final byte[] data = new byte[to - from];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = (byte) (from + i);
+        }
+
+        return data;
+    }
+
+    /////////
+    // poll
+    /////////
+
+    @Test
+    @SneakyThrows
+    public void poll_withAppendedBytes_shouldFeedOnlyNewBytes() {
+        setUpContinue(EnumSet.of(Status.Accepted));
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(-1L);
+
+        try (MediaInfoFileFollower followerUnderTest = newFollower()) {
+            append(0, 10);
+            final boolean first = followerUnderTest.poll();
+            append(10, 40);
+            final boolean second = followerUnderTest.poll();
+
+            assertAll(
+                    () -> assertTrue(first),
+                    () -> assertTrue(second),
+                    () -> verify(mockAccessor).openBufferContinueStatus(any(Pointer.class), eq(10)),
+                    () -> verify(mockAccessor).openBufferContinueStatus(any(Pointer.class), eq(16)),
+                    () -> verify(mockAccessor).openBufferContinueStatus(any(Pointer.class), eq(14)),
+                    () -> verify(mockAccessor).openBufferInitUnknownLength(eq(0L)),
+                    () -> assertEquals(40L, followerUnderTest.getBytesFed()),
+                    () -> assertArrayEquals(newData(0, 40), fedBytes.toByteArray()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void poll_withFilledThenUpdated_shouldPublishSnapshots() {
+        setUpContinue(
+                EnumSet.of(Status.Accepted, Status.Filled),
+                EnumSet.of(Status.Accepted, Status.Filled),
+                EnumSet.of(Status.Accepted, Status.Filled, Status.Updated));
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(-1L);
+        when(mockAccessor.snapshot()).thenReturn(mockSnapshot);
+
+        try (MediaInfoFileFollower followerUnderTest = newFollower()) {
+            for (int i = 0; i < 3; ++i) {
+                append(i * 8, (i + 1) * 8);
+                followerUnderTest.poll();
+            }
+
+            assertAll(
+                    () -> assertEquals(2, updates.size()),
+                    () -> assertEquals(8L, updates.get(0).getBytesReceived()),
+                    () -> assertEquals(24L, updates.get(1).getBytesReceived()),
+                    () -> assertSame(mockSnapshot, updates.get(1).getSnapshot()),
+                    () -> assertFalse(updates.get(1).isComplete()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void poll_withSeekBeyondWrittenBytes_shouldResumeOnceWritten() {
+        setUpContinue(EnumSet.of(Status.Accepted));
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(12L).thenReturn(-1L);
+
+        try (MediaInfoFileFollower followerUnderTest = newFollower()) {
+            append(0, 8);
+            followerUnderTest.poll();
+            append(8, 10);
+            followerUnderTest.poll();
+            append(10, 16);
+            followerUnderTest.poll();
+
+            assertAll(
+                    () -> verify(mockAccessor).openBufferInitUnknownLength(eq(12L)),
+                    () -> assertEquals(12L, followerUnderTest.getBytesFed()),
+                    () -> assertArrayEquals(
+                            new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 12, 13, 14, 15},
+                            fedBytes.toByteArray()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void poll_withoutGrowthForIdleTimeout_shouldFinalize() {
+        setUpContinue(EnumSet.of(Status.Accepted));
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(-1L);
+        when(mockAccessor.snapshot()).thenReturn(mockSnapshot);
+
+        try (MediaInfoFileFollower followerUnderTest = newFollower()) {
+            append(0, 8);
+            final boolean first = followerUnderTest.poll();
+            clock.addAndGet(IDLE_TIMEOUT.toNanos() - 1L);
+            final boolean second = followerUnderTest.poll();
+            clock.incrementAndGet();
+            final boolean third = followerUnderTest.poll();
+
+            assertAll(
+                    () -> assertTrue(first),
+                    () -> assertTrue(second),
+                    () -> assertFalse(third),
+                    () -> assertTrue(followerUnderTest.isFinished()),
+                    () -> verify(mockAccessor).openBufferFinalize(),
+                    () -> assertEquals(1, updates.size()),
+                    () -> assertTrue(updates.get(0).isComplete()),
+                    () -> assertEquals(8L, updates.get(0).getBytesReceived()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void poll_withShrunkFile_shouldFinalize() {
+        setUpContinue(EnumSet.of(Status.Accepted));
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(-1L);
+        when(mockAccessor.snapshot()).thenReturn(mockSnapshot);
+
+        try (MediaInfoFileFollower followerUnderTest = newFollower()) {
+            append(0, 8);
+            followerUnderTest.poll();
+            Files.write(file, newData(0, 4));
+
+            assertAll(
+                    () -> assertFalse(followerUnderTest.poll()),
+                    () -> verify(mockAccessor).openBufferFinalize());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void poll_withFinalized_shouldStopFollowing() {
+        setUpContinue(EnumSet.of(Status.Accepted, Status.Filled, Status.Finalized));
+        when(mockAccessor.snapshot()).thenReturn(mockSnapshot);
+
+        try (MediaInfoFileFollower followerUnderTest = newFollower()) {
+            append(0, 8);
+            final boolean first = followerUnderTest.poll();
+            append(8, 16);
+            final boolean second = followerUnderTest.poll();
+
+            assertAll(
+                    () -> assertFalse(first),
+                    () -> assertFalse(second),
+                    () -> assertEquals(8L, followerUnderTest.getBytesFed()),
+                    () -> verify(mockAccessor).openBufferFinalize(),
+                    () -> verify(mockAccessor, never()).openBufferContinueGotoGet(),
+                    () -> assertEquals(1, updates.size()),
+                    () -> assertTrue(updates.get(0).isComplete()));
+        }
+    }
+
+    ///////////
+    // finish
+    ///////////
+
+    @Test
+    @SneakyThrows
+    public void finish_shouldFinalizeOnceAndPublishFinalResult() {
+        when(mockAccessor.snapshot()).thenReturn(mockSnapshot);
+
+        try (MediaInfoFileFollower followerUnderTest = newFollower()) {
+            final MediaInfoStreamParser.Update first = followerUnderTest.finish();
+            final MediaInfoStreamParser.Update second = followerUnderTest.finish();
+
+            assertAll(
+                    () -> assertSame(first, second),
+                    () -> assertTrue(first.isComplete()),
+                    () -> assertEquals(List.of(first), updates),
+                    () -> assertFalse(followerUnderTest.poll()),
+                    () -> verify(mockAccessor).openBufferFinalize());
+        }
+    }
+
+    ////////////////
+    // constructor
+    ////////////////
+
+    @Test
+    public void new_withFailedBufferInit_shouldThrowExceptionAndReleaseBuffer() {
+        when(mockAccessor.openBufferInitUnknownLength(anyLong())).thenReturn(false);
+
+        assertAll(
+                () -> assertThrows(IOException.class, () -> new MediaInfoFileFollower(
+                        mockAccessor, file, updates::add, IDLE_TIMEOUT, pool, clock::get)),
+                () -> assertEquals(1, pool.getStats().getIdleBuffers()));
+    }
+
+    @Test
+    public void new_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new MediaInfoFileFollower(
+                        mockAccessor, file, updates::add, Duration.ZERO, pool, clock::get)),
+                () -> assertThrows(IOException.class, () -> new MediaInfoFileFollower(
+                        mockAccessor, tempDir.resolve("missing.ts"), updates::add, IDLE_TIMEOUT, pool, clock::get)),
+                () -> assertThrows(NullPointerException.class, () -> new MediaInfoFileFollower(
+                        mockAccessor, null, updates::add, IDLE_TIMEOUT, pool, clock::get)));
+    }
+}
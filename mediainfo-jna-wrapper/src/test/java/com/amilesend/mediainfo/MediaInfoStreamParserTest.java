@@ -0,0 +1,328 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.MediaInfoAccessor;
+import com.amilesend.mediainfo.lib.MediaInfoSnapshot;
+import com.amilesend.mediainfo.lib.NativeBufferPool;
+import com.amilesend.mediainfo.type.Status;
+import com.sun.jna.Pointer;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class MediaInfoStreamParserTest {
+    private static final long MEDIA_SIZE = 1024L;
+    private static final int BUFFER_SIZE = 16;
+
+    private final ByteArrayOutputStream fedBytes = new ByteArrayOutputStream();
+    private final Deque<EnumSet<Status>> statuses = new ArrayDeque<>();
+    private final List<MediaInfoStreamParser.Update> updates = new ArrayList<>();
+    private NativeBufferPool pool;
+    @Mock
+    private MediaInfoAccessor mockAccessor;
+    @Mock
+    private MediaInfoSnapshot mockSnapshot;
+
+    @BeforeEach
+    public void setUp() {
+        pool = new NativeBufferPool(BUFFER_SIZE, 1);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        pool.close();
+    }
+
+    @SneakyThrows
+    private MediaInfoStreamParser newParser(final int seekWindow) {
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(true);
+        return new MediaInfoStreamParser(mockAccessor, MEDIA_SIZE, updates::add, pool, seekWindow);
+    }
+
+    @SafeVarargs
+    private void setUpContinue(final EnumSet<Status>... chunkStatuses) {
+        statuses.addAll(Arrays.asList(chunkStatuses));
+        when(mockAccessor.openBufferContinueStatus(any(Pointer.class), anyInt())).thenAnswer(invocation -> {
+            final Pointer buffer = invocation.getArgument(0);
+            final int length = invocation.getArgument(1);
+            fedBytes.write(buffer.getByteArray(0L, length));
+            return statuses.size() > 1 ? statuses.poll() : statuses.peek();
+        });
+    }
+
+    private static ByteBuffer newData(final int from, final int to) {
+        final byte[] data = new byte[to - from];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = (byte) (from + i);
+        }
+
+        return ByteBuffer.wrap(data);
+    }
+
+    /////////
+    // feed
+    /////////
+
+    @Test
+    public void feed_withFilledThenUpdated_shouldPublishPartialResults() {
+        final MediaInfoStreamParser parserUnderTest = newParser(BUFFER_SIZE);
+        setUpContinue(
+                EnumSet.of(Status.Accepted),
+                EnumSet.of(Status.Accepted, Status.Filled),
+                EnumSet.of(Status.Accepted, Status.Filled),
+                EnumSet.of(Status.Accepted, Status.Filled, Status.Updated));
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(-1L);
+        when(mockAccessor.snapshot()).thenReturn(mockSnapshot);
+
+        for (int i = 0; i < 4; ++i) {
+            assertTrue(parserUnderTest.feed(newData(i * 8, (i + 1) * 8)));
+        }
+
+        assertAll(
+                () -> assertEquals(2, updates.size()),
+                () -> assertEquals(EnumSet.of(Status.Accepted, Status.Filled), updates.get(0).getStatus()),
+                () -> assertEquals(16L, updates.get(0).getBytesReceived()),
+                () -> assertSame(mockSnapshot, updates.get(0).getSnapshot()),
+                () -> assertFalse(updates.get(0).isComplete()),
+                () -> assertEquals(32L, updates.get(1).getBytesReceived()),
+                () -> assertEquals(32L, parserUnderTest.getBytesFed()),
+                () -> assertArrayEquals(newData(0, 32).array(), fedBytes.toByteArray()));
+    }
+
+    @Test
+    public void feed_withDataLargerThanBuffer_shouldFeedBufferSizedChunks() {
+        final MediaInfoStreamParser parserUnderTest = newParser(BUFFER_SIZE);
+        setUpContinue(EnumSet.of(Status.Accepted));
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(-1L);
+
+        final ByteBuffer data = newData(0, 40);
+        parserUnderTest.feed(data);
+
+        assertAll(
+                () -> verify(mockAccessor, times(2)).openBufferContinueStatus(any(Pointer.class), eq(16)),
+                () -> verify(mockAccessor).openBufferContinueStatus(any(Pointer.class), eq(8)),
+                () -> assertFalse(data.hasRemaining()),
+                () -> assertEquals(40L, parserUnderTest.getBytesReceived()),
+                () -> assertArrayEquals(newData(0, 40).array(), fedBytes.toByteArray()));
+    }
+
+    @Test
+    public void feed_withSeekBackWithinWindow_shouldFeedRetainedBytesAgain() {
+        final MediaInfoStreamParser parserUnderTest = newParser(BUFFER_SIZE * 2);
+        setUpContinue(EnumSet.of(Status.Accepted));
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(4L).thenReturn(-1L);
+
+        parserUnderTest.feed(newData(0, 16));
+
+        assertAll(
+                () -> verify(mockAccessor).openBufferInit(eq(MEDIA_SIZE), eq(4L)),
+                () -> assertEquals(28L, parserUnderTest.getBytesFed()),
+                () -> assertFalse(parserUnderTest.isSeekUnsatisfiable()),
+                () -> assertArrayEquals(
+                        ByteBuffer.allocate(28).put(newData(0, 16)).put(newData(4, 16)).array(),
+                        fedBytes.toByteArray()));
+    }
+
+    @Test
+    public void feed_withSeekBeforeWindow_shouldFinalizeAsUnsatisfiable() {
+        final MediaInfoStreamParser parserUnderTest = newParser(BUFFER_SIZE);
+        setUpContinue(EnumSet.of(Status.Accepted));
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(-1L).thenReturn(0L);
+        when(mockAccessor.snapshot()).thenReturn(mockSnapshot);
+
+        final boolean first = parserUnderTest.feed(newData(0, 16));
+        final boolean second = parserUnderTest.feed(newData(16, 32));
+        final boolean third = parserUnderTest.feed(newData(32, 48));
+
+        assertAll(
+                () -> assertTrue(first),
+                () -> assertFalse(second),
+                () -> assertFalse(third),
+                () -> assertTrue(parserUnderTest.isSeekUnsatisfiable()),
+                () -> assertTrue(parserUnderTest.isFinished()),
+                () -> assertEquals(32L, parserUnderTest.getBytesFed()),
+                () -> verify(mockAccessor).openBufferFinalize(),
+                () -> verify(mockAccessor).openBufferInit(anyLong(), eq(0L)),
+                () -> assertEquals(1, updates.size()),
+                () -> assertTrue(updates.get(0).isComplete()));
+    }
+
+    @Test
+    public void feed_withSeekForward_shouldSkipUntilPositionArrives() {
+        final MediaInfoStreamParser parserUnderTest = newParser(BUFFER_SIZE);
+        setUpContinue(EnumSet.of(Status.Accepted));
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(20L).thenReturn(-1L);
+
+        parserUnderTest.feed(newData(0, 8));
+        parserUnderTest.feed(newData(8, 16));
+        parserUnderTest.feed(newData(16, 24));
+
+        assertAll(
+                () -> verify(mockAccessor).openBufferInit(eq(MEDIA_SIZE), eq(20L)),
+                () -> assertEquals(12L, parserUnderTest.getBytesFed()),
+                () -> assertArrayEquals(
+                        ByteBuffer.allocate(12).put(newData(0, 8)).put(newData(20, 24)).array(),
+                        fedBytes.toByteArray()));
+    }
+
+    @Test
+    public void feed_withFinalized_shouldPublishFinalResultAndIgnoreMoreBytes() {
+        final MediaInfoStreamParser parserUnderTest = newParser(BUFFER_SIZE);
+        setUpContinue(EnumSet.of(Status.Accepted, Status.Filled, Status.Finalized));
+        when(mockAccessor.snapshot()).thenReturn(mockSnapshot);
+
+        final boolean first = parserUnderTest.feed(newData(0, 8));
+        final boolean second = parserUnderTest.feed(newData(8, 16));
+
+        assertAll(
+                () -> assertFalse(first),
+                () -> assertFalse(second),
+                () -> assertEquals(8L, parserUnderTest.getBytesFed()),
+                () -> verify(mockAccessor).openBufferFinalize(),
+                () -> assertEquals(1, updates.size()),
+                () -> assertTrue(updates.get(0).isComplete()),
+                () -> assertSame(updates.get(0), parserUnderTest.finish()));
+    }
+
+    ///////////
+    // finish
+    ///////////
+
+    @Test
+    public void finish_shouldFinalizeOnceAndPublishFinalResult() {
+        final MediaInfoStreamParser parserUnderTest = newParser(BUFFER_SIZE);
+        when(mockAccessor.snapshot()).thenReturn(mockSnapshot);
+
+        final MediaInfoStreamParser.Update first = parserUnderTest.finish();
+        final MediaInfoStreamParser.Update second = parserUnderTest.finish();
+
+        assertAll(
+                () -> assertSame(first, second),
+                () -> assertTrue(first.isComplete()),
+                () -> assertEquals(EnumSet.of(Status.Finalized), first.getStatus()),
+                () -> assertEquals(List.of(first), updates),
+                () -> verify(mockAccessor).openBufferFinalize());
+    }
+
+    //////////
+    // Flow
+    //////////
+
+    @Test
+    public void onNext_withMoreBytesWanted_shouldRequestNext() {
+        final MediaInfoStreamParser parserUnderTest = newParser(BUFFER_SIZE);
+        final Flow.Subscription mockSubscription = mock(Flow.Subscription.class);
+        setUpContinue(EnumSet.of(Status.Accepted));
+        when(mockAccessor.openBufferContinueGotoGet()).thenReturn(-1L);
+
+        parserUnderTest.onSubscribe(mockSubscription);
+        parserUnderTest.onNext(newData(0, 8));
+
+        verify(mockSubscription, times(2)).request(eq(1L));
+    }
+
+    @Test
+    public void onNext_withFinalized_shouldCancelSubscription() {
+        final MediaInfoStreamParser parserUnderTest = newParser(BUFFER_SIZE);
+        final Flow.Subscription mockSubscription = mock(Flow.Subscription.class);
+        setUpContinue(EnumSet.of(Status.Finalized));
+        when(mockAccessor.snapshot()).thenReturn(mockSnapshot);
+
+        parserUnderTest.onSubscribe(mockSubscription);
+        parserUnderTest.onNext(newData(0, 8));
+
+        assertAll(
+                () -> verify(mockSubscription).request(eq(1L)),
+                () -> verify(mockSubscription).cancel());
+    }
+
+    @Test
+    public void onComplete_shouldFinish() {
+        final MediaInfoStreamParser parserUnderTest = newParser(BUFFER_SIZE);
+        when(mockAccessor.snapshot()).thenReturn(mockSnapshot);
+
+        parserUnderTest.onComplete();
+
+        assertAll(
+                () -> assertTrue(parserUnderTest.isFinished()),
+                () -> verify(mockAccessor).openBufferFinalize());
+    }
+
+    ////////////////
+    // constructor
+    ////////////////
+
+    @Test
+    public void new_withFailedBufferInit_shouldThrowExceptionAndReleaseBuffer() {
+        when(mockAccessor.openBufferInit(anyLong(), anyLong())).thenReturn(false);
+
+        assertAll(
+                () -> assertThrows(IOException.class, () -> new MediaInfoStreamParser(
+                        mockAccessor, MEDIA_SIZE, updates::add, pool, BUFFER_SIZE)),
+                () -> assertEquals(1, pool.getStats().getIdleBuffers()));
+    }
+
+    @Test
+    public void new_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new MediaInfoStreamParser(mockAccessor, 0L, updates::add, pool, BUFFER_SIZE)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new MediaInfoStreamParser(mockAccessor, MEDIA_SIZE, updates::add, pool, 8)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> new MediaInfoStreamParser(null, MEDIA_SIZE, updates::add, pool, BUFFER_SIZE)));
+    }
+}
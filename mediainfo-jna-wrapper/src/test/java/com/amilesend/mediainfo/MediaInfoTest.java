@@ -102,6 +102,20 @@ public class MediaInfoTest {
         verify(mockAccessor).getStreamOrParameterCount(eq(StreamType.Video), eq(0));
     }
 
+    @Test
+    public void report_shouldInvokeAccessor() {
+        mediaInfoUnderTest.report();
+
+        verify(mockAccessor).report();
+    }
+
+    @Test
+    public void snapshot_shouldInvokeAccessor() {
+        mediaInfoUnderTest.snapshot();
+
+        verify(mockAccessor).snapshot();
+    }
+
     @Test
     public void getOption_shouldInvokeAccessor() {
         mediaInfoUnderTest.getOption("Option");
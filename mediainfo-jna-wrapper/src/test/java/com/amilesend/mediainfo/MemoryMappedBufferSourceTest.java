@@ -0,0 +1,130 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MemoryMappedBufferSourceTest {
+    @TempDir
+    Path tempDir;
+
+    @SneakyThrows
+    private Path newFile(final int size) {
+        final byte[] content = new byte[size];
+        for (int i = 0; i < size; ++i) {
+            content[i] = (byte) i;
+        }
+
+        return Files.write(tempDir.resolve("media.bin"), content);
+    }
+
+    /////////
+    // read
+    /////////
+
+    @Test
+    @SneakyThrows
+    public void read_withPosition_shouldReturnMappedBytes() {
+        try (MemoryMappedBufferSource sourceUnderTest = MemoryMappedBufferSource.open(newFile(1024))) {
+            final BufferSource.Chunk actual = sourceUnderTest.read(100L, 4);
+
+            assertAll(
+                    () -> assertEquals(1024L, sourceUnderTest.size()),
+                    () -> assertEquals(4, actual.getLength()),
+                    () -> assertArrayEquals(new byte[] {100, 101, 102, 103}, actual.getData().getByteArray(0L, 4)));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void read_withChunkSpanningWindows_shouldTruncateToWindow() {
+        try (FileChannel channel = FileChannel.open(newFile(1024), StandardOpenOption.READ);
+                MemoryMappedBufferSource sourceUnderTest = MemoryMappedBufferSource.of(channel, 256L)) {
+            final BufferSource.Chunk first = sourceUnderTest.read(200L, 100);
+            final int firstLength = first.getLength();
+            final BufferSource.Chunk second = sourceUnderTest.read(200L + firstLength, 100);
+
+            assertAll(
+                    () -> assertEquals(56, firstLength),
+                    () -> assertEquals(100, second.getLength()),
+                    () -> assertEquals((byte) 0, second.getData().getByte(0L)),
+                    () -> assertEquals((byte) 99, second.getData().getByte(99L)));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void read_withLastWindow_shouldTruncateToSize() {
+        try (FileChannel channel = FileChannel.open(newFile(1000), StandardOpenOption.READ);
+                MemoryMappedBufferSource sourceUnderTest = MemoryMappedBufferSource.of(channel, 256L)) {
+            final BufferSource.Chunk actual = sourceUnderTest.read(900L, 256);
+
+            assertAll(
+                    () -> assertEquals(100, actual.getLength()),
+                    () -> assertEquals((byte) 999, actual.getData().getByte(99L)));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void read_withPositionOutOfRange_shouldReturnEnd() {
+        try (MemoryMappedBufferSource sourceUnderTest = MemoryMappedBufferSource.open(newFile(1024))) {
+            assertAll(
+                    () -> assertSame(BufferSource.Chunk.END, sourceUnderTest.read(1024L, 16)),
+                    () -> assertSame(BufferSource.Chunk.END, sourceUnderTest.read(-1L, 16)));
+        }
+    }
+
+    //////////
+    // close
+    //////////
+
+    @Test
+    @SneakyThrows
+    public void close_withProvidedChannel_shouldLeaveChannelOpen() {
+        try (FileChannel channel = FileChannel.open(newFile(1024), StandardOpenOption.READ)) {
+            MemoryMappedBufferSource.of(channel, 256L).close();
+
+            assertTrue(channel.isOpen());
+        }
+    }
+
+    @Test
+    public void open_withNullPath_shouldThrowException() {
+        assertThrows(NullPointerException.class, () -> MemoryMappedBufferSource.open(null));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RangeReaderBufferSourceTest {
+    private static LatencyRangeReader newReader(final int size) {
+        final byte[] content = new byte[size];
+        for (int i = 0; i < size; ++i) {
+            content[i] = (byte) i;
+        }
+
+        return new LatencyRangeReader(content, Duration.ZERO);
+    }
+
+    /////////
+    // read
+    /////////
+
+    @Test
+    @SneakyThrows
+    public void read_withSequentialChunks_shouldCoalesceIntoOneRoundTrip() {
+        final LatencyRangeReader reader = newReader(1024);
+        try (RangeReaderBufferSource sourceUnderTest = new RangeReaderBufferSource(reader, 256, 4)) {
+            final BufferSource.Chunk first = sourceUnderTest.read(0L, 512);
+            final BufferSource.Chunk second = sourceUnderTest.read(256L, 256);
+
+            assertAll(
+                    () -> assertEquals(1024L, sourceUnderTest.size()),
+                    () -> assertEquals(256, first.getLength()),
+                    () -> assertEquals(256, second.getLength()),
+                    () -> assertEquals((byte) 0, second.getData().getByte(0L)),
+                    () -> assertEquals(1, reader.getRoundTrips()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void read_withSeekToCachedBlock_shouldNotReadAgain() {
+        final LatencyRangeReader reader = newReader(1024);
+        try (RangeReaderBufferSource sourceUnderTest = new RangeReaderBufferSource(reader, 256, 4)) {
+            sourceUnderTest.read(900L, 64);
+            final BufferSource.Chunk actual = sourceUnderTest.read(800L, 8);
+
+            assertAll(
+                    () -> assertArrayEquals(
+                            new byte[] {(byte) 800, (byte) 801}, actual.getData().getByteArray(0L, 2)),
+                    () -> assertEquals(1, reader.getRoundTrips()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void read_withCachedFollowingBlock_shouldStopCoalescing() {
+        final LatencyRangeReader reader = newReader(1024);
+        try (RangeReaderBufferSource sourceUnderTest = new RangeReaderBufferSource(reader, 256, 4)) {
+            sourceUnderTest.read(256L, 8);
+            final BufferSource.Chunk actual = sourceUnderTest.read(0L, 1024);
+
+            assertAll(
+                    () -> assertEquals(256, actual.getLength()),
+                    () -> assertEquals(2, reader.getRoundTrips()),
+                    () -> assertEquals(256, sourceUnderTest.read(256L, 1024).getLength()),
+                    () -> assertEquals(2, reader.getRoundTrips()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void read_withMaxBlocksExceeded_shouldEvictLeastRecentlyUsed() {
+        final LatencyRangeReader reader = newReader(1024);
+        try (RangeReaderBufferSource sourceUnderTest = new RangeReaderBufferSource(reader, 256, 2)) {
+            sourceUnderTest.read(0L, 8);
+            sourceUnderTest.read(512L, 8);
+            sourceUnderTest.read(768L, 8);
+            sourceUnderTest.read(0L, 8);
+
+            assertEquals(4, reader.getRoundTrips());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void read_withPartialRangeReads_shouldRequestRemainder() {
+        final RangeReader mockReader = mock(RangeReader.class);
+        when(mockReader.size()).thenReturn(256L);
+        when(mockReader.read(anyLong(), anyInt())).thenAnswer(invocation -> ByteBuffer.wrap(new byte[128]));
+
+        try (RangeReaderBufferSource sourceUnderTest = new RangeReaderBufferSource(mockReader, 256, 2)) {
+            assertEquals(256, sourceUnderTest.read(0L, 256).getLength());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void read_withEmptyRange_shouldThrowException() {
+        final RangeReader mockReader = mock(RangeReader.class);
+        when(mockReader.size()).thenReturn(256L);
+        when(mockReader.read(anyLong(), anyInt())).thenReturn(ByteBuffer.allocate(0));
+
+        try (RangeReaderBufferSource sourceUnderTest = new RangeReaderBufferSource(mockReader, 256, 2)) {
+            assertThrows(IOException.class, () -> sourceUnderTest.read(0L, 256));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void read_withPositionOutOfRange_shouldReturnEnd() {
+        try (RangeReaderBufferSource sourceUnderTest = new RangeReaderBufferSource(newReader(1024), 256, 2)) {
+            assertAll(
+                    () -> assertSame(BufferSource.Chunk.END, sourceUnderTest.read(1024L, 16)),
+                    () -> assertSame(BufferSource.Chunk.END, sourceUnderTest.read(-1L, 16)));
+        }
+    }
+
+    @Test
+    public void new_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> new RangeReaderBufferSource(null, 256, 2)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new RangeReaderBufferSource(newReader(1024), 0, 2)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new RangeReaderBufferSource(newReader(1024), Integer.MAX_VALUE, 2)));
+    }
+}
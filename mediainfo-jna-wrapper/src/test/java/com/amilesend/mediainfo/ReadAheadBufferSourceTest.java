@@ -0,0 +1,246 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.NativeBufferPool;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ReadAheadBufferSourceTest {
+    private static final Executor SAME_THREAD_EXECUTOR = Runnable::run;
+
+    @TempDir
+    Path tempDir;
+
+    @SneakyThrows
+    private FileChannel newChannel(final int size) {
+        final byte[] content = new byte[size];
+        for (int i = 0; i < size; ++i) {
+            content[i] = (byte) i;
+        }
+
+        return FileChannel.open(Files.write(tempDir.resolve("media.bin"), content), StandardOpenOption.READ);
+    }
+
+    /////////
+    // read
+    /////////
+
+    @Test
+    @SneakyThrows
+    public void read_withSequentialChunks_shouldServePrefetchedChunks() {
+        final NativeBufferPool pool = new NativeBufferPool(256, 2);
+        final ChunkSizing sizing = ChunkSizing.adaptive(32, 256);
+        try (FileChannel channel = newChannel(1024);
+                ReadAheadBufferSource sourceUnderTest =
+                        new ReadAheadBufferSource(channel, sizing, pool, SAME_THREAD_EXECUTOR)) {
+            final BufferSource.Chunk first = sourceUnderTest.read(0L, 32);
+            final int firstLength = first.getLength();
+            final BufferSource.Chunk second = sourceUnderTest.read(32L, 64);
+
+            assertAll(
+                    () -> assertEquals(1024L, sourceUnderTest.size()),
+                    () -> assertEquals(32, firstLength),
+                    () -> assertEquals(64, second.getLength()),
+                    () -> assertArrayEquals(new byte[] {32, 33}, second.getData().getByteArray(0L, 2)),
+                    () -> assertEquals(1, sourceUnderTest.getHitCount()),
+                    () -> assertEquals(0, sourceUnderTest.getDiscardCount()),
+                    () -> assertEquals(0L, channel.position()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void read_withSeek_shouldDiscardPrefetch() {
+        final NativeBufferPool pool = new NativeBufferPool(256, 2);
+        try (FileChannel channel = newChannel(1024);
+                ReadAheadBufferSource sourceUnderTest =
+                        new ReadAheadBufferSource(channel, ChunkSizing.fixed(64), pool, SAME_THREAD_EXECUTOR)) {
+            sourceUnderTest.read(0L, 64);
+            final BufferSource.Chunk actual = sourceUnderTest.read(900L, 64);
+            final int actualLength = actual.getLength();
+            final byte[] actualBytes = actual.getData().getByteArray(0L, 2);
+            final BufferSource.Chunk next = sourceUnderTest.read(964L, 64);
+
+            assertAll(
+                    () -> assertEquals(64, actualLength),
+                    () -> assertArrayEquals(new byte[] {(byte) 900, (byte) 901}, actualBytes),
+                    () -> assertEquals(60, next.getLength()),
+                    () -> assertEquals(1, sourceUnderTest.getDiscardCount()),
+                    () -> assertEquals(1, sourceUnderTest.getHitCount()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void read_withDeferredPrefetch_shouldWaitForPrefetch() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final NativeBufferPool pool = new NativeBufferPool(256, 2);
+        try (FileChannel channel = newChannel(1024);
+                ReadAheadBufferSource sourceUnderTest =
+                        new ReadAheadBufferSource(channel, ChunkSizing.fixed(64), pool, tasks::add)) {
+            sourceUnderTest.read(0L, 64);
+            new Thread(tasks.get(0)).start();
+
+            final BufferSource.Chunk actual = sourceUnderTest.read(64L, 64);
+
+            assertAll(
+                    () -> assertEquals(64, actual.getLength()),
+                    () -> assertEquals((byte) 64, actual.getData().getByte(0L)),
+                    () -> assertEquals(1, sourceUnderTest.getHitCount()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void read_withFailedPrefetch_shouldThrowException() {
+        final FileChannel mockChannel = mock(FileChannel.class);
+        when(mockChannel.size()).thenReturn(1024L);
+        when(mockChannel.read(any(ByteBuffer.class), anyLong()))
+                .thenAnswer(invocation -> {
+                    final ByteBuffer buffer = invocation.getArgument(0);
+                    final int remaining = buffer.remaining();
+                    buffer.position(buffer.limit());
+                    return remaining;
+                })
+                .thenThrow(new IOException("Exception"));
+        final NativeBufferPool pool = new NativeBufferPool(256, 2);
+
+        try (ReadAheadBufferSource sourceUnderTest =
+                     new ReadAheadBufferSource(mockChannel, ChunkSizing.fixed(64), pool, SAME_THREAD_EXECUTOR)) {
+            sourceUnderTest.read(0L, 64);
+
+            assertThrows(IOException.class, () -> sourceUnderTest.read(64L, 64));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void read_withPositionOutOfRange_shouldReturnEnd() {
+        final NativeBufferPool pool = new NativeBufferPool(256, 2);
+        try (FileChannel channel = newChannel(1024);
+                ReadAheadBufferSource sourceUnderTest =
+                        new ReadAheadBufferSource(channel, ChunkSizing.DEFAULT, pool, SAME_THREAD_EXECUTOR)) {
+            assertAll(
+                    () -> assertSame(BufferSource.Chunk.END, sourceUnderTest.read(1024L, 16)),
+                    () -> assertSame(BufferSource.Chunk.END, sourceUnderTest.read(-1L, 16)));
+        }
+    }
+
+    //////////
+    // close
+    //////////
+
+    @Test
+    @SneakyThrows
+    public void close_withLeases_shouldReturnBuffers() {
+        final NativeBufferPool pool = new NativeBufferPool(256, 2);
+        try (FileChannel channel = newChannel(1024)) {
+            final ReadAheadBufferSource sourceUnderTest =
+                    new ReadAheadBufferSource(channel, ChunkSizing.DEFAULT, pool, SAME_THREAD_EXECUTOR);
+            sourceUnderTest.read(0L, 64);
+            sourceUnderTest.close();
+
+            assertEquals(2, pool.getStats().getIdleBuffers());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void close_withInterruptedThreadAndBlockedPrefetch_shouldWaitBeforeReturningBuffers() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final NativeBufferPool pool = new NativeBufferPool(256, 2);
+        try (FileChannel channel = newChannel(1024)) {
+            final ReadAheadBufferSource sourceUnderTest =
+                    new ReadAheadBufferSource(channel, ChunkSizing.fixed(64), pool, tasks::add);
+            sourceUnderTest.read(0L, 64);
+
+            final CountDownLatch closed = new CountDownLatch(1);
+            final AtomicBoolean isInterrupted = new AtomicBoolean();
+            final Thread closer = new Thread(() -> {
+                Thread.currentThread().interrupt();
+                sourceUnderTest.close();
+                isInterrupted.set(Thread.currentThread().isInterrupted());
+                closed.countDown();
+            });
+            closer.start();
+
+            final boolean isClosedWhileBlocked = closed.await(200L, TimeUnit.MILLISECONDS);
+            final int idleWhileBlocked = pool.getStats().getIdleBuffers();
+            tasks.get(0).run();
+            final boolean isClosed = closed.await(5L, TimeUnit.SECONDS);
+
+            assertAll(
+                    () -> assertFalse(isClosedWhileBlocked),
+                    () -> assertEquals(0, idleWhileBlocked),
+                    () -> assertTrue(isClosed),
+                    () -> assertTrue(isInterrupted.get()),
+                    () -> assertEquals(2, pool.getStats().getIdleBuffers()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void close_withRejectedPrefetch_shouldNotWait() {
+        final NativeBufferPool pool = new NativeBufferPool(256, 2);
+        final Executor rejectingExecutor = runnable -> {
+            throw new RejectedExecutionException("Rejected");
+        };
+        try (FileChannel channel = newChannel(1024)) {
+            final ReadAheadBufferSource sourceUnderTest =
+                    new ReadAheadBufferSource(channel, ChunkSizing.fixed(64), pool, rejectingExecutor);
+
+            assertThrows(RejectedExecutionException.class, () -> sourceUnderTest.read(0L, 64));
+            sourceUnderTest.close();
+
+            assertEquals(2, pool.getStats().getIdleBuffers());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScanProfileTest {
+    @Test
+    public void build_withOptionsAndMaxBytes_shouldBuildProfile() {
+        final ScanProfile actual = ScanProfile.builder()
+                .parseSpeed(0.25)
+                .option("File_TestContinuousFileNames", "0")
+                .maxBytes(1024L)
+                .build();
+
+        assertAll(
+                () -> assertEquals(List.of(
+                        new ScanProfile.Option("ParseSpeed", "0.25"),
+                        new ScanProfile.Option("File_TestContinuousFileNames", "0")),
+                        actual.getOptions()),
+                () -> assertEquals(1024L, actual.getMaxBytes()),
+                () -> assertTrue(actual.isByteLimited()),
+                () -> assertFalse(actual.isTimeLimited()),
+                () -> assertTrue(actual.requiresBuffer()));
+    }
+
+    @Test
+    public void build_withTimeout_shouldBuildTimeLimitedProfile() {
+        final ScanProfile actual = ScanProfile.builder().timeout(Duration.ofMillis(250L)).build();
+
+        assertAll(
+                () -> assertEquals(Duration.ofMillis(250L), actual.getTimeout()),
+                () -> assertEquals(250_000_000L, actual.getTimeoutNanos()),
+                () -> assertTrue(actual.isTimeLimited()),
+                () -> assertFalse(actual.isByteLimited()),
+                () -> assertTrue(actual.requiresBuffer()));
+    }
+
+    @Test
+    public void build_withStopCondition_shouldRequireBuffer() {
+        final ScanProfile actual = ScanProfile.builder().stopWhenFilled().build();
+
+        assertAll(
+                () -> assertEquals(StopCondition.FILLED, actual.getStopCondition()),
+                () -> assertFalse(actual.isByteLimited()),
+                () -> assertFalse(actual.isTimeLimited()),
+                () -> assertTrue(actual.requiresBuffer()));
+    }
+
+    @Test
+    public void getTimeoutNanos_withTimeoutBeyondNanos_shouldReturnUnlimited() {
+        final ScanProfile actual = ScanProfile.builder().timeout(Duration.ofSeconds(Long.MAX_VALUE)).build();
+
+        assertEquals(Long.MAX_VALUE, actual.getTimeoutNanos());
+    }
+
+    @Test
+    public void full_shouldNotLimitBytes() {
+        assertAll(
+                () -> assertTrue(ScanProfile.FULL.getOptions().isEmpty()),
+                () -> assertFalse(ScanProfile.FULL.isByteLimited()),
+                () -> assertFalse(ScanProfile.FULL.isTimeLimited()),
+                () -> assertEquals(StopCondition.NEVER, ScanProfile.FULL.getStopCondition()),
+                () -> assertFalse(ScanProfile.FULL.requiresBuffer()),
+                () -> assertEquals(Long.MAX_VALUE, ScanProfile.FULL.getTimeoutNanos()));
+    }
+
+    @Test
+    public void build_withInvalidValues_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> ScanProfile.builder().parseSpeed(1.5)),
+                () -> assertThrows(IllegalArgumentException.class, () -> ScanProfile.builder().maxBytes(0L)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ScanProfile.builder().timeout(Duration.ofMillis(-1L))),
+                () -> assertThrows(NullPointerException.class, () -> ScanProfile.builder().timeout(null)),
+                () -> assertThrows(NullPointerException.class, () -> ScanProfile.builder().stopWhen(null)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ScanProfile.builder().option(" ", "0")),
+                () -> assertThrows(NullPointerException.class,
+                        () -> ScanProfile.builder().option("ParseSpeed", null)));
+    }
+}
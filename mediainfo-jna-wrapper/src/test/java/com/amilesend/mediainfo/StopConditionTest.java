@@ -0,0 +1,94 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo;
+
+import com.amilesend.mediainfo.lib.MediaInfoAccessor;
+import com.amilesend.mediainfo.type.Status;
+import com.amilesend.mediainfo.type.StreamType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class StopConditionTest {
+    @Mock
+    private MediaInfoAccessor mockAccessor;
+
+    @Test
+    public void filled_withStatus_shouldBeMetOnlyWhenFilled() {
+        assertAll(
+                () -> assertTrue(StopCondition.FILLED.isMet(EnumSet.of(Status.Accepted, Status.Filled), mockAccessor)),
+                () -> assertFalse(StopCondition.FILLED.isMet(EnumSet.of(Status.Accepted), mockAccessor)),
+                () -> assertFalse(StopCondition.NEVER.isMet(EnumSet.allOf(Status.class), mockAccessor)));
+    }
+
+    @Test
+    public void whenPresent_withAllParametersSet_shouldBeMet() {
+        when(mockAccessor.get(eq(StreamType.Video), eq(0), anyString())).thenReturn("1280");
+
+        final StopCondition conditionUnderTest = StopCondition.whenPresent(StreamType.Video, "Width", "Height");
+
+        assertTrue(conditionUnderTest.isMet(EnumSet.of(Status.Accepted), mockAccessor));
+    }
+
+    @Test
+    public void whenPresent_withParameterMissing_shouldNotBeMet() {
+        when(mockAccessor.get(eq(StreamType.Video), anyInt(), eq("Width"))).thenReturn("1280");
+        when(mockAccessor.get(eq(StreamType.Video), anyInt(), eq("Height"))).thenReturn("");
+
+        final StopCondition conditionUnderTest = StopCondition.whenPresent(StreamType.Video, "Width", "Height");
+
+        assertFalse(conditionUnderTest.isMet(EnumSet.of(Status.Accepted), mockAccessor));
+    }
+
+    @Test
+    public void whenPresent_withFormatNotAccepted_shouldNotQueryAccessor() {
+        final StopCondition conditionUnderTest = StopCondition.whenPresent(StreamType.Video, "Width");
+
+        assertAll(
+                () -> assertFalse(conditionUnderTest.isMet(EnumSet.noneOf(Status.class), mockAccessor)),
+                () -> verifyNoInteractions(mockAccessor));
+    }
+
+    @Test
+    public void whenPresent_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> StopCondition.whenPresent(StreamType.Video)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> StopCondition.whenPresent(null, "Width")));
+    }
+}
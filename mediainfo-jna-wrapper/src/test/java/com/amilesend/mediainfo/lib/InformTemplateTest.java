@@ -0,0 +1,173 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.type.StreamType;
+import com.amilesend.mediainfo.util.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class InformTemplateTest {
+    private static final String NL = System.lineSeparator();
+
+    @Mock
+    private MediaInfoAccessor mockAccessor;
+
+    //////////
+    // build
+    //////////
+
+    @Test
+    public void build_withFields_shouldCompileTemplate() {
+        final InformTemplate actual = InformTemplate.builder()
+                .field(StreamType.Video, "Width")
+                .field(StreamType.General, "Duration")
+                .field(StreamType.Video, "Height")
+                .field(StreamType.Video, 1, "Width")
+                .build();
+
+        assertEquals("General;General\u001F%Duration%\u001E" + NL
+                        + "Video;Video\u001F%Width%\u001F%Height%\u001E",
+                actual.getTemplate());
+    }
+
+    @Test
+    public void build_withSameFieldSet_shouldReturnCachedTemplate() {
+        final InformTemplate first = InformTemplate.builder()
+                .field(StreamType.Audio, "Format")
+                .field(StreamType.Audio, "Channels")
+                .build();
+        final int cacheSize = InformTemplate.getCacheSize();
+
+        final InformTemplate second = InformTemplate.builder()
+                .field(StreamType.Audio, "Format")
+                .field(StreamType.Audio, "Channels")
+                .build();
+        final InformTemplate reordered = InformTemplate.builder()
+                .field(StreamType.Audio, "Channels")
+                .field(StreamType.Audio, "Format")
+                .build();
+
+        assertAll(
+                () -> assertSame(first, second),
+                () -> assertNotSame(first, reordered),
+                () -> assertEquals(cacheSize + 1, InformTemplate.getCacheSize()));
+    }
+
+    @Test
+    public void getOrCompile_withFullCache_shouldNotCacheTemplate() {
+        final List<InformTemplate.Field> fields =
+                List.of(new InformTemplate.Field(StreamType.Text, 0, "UncachedField"));
+        final int cacheSize = InformTemplate.getCacheSize();
+
+        final InformTemplate first = InformTemplate.getOrCompile(fields, cacheSize);
+        final InformTemplate second = InformTemplate.getOrCompile(fields, cacheSize);
+
+        assertAll(
+                () -> assertNotSame(first, second),
+                () -> assertEquals(first.getTemplate(), second.getTemplate()),
+                () -> assertEquals(cacheSize, InformTemplate.getCacheSize()));
+    }
+
+    @Test
+    public void build_withInvalidFields_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> InformTemplate.builder().build()),
+                () -> assertThrows(NullPointerException.class,
+                        () -> InformTemplate.builder().field(null, "Width")),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> InformTemplate.builder().field(StreamType.Video, -1, "Width")),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> InformTemplate.builder().field(StreamType.Video, " ")),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> InformTemplate.builder().field(StreamType.Video, "%Width%")));
+    }
+
+    ////////////
+    // extract
+    ////////////
+
+    @Test
+    public void extract_withOutput_shouldReturnRow() {
+        final InformTemplate template = InformTemplate.builder()
+                .field(StreamType.General, "Duration")
+                .field(StreamType.Video, "Width")
+                .field(StreamType.Video, "Height")
+                .field(StreamType.Audio, 0, "Format")
+                .field(StreamType.Audio, 1, "Format")
+                .field(StreamType.Audio, 2, "Format")
+                .field(StreamType.Text, "Language")
+                .build();
+        when(mockAccessor.inform(anyString())).thenReturn("General\u001F5005.000\u001E" + NL
+                + "Video\u001F1280\u001F\u001E" + NL
+                + "Audio\u001FAAC\u001EAudio\u001FAC-3\u001E" + NL);
+
+        final InformTemplate.Row actual = template.extract(mockAccessor);
+
+        assertAll(
+                () -> verify(mockAccessor).inform(eq(template.getTemplate())),
+                () -> assertEquals(7, actual.size()),
+                () -> assertEquals("5005.000", actual.get(0)),
+                () -> assertEquals(Optional.of(5005L), actual.getLong(StreamType.General, "Duration")),
+                () -> assertEquals(Optional.of(1280.0D), actual.getDouble(StreamType.Video, "Width")),
+                () -> assertEquals(StringUtils.EMPTY, actual.get(StreamType.Video, "Height")),
+                () -> assertEquals(Optional.empty(), actual.getLong(StreamType.Video, "Height")),
+                () -> assertEquals("AAC", actual.get(StreamType.Audio, "Format")),
+                () -> assertEquals("AC-3", actual.get(StreamType.Audio, 1, "Format")),
+                () -> assertEquals(StringUtils.EMPTY, actual.get(StreamType.Audio, 2, "Format")),
+                () -> assertEquals(StringUtils.EMPTY, actual.get(StreamType.Text, "Language")),
+                () -> assertEquals(
+                        List.of("5005.000", "1280", "", "AAC", "AC-3", "", ""),
+                        List.copyOf(actual.asMap().values())),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> actual.get(StreamType.Video, "FrameRate")));
+    }
+
+    @Test
+    public void extract_withNonNumericValue_shouldReturnEmptyOptional() {
+        final InformTemplate template = InformTemplate.builder().field(StreamType.General, "Title").build();
+        when(mockAccessor.inform(anyString())).thenReturn("General\u001FMy Video\u001E");
+
+        final InformTemplate.Row actual = template.extract(mockAccessor);
+
+        assertAll(
+                () -> assertEquals("My Video", actual.get(StreamType.General, "Title")),
+                () -> assertEquals(Optional.empty(), actual.getLong(StreamType.General, "Title")));
+    }
+}
@@ -23,16 +23,29 @@
 package com.amilesend.mediainfo.lib;
 
 import com.amilesend.mediainfo.type.InfoType;
+import com.amilesend.mediainfo.type.Status;
 import com.amilesend.mediainfo.type.StreamType;
 import com.amilesend.mediainfo.util.StringUtils;
 import com.sun.jna.Pointer;
 import com.sun.jna.WString;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
@@ -43,10 +56,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -172,6 +187,19 @@ public class MediaInfoAccessorTest {
                         () -> accessorUnderTest.openBufferInit(1000L, -1L)));
     }
 
+    @Test
+    public void openBufferInitUnknownLength_withValidOffset_shouldPassUnknownLength() {
+        when(mockLibrary.openBufferInit(any(Pointer.class), anyLong(), anyLong())).thenReturn(1);
+
+        final boolean actual = accessorUnderTest.openBufferInitUnknownLength(512L);
+
+        assertAll(
+                () -> verify(mockLibrary).openBufferInit(isA(Pointer.class), eq(-1L), eq(512L)),
+                () -> assertTrue(actual),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> accessorUnderTest.openBufferInitUnknownLength(-1L)));
+    }
+
     @Test
     public void openBufferInit_withNullMediaInfoLibrary_shouldThrowException() {
         accessorUnderTest.setMediaInfoLibPointer(null);
@@ -201,11 +229,45 @@ public class MediaInfoAccessorTest {
     public void openBufferContinue_withInvalidBufferAndSize_shouldThrowException() {
         assertAll(
                 () -> assertThrows(NullPointerException.class,
-                        () -> accessorUnderTest.openBufferContinue(null, 256)),
+                        () -> accessorUnderTest.openBufferContinue((byte[]) null, 256)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> accessorUnderTest.openBufferContinue((Pointer) null, 256)),
                 () -> assertThrows(IllegalArgumentException.class,
                         () -> accessorUnderTest.openBufferContinue(new byte[4], -1)));
     }
 
+    @Test
+    public void openBufferContinue_withNativeBuffer_shouldPassBufferWithoutCopy() {
+        final Pointer buffer = mock(Pointer.class);
+        when(mockLibrary.openBufferContinue(any(Pointer.class), any(Pointer.class), anyInt())).thenReturn(1);
+
+        final int actual = accessorUnderTest.openBufferContinue(buffer, 256);
+
+        assertAll(
+                () -> verify(mockLibrary).openBufferContinue(eq(mockPointer), eq(buffer), eq(256)),
+                () -> verify(mockLibrary, never()).openBufferContinue(any(Pointer.class), any(byte[].class), anyInt()),
+                () -> assertEquals(1, actual));
+    }
+
+    @Test
+    public void openBufferContinueStatus_withNativeBuffer_shouldReturnStatuses() {
+        final Pointer buffer = mock(Pointer.class);
+        when(mockLibrary.openBufferContinue(any(Pointer.class), any(Pointer.class), anyInt())).thenReturn(0x07);
+
+        final EnumSet<Status> actual = accessorUnderTest.openBufferContinueStatus(buffer, 256);
+
+        assertEquals(EnumSet.of(Status.Accepted, Status.Filled, Status.Updated), actual);
+    }
+
+    @Test
+    public void openBufferContinueStatus_withNoBitsSet_shouldReturnEmptySet() {
+        when(mockLibrary.openBufferContinue(any(Pointer.class), any(byte[].class), anyInt())).thenReturn(0);
+
+        final EnumSet<Status> actual = accessorUnderTest.openBufferContinueStatus(new byte[512], 256);
+
+        assertTrue(actual.isEmpty());
+    }
+
     @Test
     public void openBufferContinue_withNullMediaInfoLibrary_shouldThrowException() {
         accessorUnderTest.setMediaInfoLibPointer(null);
@@ -292,6 +354,192 @@ public class MediaInfoAccessorTest {
         assertThrows(IllegalStateException.class, () -> accessorUnderTest.inform());
     }
 
+    ///////////////////////
+    // inform(String)
+    ///////////////////////
+
+    @Test
+    public void inform_withOutputFormat_shouldSetAndRestoreOutputOption() {
+        when(mockLibrary.inform(any(Pointer.class), anyInt())).thenReturn(new WString("{}"));
+        when(mockLibrary.option(any(Pointer.class), any(Pointer.class), any(Pointer.class)))
+                .thenReturn(new WString(StringUtils.EMPTY));
+
+        final String actual = accessorUnderTest.inform("JSON");
+
+        final InOrder inOrder = inOrder(mockLibrary);
+        assertAll(
+                () -> assertEquals("{}", actual),
+                () -> inOrder.verify(mockLibrary).option(
+                        isA(Pointer.class),
+                        nativeString("Inform_Get"),
+                        nativeString(StringUtils.EMPTY)),
+                () -> inOrder.verify(mockLibrary).option(
+                        isA(Pointer.class),
+                        nativeString("Output"),
+                        nativeString("JSON")),
+                () -> inOrder.verify(mockLibrary).inform(isA(Pointer.class), eq(0)),
+                () -> inOrder.verify(mockLibrary).option(
+                        isA(Pointer.class),
+                        nativeString("Output"),
+                        nativeString(StringUtils.EMPTY)));
+    }
+
+    @Test
+    public void inform_withPreviousOutputFormat_shouldRestorePreviousOutputFormat() {
+        when(mockLibrary.inform(any(Pointer.class), anyInt())).thenReturn(new WString("{}"));
+        when(mockLibrary.option(any(Pointer.class), any(Pointer.class), any(Pointer.class)))
+                .thenAnswer(invocation -> new WString(
+                        "Inform_Get".equals(invocation.getArgument(1, Pointer.class).getWideString(0L))
+                                ? "XML"
+                                : StringUtils.EMPTY));
+
+        accessorUnderTest.inform("JSON");
+
+        final InOrder inOrder = inOrder(mockLibrary);
+        assertAll(
+                () -> inOrder.verify(mockLibrary).inform(isA(Pointer.class), eq(0)),
+                () -> inOrder.verify(mockLibrary).option(
+                        isA(Pointer.class),
+                        nativeString("Output"),
+                        nativeString("XML")));
+    }
+
+    @Test
+    public void inform_withUnknownOutputGetOption_shouldRestoreDefaultOutputFormat() {
+        when(mockLibrary.inform(any(Pointer.class), anyInt())).thenReturn(new WString("{}"));
+        when(mockLibrary.option(any(Pointer.class), any(Pointer.class), any(Pointer.class)))
+                .thenAnswer(invocation -> new WString(
+                        "Inform_Get".equals(invocation.getArgument(1, Pointer.class).getWideString(0L))
+                                ? "Option not known"
+                                : StringUtils.EMPTY));
+
+        accessorUnderTest.inform("JSON");
+
+        final InOrder inOrder = inOrder(mockLibrary);
+        assertAll(
+                () -> inOrder.verify(mockLibrary).inform(isA(Pointer.class), eq(0)),
+                () -> inOrder.verify(mockLibrary).option(
+                        isA(Pointer.class),
+                        nativeString("Output"),
+                        nativeString(StringUtils.EMPTY)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void inform_withConcurrentAccessors_shouldNotObserveOtherOutputFormats() {
+        // Emulates the process-wide output format that is shared by every MediaInfoLib handle
+        final AtomicReference<String> globalOutputFormat = new AtomicReference<>(StringUtils.EMPTY);
+        when(mockLibrary.option(any(Pointer.class), any(Pointer.class), any(Pointer.class)))
+                .thenAnswer(invocation -> {
+                    final String name = invocation.getArgument(1, Pointer.class).getWideString(0L);
+                    if ("Output".equals(name)) {
+                        globalOutputFormat.set(invocation.getArgument(2, Pointer.class).getWideString(0L));
+                    }
+                    return new WString("Inform_Get".equals(name) ? globalOutputFormat.get() : StringUtils.EMPTY);
+                });
+        when(mockLibrary.inform(any(Pointer.class), anyInt())).thenAnswer(invocation -> {
+            Thread.yield();
+            return new WString(globalOutputFormat.get());
+        });
+        final int numThreads = 4;
+        final ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        try {
+            final List<Future<Integer>> futures = new ArrayList<>(numThreads);
+            for (int i = 0; i < numThreads; ++i) {
+                final String format = "Format" + i;
+                final MediaInfoAccessor accessor = new MediaInfoAccessor(mockLibrary);
+                futures.add(executor.submit(() -> {
+                    int numMismatches = 0;
+                    for (int j = 0; j < 500; ++j) {
+                        if (!format.equals(accessor.inform(format))) {
+                            ++numMismatches;
+                        }
+                    }
+                    return numMismatches;
+                }));
+            }
+
+            for (final Future<Integer> future : futures) {
+                assertEquals(0, future.get(30L, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(StringUtils.EMPTY, globalOutputFormat.get());
+    }
+
+    @Test
+    public void inform_withOutputFormat_shouldNotCacheOutputFormat() {
+        final NativeStringCache cache = new NativeStringCache(NativeStringCache.DEFAULT_MAX_ENTRIES);
+        final MediaInfoAccessor cacheAccessor = new MediaInfoAccessor(mockLibrary, false, cache);
+        when(mockLibrary.inform(any(Pointer.class), anyInt())).thenReturn(new WString("1280"));
+        when(mockLibrary.option(any(Pointer.class), any(Pointer.class), any(Pointer.class)))
+                .thenReturn(new WString(StringUtils.EMPTY));
+
+        cacheAccessor.inform("Video;%Width%");
+
+        // Only the Output and Inform_Get option names are cached
+        assertEquals(2, cache.getStats().getSize());
+    }
+
+    @Test
+    public void inform_withInvalidOutputFormat_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> accessorUnderTest.inform(null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> accessorUnderTest.inform(" ")));
+    }
+
+    @Test
+    public void inform_withOutputFormatAndNullMediaInfoLibrary_shouldThrowException() {
+        accessorUnderTest.setMediaInfoLibPointer(null);
+
+        assertThrows(IllegalStateException.class, () -> accessorUnderTest.inform("JSON"));
+    }
+
+    ///////////////////////////
+    // informInto
+    ///////////////////////////
+
+    @Test
+    public void informInto_shouldAppendReport() {
+        when(mockLibrary.informAsPointer(any(Pointer.class), anyInt()))
+                .thenReturn(WideStringsTest.newWideString("Report"));
+        final StringBuilder destination = new StringBuilder();
+
+        final int actual = accessorUnderTest.informInto(destination);
+
+        assertAll(
+                () -> assertEquals(6, actual),
+                () -> assertEquals("Report", destination.toString()),
+                () -> verify(mockLibrary, never()).inform(any(Pointer.class), anyInt()));
+    }
+
+    @Test
+    public void informInto_withNullMediaInfoLibrary_shouldThrowException() {
+        accessorUnderTest.setMediaInfoLibPointer(null);
+
+        assertThrows(IllegalStateException.class, () -> accessorUnderTest.informInto(new StringBuilder()));
+    }
+
+    ///////////
+    // report
+    ///////////
+
+    @Test
+    public void report_shouldParseJsonOutput() {
+        doReturn("{\"media\":{\"@ref\":\"/path/file.mkv\",\"track\":[{\"@type\":\"Video\",\"Width\":\"1280\"}]}}")
+                .when(accessorUnderTest).inform(eq("JSON"));
+
+        final MediaInfoReport actual = accessorUnderTest.report();
+
+        assertAll(
+                () -> assertEquals("/path/file.mkv", actual.getRef()),
+                () -> assertEquals("1280", actual.get(StreamType.Video, 0, "Width")),
+                () -> verify(mockLibrary, never()).get(
+                        any(Pointer.class), anyInt(), anyInt(), any(Pointer.class), anyInt(), anyInt()));
+    }
+
     /////////////////////////////////
     // get(StreamType, int, String)
     /////////////////////////////////
@@ -344,6 +592,121 @@ public class MediaInfoAccessorTest {
                 () -> assertEquals(expected, actual));
     }
 
+    //////////////////////////////////////
+    // getInto / getLong
+    //////////////////////////////////////
+
+    @Test
+    public void getInto_shouldAppendDecodedValue() {
+        when(mockLibrary.getAsPointer(
+                any(Pointer.class), anyInt(), anyInt(), any(Pointer.class), anyInt(), anyInt()))
+                .thenReturn(WideStringsTest.newWideString("AVC"));
+        when(mockLibrary.getIAsPointer(any(Pointer.class), anyInt(), anyInt(), anyInt(), anyInt()))
+                .thenReturn(WideStringsTest.newWideString("1280"));
+        final StringBuilder destination = new StringBuilder();
+
+        final int numFormatChars = accessorUnderTest.getInto(StreamType.Video, 0, "Format", destination);
+        final int numWidthChars = accessorUnderTest.getInto(StreamType.Video, 0, 5, destination);
+
+        assertAll(
+                () -> assertEquals(3, numFormatChars),
+                () -> assertEquals(4, numWidthChars),
+                () -> assertEquals("AVC1280", destination.toString()),
+                () -> verify(mockLibrary).getAsPointer(
+                        isA(Pointer.class),
+                        eq(StreamType.Video.ordinal()),
+                        eq(0),
+                        nativeString("Format"),
+                        eq(InfoType.Text.ordinal()),
+                        eq(InfoType.Name.ordinal())),
+                () -> verify(mockLibrary).getIAsPointer(
+                        isA(Pointer.class),
+                        eq(StreamType.Video.ordinal()),
+                        eq(0),
+                        eq(5),
+                        eq(InfoType.Text.ordinal())));
+    }
+
+    @Test
+    public void getLong_withNumericValue_shouldReturnParsedValue() {
+        when(mockLibrary.getAsPointer(
+                any(Pointer.class), anyInt(), anyInt(), any(Pointer.class), anyInt(), anyInt()))
+                .thenReturn(WideStringsTest.newWideString("5005.000"));
+        when(mockLibrary.getIAsPointer(any(Pointer.class), anyInt(), anyInt(), anyInt(), anyInt()))
+                .thenReturn(null);
+
+        assertAll(
+                () -> assertEquals(5005L, accessorUnderTest.getLong(StreamType.General, 0, "Duration", -1L)),
+                () -> assertEquals(-1L, accessorUnderTest.getLong(StreamType.General, 0, 3, -1L)));
+    }
+
+    @Test
+    public void getLong_withUtf8Library_shouldParseUtf8Value() {
+        final MediaInfoLibrary mockUtf8Library = mock(MediaInfoLibrary.class);
+        when(mockUtf8Library.isUtf8()).thenReturn(true);
+        when(mockUtf8Library.newHandle()).thenReturn(mockPointer);
+        when(mockUtf8Library.getAsPointer(
+                any(), anyInt(), anyInt(), argThat((Pointer p) -> "Duration".equals(p.getString(0L))), anyInt(),
+                anyInt()))
+                .thenReturn(WideStringsTest.newUtf8String("5005.000"));
+        final MediaInfoAccessor utf8Accessor = new MediaInfoAccessor(mockUtf8Library);
+        final StringBuilder destination = new StringBuilder();
+
+        assertAll(
+                () -> assertEquals(5005L, utf8Accessor.getLong(StreamType.General, 0, "Duration", -1L)),
+                () -> assertEquals(8, utf8Accessor.getInto(StreamType.General, 0, "Duration", destination)),
+                () -> assertEquals("5005.000", destination.toString()),
+                () -> assertTrue(utf8Accessor.getAsCharSequence(StreamType.General, 0, "Duration")
+                        .contentEquals("5005.000")));
+    }
+
+    @Test
+    public void ctor_withMismatchedNativeStringCache_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new MediaInfoAccessor(mockLibrary, false, new NativeStringCache(1, true)));
+    }
+
+    @Test
+    public void getAsCharSequence_shouldReturnLazyView() {
+        when(mockLibrary.getAsPointer(
+                any(Pointer.class), anyInt(), anyInt(), any(Pointer.class), anyInt(), anyInt()))
+                .thenReturn(WideStringsTest.newWideString("1280"));
+
+        final NativeCharSequence actual = accessorUnderTest.getAsCharSequence(StreamType.Video, 0, "Width");
+
+        assertTrue(actual.contentEquals("1280"));
+    }
+
+    @Test
+    public void getInto_withInvalidInput_shouldThrowException() {
+        final StringBuilder destination = new StringBuilder();
+
+        assertAll(
+                () -> assertThrows(NullPointerException.class,
+                        () -> accessorUnderTest.getInto(StreamType.Video, 0, "Width", null)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> accessorUnderTest.getInto(StreamType.Video, -1, "Width", destination)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> accessorUnderTest.getInto(StreamType.Video, 0, " ", destination)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> accessorUnderTest.getInto(StreamType.Video, 0, -1, destination)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> accessorUnderTest.getLong(StreamType.Video, -1, 0, 0L)));
+    }
+
+    @Test
+    public void getInto_withNullMediaInfoLibrary_shouldThrowException() {
+        accessorUnderTest.setMediaInfoLibPointer(null);
+
+        assertAll(
+                () -> assertThrows(IllegalStateException.class,
+                        () -> accessorUnderTest.getInto(StreamType.Video, 0, "Width", new StringBuilder())),
+                () -> assertThrows(IllegalStateException.class,
+                        () -> accessorUnderTest.getLong(StreamType.Video, 0, 0, 0L)),
+                () -> assertThrows(IllegalStateException.class,
+                        () -> accessorUnderTest.getAsCharSequence(StreamType.Video, 0, "Width")));
+    }
+
     /////////////////////////////////////////////////////
     // get(StreamType, int, String, InfoType, InfoType)
     /////////////////////////////////////////////////////
@@ -357,7 +720,7 @@ public class MediaInfoAccessorTest {
                 any(Pointer.class),
                 anyInt(),
                 anyInt(),
-                any(WString.class),
+                any(Pointer.class),
                 anyInt(),
                 anyInt())).thenReturn(response);
 
@@ -369,12 +732,64 @@ public class MediaInfoAccessorTest {
                         isA(Pointer.class),
                         anyInt(),
                         anyInt(),
-                        isA(WString.class),
+                        isA(Pointer.class),
                         anyInt(),
                         anyInt()),
                 () -> assertEquals(expected, actual));
     }
 
+    @Test
+    public void get_withParameterIndexResolutionEnabled_shouldRouteStaticParametersThroughGetI() {
+        ParameterIndexResolver.clearCache();
+        when(mockLibrary.option(any(Pointer.class), any(Pointer.class), any(Pointer.class)))
+                .thenAnswer(invocation -> {
+                    final String option = invocation.<Pointer>getArgument(1).getWideString(0L);
+                    return new WString("Info_Version".equals(option)
+                            ? "MediaInfoLib - v24.06"
+                            : ParameterIndexResolverTest.INFO_PARAMETERS);
+                });
+        when(mockLibrary.getI(any(Pointer.class), anyInt(), anyInt(), anyInt(), anyInt()))
+                .thenReturn(new WString("1280"));
+        when(mockLibrary.get(any(Pointer.class), anyInt(), anyInt(), any(Pointer.class), anyInt(), anyInt()))
+                .thenReturn(new WString("AVC"));
+        final MediaInfoAccessor resolvingAccessor = new MediaInfoAccessor(mockLibrary, true);
+
+        final String width = resolvingAccessor.get(StreamType.Video, 0, "Width");
+        final String height = resolvingAccessor.get(StreamType.Video, 0, "Height", InfoType.Measure);
+        final String format = resolvingAccessor.get(StreamType.Video, 0, "Format");
+        final String widthInfo = resolvingAccessor.get(StreamType.Video, 0, "Width", InfoType.Text, InfoType.Info);
+
+        ParameterIndexResolver.clearCache();
+        assertAll(
+                () -> assertEquals("1280", width),
+                () -> assertEquals("1280", height),
+                () -> assertEquals("AVC", format),
+                () -> assertEquals("AVC", widthInfo),
+                () -> verify(mockLibrary).getI(
+                        isA(Pointer.class),
+                        eq(StreamType.Video.ordinal()),
+                        eq(0),
+                        eq(1),
+                        eq(InfoType.Text.ordinal())),
+                () -> verify(mockLibrary).getI(
+                        isA(Pointer.class),
+                        eq(StreamType.Video.ordinal()),
+                        eq(0),
+                        eq(3),
+                        eq(InfoType.Measure.ordinal())),
+                () -> verify(mockLibrary).get(
+                        isA(Pointer.class),
+                        eq(StreamType.Video.ordinal()),
+                        eq(0),
+                        nativeString("Format"),
+                        eq(InfoType.Text.ordinal()),
+                        eq(InfoType.Name.ordinal())),
+                () -> verify(mockLibrary).option(
+                        isA(Pointer.class),
+                        nativeString("Info_Parameters"),
+                        nativeString(StringUtils.EMPTY)));
+    }
+
     @Test
     public void get_withParameterAndInvalidInput_shouldThrowException() {
         final String parameter = "Parameter";
@@ -582,6 +997,57 @@ public class MediaInfoAccessorTest {
                         () -> accessorUnderTest.getStreamOrParameterCount(StreamType.General, -1)));
     }
 
+    /////////////
+    // snapshot
+    /////////////
+
+    @Test
+    public void snapshot_withOpenedFile_shouldExtractAllParameters() {
+        when(mockLibrary.get(any(Pointer.class), anyInt(), eq(0), any(Pointer.class), anyInt(), anyInt()))
+                .thenAnswer(invocation -> {
+                    final int streamType = invocation.getArgument(1);
+                    return new WString(streamType == StreamType.Video.ordinal() ? "2" : StringUtils.EMPTY);
+                });
+        when(mockLibrary.countGet(any(Pointer.class), eq(StreamType.Video.ordinal()), anyInt())).thenReturn(2);
+        when(mockLibrary.getI(any(Pointer.class), eq(StreamType.Video.ordinal()), anyInt(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> {
+                    final int streamNumber = invocation.getArgument(2);
+                    final int parameterIndex = invocation.getArgument(3);
+                    final int infoType = invocation.getArgument(4);
+                    if (infoType == InfoType.Name.ordinal()) {
+                        return new WString(parameterIndex == 0 ? "Width" : "Height");
+                    }
+                    return new WString(String.valueOf((streamNumber + 1) * (parameterIndex == 0 ? 1280 : 720)));
+                });
+
+        final MediaInfoSnapshot actual = accessorUnderTest.snapshot();
+
+        accessorUnderTest.dispose();
+        assertAll(
+                () -> assertEquals(0, actual.getStreamCount(StreamType.General)),
+                () -> assertEquals(2, actual.getStreamCount(StreamType.Video)),
+                () -> assertEquals(2, actual.getParameterCount(StreamType.Video, 1)),
+                () -> assertEquals("1280", actual.get(StreamType.Video, 0, "Width")),
+                () -> assertEquals("1440", actual.get(StreamType.Video, 1, "Height")),
+                () -> assertEquals("2560", actual.get(StreamType.Video, 1, 0)),
+                () -> assertEquals("Height", actual.getParameterName(StreamType.Video, 0, 1)),
+                () -> assertEquals(
+                        Map.of("Width", "1280", "Height", "720"),
+                        actual.getParameters(StreamType.Video, 0)),
+                () -> assertEquals(StringUtils.EMPTY, actual.get(StreamType.Video, 0, "Unknown")),
+                () -> assertEquals(StringUtils.EMPTY, actual.get(StreamType.Video, 2, "Width")),
+                () -> assertEquals(StringUtils.EMPTY, actual.get(StreamType.Video, 0, 5)),
+                () -> assertEquals(StringUtils.EMPTY, actual.get(StreamType.Audio, 0, "Width")),
+                () -> assertTrue(actual.getParameters(StreamType.Audio, 0).isEmpty()));
+    }
+
+    @Test
+    public void snapshot_withNullMediaInfoLibrary_shouldThrowException() {
+        accessorUnderTest.setMediaInfoLibPointer(null);
+
+        assertThrows(IllegalStateException.class, () -> accessorUnderTest.snapshot());
+    }
+
     //////////////
     // getOption
     //////////////
@@ -607,13 +1073,29 @@ public class MediaInfoAccessorTest {
         final String expected = "Response";
         final WString response = mock(WString.class);
         when(response.toString()).thenReturn(expected);
-        when(mockLibrary.option(any(Pointer.class), any(WString.class), any(WString.class))).thenReturn(response);
+        when(mockLibrary.option(any(Pointer.class), any(Pointer.class), any(Pointer.class))).thenReturn(response);
 
         final String actual = accessorUnderTest.setOption("Optional Name", "Optional Value");
 
         assertAll(
                 () -> assertEquals(expected, actual),
-                () -> verify(mockLibrary).option(eq(mockPointer), isA(WString.class), isA(WString.class)));
+                () -> verify(mockLibrary).option(eq(mockPointer), isA(Pointer.class), isA(Pointer.class)));
+    }
+
+    @Test
+    public void setOption_withOptionAndValue_shouldCacheOnlyOptionName() {
+        final NativeStringCache cache = new NativeStringCache(NativeStringCache.DEFAULT_MAX_ENTRIES);
+        final MediaInfoAccessor cacheAccessor = new MediaInfoAccessor(mockLibrary, false, cache);
+        when(mockLibrary.option(any(Pointer.class), any(Pointer.class), any(Pointer.class)))
+                .thenReturn(new WString(StringUtils.EMPTY));
+
+        cacheAccessor.setOption("ParseSpeed", "0.25");
+        cacheAccessor.setOption("ParseSpeed", "0.5");
+
+        final NativeStringCache.Stats actual = cache.getStats();
+        assertAll(
+                () -> assertEquals(1, actual.getSize()),
+                () -> verify(mockLibrary).option(eq(mockPointer), nativeString("ParseSpeed"), nativeString("0.25")));
     }
 
     @Test
@@ -626,4 +1108,8 @@ public class MediaInfoAccessorTest {
                 () -> assertThrows(NullPointerException.class,
                         () -> accessorUnderTest.setOption("Option Name", null)));
     }
+
+    private static Pointer nativeString(final String expected) {
+        return argThat(p -> p != null && expected.equals(p.getWideString(0L)));
+    }
 }
@@ -0,0 +1,242 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.sun.jna.Pointer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class MediaInfoHandlePoolTest {
+    @Mock
+    private MediaInfoLibrary mockLibrary;
+    @Mock
+    private Pointer mockPointer;
+    private final AtomicLong nanoClock = new AtomicLong();
+    private MediaInfoHandlePool poolUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(mockLibrary.newHandle()).thenReturn(mockPointer);
+        poolUnderTest = new MediaInfoHandlePool(mockLibrary, 2, 3, Duration.ofSeconds(10L), nanoClock::get);
+    }
+
+    /////////
+    // ctor
+    /////////
+
+    @Test
+    public void ctor_withInvalidConfiguration_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class,
+                        () -> new MediaInfoHandlePool(null)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new MediaInfoHandlePool(mockLibrary, -1, 1, Duration.ZERO)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new MediaInfoHandlePool(mockLibrary, 1, 0, Duration.ZERO)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new MediaInfoHandlePool(mockLibrary, 1, 1, Duration.ofSeconds(-1L))));
+    }
+
+    ///////////
+    // borrow
+    ///////////
+
+    @Test
+    public void borrow_withEmptyPool_shouldCreateHandle() {
+        final MediaInfoAccessor actual = poolUnderTest.borrow();
+
+        final MediaInfoHandlePool.Stats stats = poolUnderTest.getStats();
+        assertAll(
+                () -> assertInstanceOf(MediaInfoHandlePool.PooledAccessor.class, actual),
+                () -> verify(mockLibrary).newHandle(),
+                () -> assertEquals(1L, stats.getBorrowCount()),
+                () -> assertEquals(0L, stats.getHitCount()),
+                () -> assertEquals(1, stats.getLiveHandles()),
+                () -> assertEquals(0, stats.getIdleHandles()));
+    }
+
+    @Test
+    public void borrow_withReturnedAccessor_shouldReuseHandle() {
+        final MediaInfoAccessor first = poolUnderTest.borrow();
+        first.close();
+
+        final MediaInfoAccessor actual = poolUnderTest.borrow();
+
+        final MediaInfoHandlePool.Stats stats = poolUnderTest.getStats();
+        assertAll(
+                () -> assertSame(first, actual),
+                () -> verify(mockLibrary).newHandle(),
+                () -> verify(mockLibrary).close(eq(mockPointer)),
+                () -> verify(mockLibrary, never()).deleteHandle(any(Pointer.class)),
+                () -> assertEquals(2L, stats.getBorrowCount()),
+                () -> assertEquals(1L, stats.getHitCount()),
+                () -> assertEquals(0.5D, stats.getHitRate()),
+                () -> assertEquals(1, stats.getLiveHandles()));
+    }
+
+    @Test
+    public void borrow_withConcurrentLeases_shouldGrowPool() {
+        final MediaInfoAccessor first = poolUnderTest.borrow();
+        final MediaInfoAccessor second = poolUnderTest.borrow();
+
+        assertAll(
+                () -> assertNotSame(first, second),
+                () -> verify(mockLibrary, times(2)).newHandle(),
+                () -> assertEquals(2, poolUnderTest.getStats().getLiveHandles()));
+    }
+
+    @Test
+    public void borrow_withClosedPool_shouldThrowException() {
+        poolUnderTest.close();
+
+        assertThrows(IllegalStateException.class, () -> poolUnderTest.borrow());
+    }
+
+    //////////
+    // close
+    //////////
+
+    @Test
+    public void close_withLeasedAccessor_shouldReturnOnlyOnce() {
+        final MediaInfoAccessor accessor = poolUnderTest.borrow();
+
+        accessor.close();
+        accessor.close();
+
+        final MediaInfoHandlePool.Stats stats = poolUnderTest.getStats();
+        assertAll(
+                () -> verify(mockLibrary).close(eq(mockPointer)),
+                () -> assertEquals(1L, stats.getReturnCount()),
+                () -> assertEquals(1, stats.getIdleHandles()));
+    }
+
+    @Test
+    public void close_withMaxUsesReached_shouldRetireHandle() {
+        for (int i = 0; i < 3; ++i) {
+            poolUnderTest.borrow().close();
+        }
+
+        final MediaInfoHandlePool.Stats stats = poolUnderTest.getStats();
+        assertAll(
+                () -> verify(mockLibrary).deleteHandle(eq(mockPointer)),
+                () -> assertEquals(1L, stats.getRetiredCount()),
+                () -> assertEquals(0, stats.getLiveHandles()),
+                () -> assertEquals(0, stats.getIdleHandles()));
+    }
+
+    @Test
+    public void close_withMaxIdleReached_shouldDeleteHandle() {
+        final MediaInfoAccessor first = poolUnderTest.borrow();
+        final MediaInfoAccessor second = poolUnderTest.borrow();
+        final MediaInfoAccessor third = poolUnderTest.borrow();
+
+        first.close();
+        second.close();
+        third.close();
+
+        final MediaInfoHandlePool.Stats stats = poolUnderTest.getStats();
+        assertAll(
+                () -> verify(mockLibrary).deleteHandle(eq(mockPointer)),
+                () -> assertEquals(2, stats.getLiveHandles()),
+                () -> assertEquals(2, stats.getIdleHandles()));
+    }
+
+    @Test
+    public void close_withDisposedAccessor_shouldNotPoolHandle() {
+        final MediaInfoAccessor accessor = poolUnderTest.borrow();
+        accessor.dispose();
+
+        accessor.close();
+
+        final MediaInfoHandlePool.Stats stats = poolUnderTest.getStats();
+        assertAll(
+                () -> verify(mockLibrary).deleteHandle(eq(mockPointer)),
+                () -> assertEquals(0, stats.getLiveHandles()),
+                () -> assertEquals(0, stats.getIdleHandles()));
+    }
+
+    @Test
+    public void close_withPool_shouldDeleteIdleHandles() {
+        final MediaInfoAccessor leased = poolUnderTest.borrow();
+        poolUnderTest.borrow().close();
+
+        poolUnderTest.close();
+        leased.close();
+
+        assertAll(
+                () -> verify(mockLibrary, times(2)).deleteHandle(eq(mockPointer)),
+                () -> assertEquals(0, poolUnderTest.getStats().getLiveHandles()));
+    }
+
+    /////////////
+    // trimIdle
+    /////////////
+
+    @Test
+    public void trimIdle_withExpiredHandles_shouldDeleteHandles() {
+        poolUnderTest.borrow().close();
+        nanoClock.set(Duration.ofSeconds(11L).toNanos());
+
+        final int actual = poolUnderTest.trimIdle();
+
+        final MediaInfoHandlePool.Stats stats = poolUnderTest.getStats();
+        assertAll(
+                () -> assertEquals(1, actual),
+                () -> verify(mockLibrary).deleteHandle(eq(mockPointer)),
+                () -> assertEquals(1L, stats.getTrimmedCount()),
+                () -> assertEquals(0, stats.getIdleHandles()));
+    }
+
+    @Test
+    public void trimIdle_withRecentlyReturnedHandles_shouldRetainHandles() {
+        poolUnderTest.borrow().close();
+        nanoClock.set(Duration.ofSeconds(5L).toNanos());
+
+        final int actual = poolUnderTest.trimIdle();
+
+        assertAll(
+                () -> assertEquals(0, actual),
+                () -> verify(mockLibrary, never()).deleteHandle(any(Pointer.class)),
+                () -> assertEquals(1, poolUnderTest.getStats().getIdleHandles()));
+    }
+}
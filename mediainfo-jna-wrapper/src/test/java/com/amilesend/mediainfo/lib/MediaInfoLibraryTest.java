@@ -0,0 +1,73 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MediaInfoLibraryTest {
+
+    /////////////////////
+    // Binding.fromName
+    /////////////////////
+
+    @Test
+    public void fromName_withValidName_shouldReturnBinding() {
+        assertAll(
+                () -> assertEquals(MediaInfoLibrary.Binding.PROXY, MediaInfoLibrary.Binding.fromName(null)),
+                () -> assertEquals(MediaInfoLibrary.Binding.PROXY, MediaInfoLibrary.Binding.fromName(" ")),
+                () -> assertEquals(MediaInfoLibrary.Binding.PROXY, MediaInfoLibrary.Binding.fromName("proxy")),
+                () -> assertEquals(MediaInfoLibrary.Binding.DIRECT, MediaInfoLibrary.Binding.fromName(" Direct ")),
+                () -> assertEquals(MediaInfoLibrary.Binding.UTF8, MediaInfoLibrary.Binding.fromName("utf8")),
+                () -> assertEquals(MediaInfoLibrary.Binding.FFM, MediaInfoLibrary.Binding.fromName("ffm")));
+    }
+
+    @Test
+    public void fromName_withInvalidName_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> MediaInfoLibrary.Binding.fromName("reflection"));
+    }
+
+    ////////////////
+    // newInstance
+    ////////////////
+
+    @Test
+    public void newInstance_withNullBinding_shouldThrowException() {
+        assertThrows(NullPointerException.class, () -> MediaInfoLibrary.newInstance(null));
+    }
+
+    ///////////////
+    // FfmSupport
+    ///////////////
+
+    @Test
+    public void ffmSupport_withoutMultiReleaseOverlay_shouldBeUnavailable() {
+        assertAll(
+                () -> assertFalse(FfmSupport.isAvailable()),
+                () -> assertThrows(UnsupportedOperationException.class, FfmSupport::newLibrary));
+    }
+}
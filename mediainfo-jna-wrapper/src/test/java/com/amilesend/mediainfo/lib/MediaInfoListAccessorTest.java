@@ -0,0 +1,239 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.type.InfoType;
+import com.amilesend.mediainfo.type.StreamType;
+import com.amilesend.mediainfo.util.StringUtils;
+import com.sun.jna.Pointer;
+import com.sun.jna.WString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class MediaInfoListAccessorTest {
+
+    @Mock
+    private MediaInfoListLibrary mockLibrary;
+    @Mock
+    private Pointer mockPointer;
+    private MediaInfoListAccessor accessorUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        when(mockLibrary.newHandle()).thenReturn(mockPointer);
+        accessorUnderTest = new MediaInfoListAccessor(mockLibrary);
+    }
+
+    /////////
+    // ctor
+    /////////
+
+    @Test
+    public void ctor_withLinkageException_shouldThrowException() {
+        when(mockLibrary.newHandle()).thenThrow(new LinkageError("Error!"));
+
+        final Throwable thrown = assertThrows(MediaInfoException.class,
+                () -> new MediaInfoListAccessor(mockLibrary));
+        assertInstanceOf(LinkageError.class, thrown.getCause());
+    }
+
+    ////////////
+    // dispose
+    ////////////
+
+    @Test
+    public void dispose_withValidPointer_shouldCloseAllFilesAndDeleteHandle() {
+        accessorUnderTest.close();
+        accessorUnderTest.dispose();
+
+        assertAll(
+                () -> verify(mockLibrary).close(eq(mockPointer), eq(MediaInfoListLibrary.ALL_FILES)),
+                () -> verify(mockLibrary).deleteHandle(eq(mockPointer)),
+                () -> assertNull(accessorUnderTest.getMediaInfoListPointer()));
+    }
+
+    /////////
+    // open
+    /////////
+
+    @Test
+    public void open_withDirectory_shouldReturnNumberOfOpenedFiles() {
+        when(mockLibrary.open(any(Pointer.class), any(WString.class), anyInt())).thenReturn(3);
+
+        final int actual = accessorUnderTest.open("/videos");
+        final int actualNoRecursive = accessorUnderTest.open("/videos", MediaInfoListLibrary.FileOption.NO_RECURSIVE);
+
+        assertAll(
+                () -> assertEquals(3, actual),
+                () -> assertEquals(3, actualNoRecursive),
+                () -> verify(mockLibrary).open(eq(mockPointer), eq(new WString("/videos")), eq(0)),
+                () -> verify(mockLibrary).open(eq(mockPointer), eq(new WString("/videos")), eq(1)));
+    }
+
+    @Test
+    public void open_withNullPointer_shouldCreateHandle() {
+        accessorUnderTest.setMediaInfoListPointer(null);
+        when(mockLibrary.open(any(Pointer.class), any(WString.class), anyInt())).thenReturn(1);
+
+        assertAll(
+                () -> assertEquals(1, accessorUnderTest.open("/videos/video.mkv")),
+                () -> assertEquals(mockPointer, accessorUnderTest.getMediaInfoListPointer()));
+    }
+
+    @Test
+    public void open_withInvalidInput_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> accessorUnderTest.open(null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> accessorUnderTest.open(StringUtils.EMPTY)),
+                () -> assertThrows(NullPointerException.class, () -> accessorUnderTest.open("/videos", null)));
+    }
+
+    ////////
+    // get
+    ////////
+
+    @Test
+    public void get_withFileIndex_shouldReturnResponse() {
+        when(mockLibrary.get(any(Pointer.class), anyInt(), anyInt(), anyInt(), any(Pointer.class), anyInt(), anyInt()))
+                .thenReturn(new WString("1280"));
+        when(mockLibrary.getI(any(Pointer.class), anyInt(), anyInt(), anyInt(), anyInt(), anyInt()))
+                .thenReturn(new WString("AVC"));
+
+        assertAll(
+                () -> assertEquals("1280", accessorUnderTest.get(2, StreamType.Video, 0, "Width")),
+                () -> verify(mockLibrary).get(
+                        eq(mockPointer),
+                        eq(2),
+                        eq(StreamType.Video.ordinal()),
+                        eq(0),
+                        argThat(p -> "Width".equals(p.getWideString(0L))),
+                        eq(InfoType.Text.ordinal()),
+                        eq(InfoType.Name.ordinal())),
+                () -> assertEquals("AVC", accessorUnderTest.get(1, StreamType.Video, 0, 7)),
+                () -> verify(mockLibrary).getI(
+                        eq(mockPointer),
+                        eq(1),
+                        eq(StreamType.Video.ordinal()),
+                        eq(0),
+                        eq(7),
+                        eq(InfoType.Text.ordinal())));
+    }
+
+    @Test
+    public void get_withInvalidInput_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> accessorUnderTest.get(-1, StreamType.Video, 0, "Width")),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> accessorUnderTest.get(0, StreamType.Video, -1, "Width")),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> accessorUnderTest.get(0, StreamType.Video, 0, " ")),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> accessorUnderTest.get(0, StreamType.Video, 0, -1)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> accessorUnderTest.get(0, null, 0, 1)));
+    }
+
+    @Test
+    public void get_withNullPointer_shouldThrowException() {
+        accessorUnderTest.setMediaInfoListPointer(null);
+
+        assertAll(
+                () -> assertThrows(IllegalStateException.class,
+                        () -> accessorUnderTest.get(0, StreamType.Video, 0, "Width")),
+                () -> assertThrows(IllegalStateException.class, () -> accessorUnderTest.getFileCount()),
+                () -> assertThrows(IllegalStateException.class, () -> accessorUnderTest.inform(0)),
+                () -> assertThrows(IllegalStateException.class, () -> accessorUnderTest.closeFile(0)),
+                () -> verify(mockLibrary, never()).countGetFiles(any(Pointer.class)));
+    }
+
+    ///////////////////
+    // getStreamCount
+    ///////////////////
+
+    @Test
+    public void getStreamCount_withStreamCountValue_shouldReturnCount() {
+        when(mockLibrary.get(any(Pointer.class), eq(0), anyInt(), anyInt(), any(Pointer.class), anyInt(), anyInt()))
+                .thenReturn(new WString("2"));
+        when(mockLibrary.get(any(Pointer.class), eq(1), anyInt(), anyInt(), any(Pointer.class), anyInt(), anyInt()))
+                .thenReturn(new WString(StringUtils.EMPTY));
+
+        assertAll(
+                () -> assertEquals(2, accessorUnderTest.getStreamCount(0, StreamType.Audio)),
+                () -> assertEquals(0, accessorUnderTest.getStreamCount(1, StreamType.Audio)));
+    }
+
+    //////////////////////////////////////////
+    // getFileCount, getState, inform, close
+    //////////////////////////////////////////
+
+    @Test
+    public void getFileCount_shouldReturnResponse() {
+        when(mockLibrary.countGetFiles(any(Pointer.class))).thenReturn(42);
+        when(mockLibrary.stateGet(any(Pointer.class))).thenReturn(10000);
+        when(mockLibrary.inform(any(Pointer.class), anyInt(), anyInt())).thenReturn(new WString("General"));
+
+        accessorUnderTest.closeFile(3);
+
+        assertAll(
+                () -> assertEquals(42, accessorUnderTest.getFileCount()),
+                () -> assertEquals(10000, accessorUnderTest.getState()),
+                () -> assertEquals("General", accessorUnderTest.inform(1)),
+                () -> verify(mockLibrary).inform(eq(mockPointer), eq(1), eq(0)),
+                () -> verify(mockLibrary).close(eq(mockPointer), eq(3)));
+    }
+
+    //////////////
+    // setOption
+    //////////////
+
+    @Test
+    public void setOption_withOptionAndValue_shouldReturnResponse() {
+        when(mockLibrary.option(any(Pointer.class), any(Pointer.class), any(Pointer.class)))
+                .thenReturn(new WString("Response"));
+
+        assertAll(
+                () -> assertEquals("Response", accessorUnderTest.setOption("ParseSpeed", "0")),
+                () -> verify(mockLibrary).option(
+                        eq(mockPointer),
+                        argThat(p -> "ParseSpeed".equals(p.getWideString(0L))),
+                        argThat(p -> "0".equals(p.getWideString(0L)))));
+    }
+}
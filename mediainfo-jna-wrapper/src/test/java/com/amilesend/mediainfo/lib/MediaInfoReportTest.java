@@ -0,0 +1,110 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.type.StreamType;
+import com.amilesend.mediainfo.util.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MediaInfoReportTest {
+    private static final String REPORT_JSON = "{\n" +
+            "  \"creatingLibrary\": {\"name\": \"MediaInfoLib\", \"version\": \"24.06\", \"url\": \"https://mediaarea.net\"},\n" +
+            "  \"media\": {\n" +
+            "    \"@ref\": \"C:\\\\Videos\\\\My \\\"Video\\\".mkv\",\n" +
+            "    \"track\": [\n" +
+            "      {\"@type\": \"General\", \"VideoCount\": \"1\", \"AudioCount\": \"2\", \"Duration\": \"5.005\",\n" +
+            "       \"Title\": \"Caf\\u00e9\\ttab\\n\", \"extra\": {\"ENCODER\": \"Lavf\", \"Nested\": {\"a\": [1, 2]}}},\n" +
+            "      {\"@type\": \"Video\", \"StreamOrder\": \"0\", \"Width\": \"1280\", \"Height\": \"720\",\n" +
+            "       \"Unknown\": [true, null, {\"x\": \"y\"}], \"Bits\": 8},\n" +
+            "      {\"@type\": \"Audio\", \"@typeorder\": \"1\", \"Format\": \"AAC\"},\n" +
+            "      {\"@type\": \"Audio\", \"@typeorder\": \"2\", \"Format\": \"AC-3\"},\n" +
+            "      {\"@type\": \"Unsupported\", \"Format\": \"Data\"}\n" +
+            "    ]\n" +
+            "  },\n" +
+            "  \"ignored\": [{\"a\": \"b\"}]\n" +
+            "}";
+
+    ///////////
+    // parse
+    ///////////
+
+    @Test
+    public void parse_withReport_shouldReturnTracks() {
+        final MediaInfoReport actual = MediaInfoReport.parse(REPORT_JSON);
+
+        final MediaInfoReport.Track general = actual.getTracks(StreamType.General).get(0);
+        final MediaInfoReport.Track secondAudio = actual.getTracks(StreamType.Audio).get(1);
+        assertAll(
+                () -> assertEquals("24.06", actual.getCreatingLibraryVersion()),
+                () -> assertEquals("C:\\Videos\\My \"Video\".mkv", actual.getRef()),
+                () -> assertEquals(5, actual.getTracks().size()),
+                () -> assertEquals(1, actual.getStreamCount(StreamType.Video)),
+                () -> assertEquals(2, actual.getStreamCount(StreamType.Audio)),
+                () -> assertEquals(0, actual.getStreamCount(StreamType.Menu)),
+                () -> assertEquals("Café\ttab\n", general.get("Title")),
+                () -> assertEquals(Map.of("ENCODER", "Lavf"), general.getExtra()),
+                () -> assertEquals(
+                        List.of("VideoCount", "AudioCount", "Duration", "Title"),
+                        List.copyOf(general.getFields().keySet())),
+                () -> assertEquals("1280", actual.get(StreamType.Video, 0, "Width")),
+                () -> assertEquals("8", actual.get(StreamType.Video, 0, "Bits")),
+                () -> assertEquals(StringUtils.EMPTY, actual.get(StreamType.Video, 0, "Unknown")),
+                () -> assertEquals(StringUtils.EMPTY, actual.get(StreamType.Video, 1, "Width")),
+                () -> assertEquals(2, secondAudio.getTypeOrder()),
+                () -> assertEquals("AC-3", secondAudio.get("Format")),
+                () -> assertEquals("Data", actual.get(StreamType.Other, 0, "Format")));
+    }
+
+    @Test
+    public void parse_withNullMedia_shouldReturnEmptyReport() {
+        final MediaInfoReport actual =
+                MediaInfoReport.parse("{\"creatingLibrary\":{\"version\":\"24.06\"},\"media\":null}");
+
+        assertAll(
+                () -> assertEquals("24.06", actual.getCreatingLibraryVersion()),
+                () -> assertEquals(StringUtils.EMPTY, actual.getRef()),
+                () -> assertTrue(actual.getTracks().isEmpty()));
+    }
+
+    @Test
+    public void parse_withMalformedReport_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> MediaInfoReport.parse(null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> MediaInfoReport.parse(StringUtils.EMPTY)),
+                () -> assertThrows(IllegalArgumentException.class, () -> MediaInfoReport.parse("[]")),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> MediaInfoReport.parse("{\"media\":{\"@ref\":\"unterminated}}")),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> MediaInfoReport.parse("{\"media\":{\"@ref\":\"\\u12\"}}")),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> MediaInfoReport.parse("{\"media\":{\"track\":[{\"@type\":\"Video\"")));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NativeBufferPoolTest {
+
+    //////////
+    // lease
+    //////////
+
+    @Test
+    public void lease_withReturnedBuffer_shouldReuseBuffer() {
+        final NativeBufferPool poolUnderTest = new NativeBufferPool(1024, 1);
+
+        final NativeBufferPool.Lease first = poolUnderTest.lease();
+        first.close();
+        first.close();
+        final NativeBufferPool.Lease second = poolUnderTest.lease();
+
+        final NativeBufferPool.Stats actual = poolUnderTest.getStats();
+        assertAll(
+                () -> assertSame(first.getMemory(), second.getMemory()),
+                () -> assertEquals(1024, second.getSize()),
+                () -> assertEquals(2L, actual.getLeaseCount()),
+                () -> assertEquals(1L, actual.getHitCount()),
+                () -> assertEquals(1, actual.getLiveBuffers()),
+                () -> assertEquals(0, actual.getIdleBuffers()),
+                () -> assertEquals(1024L, actual.getNativeBytes()));
+    }
+
+    @Test
+    public void lease_withMaxIdleReached_shouldFreeReturnedBuffer() {
+        final NativeBufferPool poolUnderTest = new NativeBufferPool(1024, 1);
+        final NativeBufferPool.Lease first = poolUnderTest.lease();
+        final NativeBufferPool.Lease second = poolUnderTest.lease();
+
+        first.close();
+        second.close();
+
+        final NativeBufferPool.Stats actual = poolUnderTest.getStats();
+        assertAll(
+                () -> assertNotSame(first.getMemory(), second.getMemory()),
+                () -> assertEquals(1, actual.getLiveBuffers()),
+                () -> assertEquals(1, actual.getIdleBuffers()));
+    }
+
+    @Test
+    public void lease_withClosedPool_shouldThrowException() {
+        final NativeBufferPool poolUnderTest = new NativeBufferPool(1024, 1);
+        final NativeBufferPool.Lease lease = poolUnderTest.lease();
+
+        poolUnderTest.close();
+        lease.close();
+
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, poolUnderTest::lease),
+                () -> assertEquals(0, poolUnderTest.getStats().getLiveBuffers()));
+    }
+
+    @Test
+    public void ctor_withInvalidInput_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new NativeBufferPool(0, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new NativeBufferPool(1024, -1)));
+    }
+
+    //////////////////////////
+    // Lease.getByteBuffer
+    //////////////////////////
+
+    @Test
+    public void getByteBuffer_withLease_shouldReturnClearedNativeView() {
+        final NativeBufferPool poolUnderTest = new NativeBufferPool(16, 1);
+        final NativeBufferPool.Lease lease = poolUnderTest.lease();
+
+        final ByteBuffer byteBuffer = lease.getByteBuffer();
+        byteBuffer.put(new byte[] {1, 2, 3});
+        final ByteBuffer actual = lease.getByteBuffer();
+
+        assertAll(
+                () -> assertTrue(actual.isDirect()),
+                () -> assertEquals(0, actual.position()),
+                () -> assertEquals(16, actual.remaining()),
+                () -> assertEquals(3, lease.getMemory().getByte(2L)));
+
+        lease.close();
+        assertThrows(IllegalStateException.class, lease::getByteBuffer);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import org.junit.jupiter.api.Test;
+
+import static com.amilesend.mediainfo.lib.WideStringsTest.newWideString;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NativeCharSequenceTest {
+
+    @Test
+    public void charSequence_withBasicMultilingualPlaneChars_shouldReadNativeChars() {
+        final NativeCharSequence sequenceUnderTest = new NativeCharSequence(newWideString("Café"));
+
+        assertAll(
+                () -> assertEquals(4, sequenceUnderTest.length()),
+                () -> assertEquals('é', sequenceUnderTest.charAt(3)),
+                () -> assertEquals("af", sequenceUnderTest.subSequence(1, 3)),
+                () -> assertEquals("Café", sequenceUnderTest.toString()),
+                () -> assertTrue(sequenceUnderTest.contentEquals("Café")),
+                () -> assertFalse(sequenceUnderTest.contentEquals("Cafe")),
+                () -> assertFalse(sequenceUnderTest.contentEquals("Caf")),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> sequenceUnderTest.charAt(4)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> sequenceUnderTest.charAt(-1)));
+    }
+
+    @Test
+    public void charSequence_withSupplementaryChars_shouldUseUtf16Indexes() {
+        final NativeCharSequence sequenceUnderTest = new NativeCharSequence(newWideString("A🎬B"));
+
+        assertAll(
+                () -> assertEquals(4, sequenceUnderTest.length()),
+                () -> assertEquals('\uD83C', sequenceUnderTest.charAt(1)),
+                () -> assertEquals('B', sequenceUnderTest.charAt(3)),
+                () -> assertEquals("A🎬B", sequenceUnderTest.toString()));
+    }
+
+    @Test
+    public void charSequence_withNullPointer_shouldBeEmpty() {
+        final NativeCharSequence sequenceUnderTest = new NativeCharSequence(null);
+
+        assertAll(
+                () -> assertEquals(0, sequenceUnderTest.length()),
+                () -> assertEquals("", sequenceUnderTest.toString()),
+                () -> assertTrue(sequenceUnderTest.contentEquals("")));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class NativeStringCacheTest {
+
+    ////////
+    // get
+    ////////
+
+    @Test
+    public void get_withSameValue_shouldReturnCachedString() {
+        final NativeStringCache cacheUnderTest = new NativeStringCache(NativeStringCache.DEFAULT_MAX_ENTRIES);
+
+        final Pointer first = cacheUnderTest.get("Duration");
+        final Pointer second = cacheUnderTest.get("Duration");
+        final Pointer empty = cacheUnderTest.get("");
+
+        final NativeStringCache.Stats actual = cacheUnderTest.getStats();
+        assertAll(
+                () -> assertSame(first, second),
+                () -> assertEquals("Duration", first.getWideString(0L)),
+                () -> assertEquals("", empty.getWideString(0L)),
+                () -> assertEquals(1L, actual.getHitCount()),
+                () -> assertEquals(2L, actual.getMissCount()),
+                () -> assertEquals(0L, actual.getRejectedCount()),
+                () -> assertEquals(2, actual.getSize()),
+                () -> assertEquals(10L * Native.WCHAR_SIZE, actual.getNativeBytes()),
+                () -> assertEquals(1.0D / 3.0D, actual.getHitRate()));
+    }
+
+    @Test
+    public void get_withUtf8Cache_shouldEncodeUtf8() {
+        final NativeStringCache cacheUnderTest = new NativeStringCache(NativeStringCache.DEFAULT_MAX_ENTRIES, true);
+
+        final Pointer actual = cacheUnderTest.get("Café");
+
+        assertAll(
+                () -> assertEquals("Café", actual.getString(0L, StandardCharsets.UTF_8.name())),
+                () -> assertEquals(6L, cacheUnderTest.getStats().getNativeBytes()),
+                () -> assertSame(cacheUnderTest.isUtf8(), NativeStringCache.getDefault(true).isUtf8()));
+    }
+
+    @Test
+    public void get_withFullCache_shouldReturnUncachedString() {
+        final NativeStringCache cacheUnderTest = new NativeStringCache(1);
+        cacheUnderTest.get("Width");
+
+        final Pointer first = cacheUnderTest.get("Height");
+        final Pointer second = cacheUnderTest.get("Height");
+
+        final NativeStringCache.Stats actual = cacheUnderTest.getStats();
+        assertAll(
+                () -> assertNotSame(first, second),
+                () -> assertEquals("Height", second.getWideString(0L)),
+                () -> assertEquals(2L, actual.getRejectedCount()),
+                () -> assertEquals(1, actual.getSize()));
+    }
+
+    @Test
+    public void get_withConcurrentCallers_shouldNotExceedMaxEntries() throws Exception {
+        final NativeStringCache cacheUnderTest = new NativeStringCache(8);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CompletableFuture.allOf(IntStream.range(0, 64)
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> cacheUnderTest.get("P" + (i % 16)), executor))
+                    .collect(Collectors.toList())
+                    .toArray(CompletableFuture[]::new))
+                    .get();
+        } finally {
+            executor.shutdown();
+        }
+
+        final NativeStringCache.Stats actual = cacheUnderTest.getStats();
+        assertAll(
+                () -> assertEquals(8, actual.getSize()),
+                () -> assertEquals(64L, actual.getHitCount() + actual.getMissCount()));
+    }
+
+    @Test
+    public void get_withNullValue_shouldThrowException() {
+        assertThrows(NullPointerException.class, () -> NativeStringCache.getDefault().get(null));
+    }
+
+    ///////////////////
+    // encodeUncached
+    ///////////////////
+
+    @Test
+    public void encodeUncached_withValue_shouldNotCacheString() {
+        final NativeStringCache cacheUnderTest = new NativeStringCache(NativeStringCache.DEFAULT_MAX_ENTRIES);
+
+        final Pointer actual = cacheUnderTest.encodeUncached("Video;%Width%");
+
+        assertAll(
+                () -> assertEquals("Video;%Width%", actual.getWideString(0L)),
+                () -> assertEquals(0, cacheUnderTest.getStats().getSize()),
+                () -> assertEquals(0L, cacheUnderTest.getStats().getMissCount()));
+    }
+
+    //////////
+    // clear
+    //////////
+
+    @Test
+    public void clear_withCachedStrings_shouldRemoveEntries() {
+        final NativeStringCache cacheUnderTest = new NativeStringCache(NativeStringCache.DEFAULT_MAX_ENTRIES);
+        final Pointer cached = cacheUnderTest.get("Format");
+
+        cacheUnderTest.clear();
+
+        final NativeStringCache.Stats actual = cacheUnderTest.getStats();
+        assertAll(
+                () -> assertEquals(0, actual.getSize()),
+                () -> assertEquals(0L, actual.getNativeBytes()),
+                // Previously returned strings remain valid while referenced
+                () -> assertEquals("Format", cached.getWideString(0L)),
+                () -> assertNotSame(cached, cacheUnderTest.get("Format")));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.amilesend.mediainfo.type.StreamType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ParameterIndexResolverTest {
+    static final String INFO_PARAMETERS = "General\n" +
+            "Count                            : Count of objects available in this stream\n" +
+            "Status                           : bit field (0=IsAccepted, 1=IsFilled, 2=IsUpdated, 3=IsFinished)\n" +
+            "StreamCount                      : Count of streams of this kind available\n" +
+            "Duration                         : Play time of the stream in ms\n" +
+            "Duration/String                  : Play time in format : XXx YYy only, YYy omitted if zero\n" +
+            "\r\n" +
+            "Video\r\n" +
+            "Count                            : Count of objects available in this stream\r\n" +
+            "Width                            : Width (aperture size if present) in pixel\r\n" +
+            "Width                            : Duplicate entry\r\n" +
+            "Height                           : Height in pixel\r\n" +
+            "\n" +
+            "Unknown\n" +
+            "NoDescription\n";
+
+    @AfterEach
+    public void cleanUp() {
+        ParameterIndexResolver.clearCache();
+    }
+
+    //////////
+    // parse
+    //////////
+
+    @Test
+    public void parse_withInfoParameters_shouldResolveIndexes() {
+        final ParameterIndexResolver actual = ParameterIndexResolver.parse(INFO_PARAMETERS);
+
+        assertAll(
+                () -> assertEquals(0, actual.indexOf(StreamType.General, "Count")),
+                () -> assertEquals(3, actual.indexOf(StreamType.General, "Duration")),
+                () -> assertEquals(4, actual.indexOf(StreamType.General, "Duration/String")),
+                () -> assertEquals(5, actual.getParameterCount(StreamType.General)),
+                () -> assertEquals(1, actual.indexOf(StreamType.Video, "Width")),
+                () -> assertEquals(3, actual.indexOf(StreamType.Video, "Height")),
+                // Lines without a separator that do not name a stream type are parameters of the current section
+                () -> assertEquals(5, actual.indexOf(StreamType.Video, "NoDescription")),
+                () -> assertEquals(ParameterIndexResolver.UNRESOLVED, actual.indexOf(StreamType.Video, "Duration")),
+                () -> assertEquals(ParameterIndexResolver.UNRESOLVED, actual.indexOf(StreamType.Audio, "Format")),
+                () -> assertEquals(0, actual.getParameterCount(StreamType.Audio)));
+    }
+
+    ///////////////
+    // forVersion
+    ///////////////
+
+    @Test
+    public void forVersion_withSameVersion_shouldReturnCachedResolver() {
+        final AtomicInteger numInfoParameterCalls = new AtomicInteger();
+
+        final ParameterIndexResolver first = ParameterIndexResolver.forVersion("MediaInfoLib - v24.06", () -> {
+            numInfoParameterCalls.incrementAndGet();
+            return INFO_PARAMETERS;
+        });
+        final ParameterIndexResolver second = ParameterIndexResolver.forVersion("MediaInfoLib - v24.06", () -> {
+            numInfoParameterCalls.incrementAndGet();
+            return INFO_PARAMETERS;
+        });
+        final ParameterIndexResolver otherVersion =
+                ParameterIndexResolver.forVersion("MediaInfoLib - v25.03", () -> INFO_PARAMETERS);
+
+        assertAll(
+                () -> assertSame(first, second),
+                () -> assertNotSame(first, otherVersion),
+                () -> assertEquals(1, numInfoParameterCalls.get()));
+    }
+}
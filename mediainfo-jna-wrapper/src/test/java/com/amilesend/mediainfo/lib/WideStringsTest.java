@@ -0,0 +1,133 @@
+/*
+ * The MIT License
+ * Copyright © 2024-2026 Andy Miles
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.amilesend.mediainfo.lib;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class WideStringsTest {
+
+    ///////////
+    // append
+    ///////////
+
+    @Test
+    public void append_withNativeString_shouldAppendChars() {
+        final StringBuilder destination = new StringBuilder("Prefix:");
+
+        final int actual = WideStrings.append(newWideString("Café 🎬"), destination);
+
+        assertAll(
+                () -> assertEquals(7, actual),
+                () -> assertEquals("Prefix:Café 🎬", destination.toString()));
+    }
+
+    @Test
+    public void append_withNullPointer_shouldAppendNothing() {
+        final StringBuilder destination = new StringBuilder();
+
+        assertAll(
+                () -> assertEquals(0, WideStrings.append(null, destination)),
+                () -> assertEquals(0, destination.length()));
+    }
+
+    ///////////////
+    // appendUtf8
+    ///////////////
+
+    @Test
+    public void appendUtf8_withNativeString_shouldAppendChars() {
+        final StringBuilder asciiDestination = new StringBuilder();
+        final StringBuilder destination = new StringBuilder("Prefix:");
+
+        assertAll(
+                () -> assertEquals(4, WideStrings.appendUtf8(newUtf8String("1280"), asciiDestination)),
+                () -> assertEquals("1280", asciiDestination.toString()),
+                () -> assertEquals(7, WideStrings.appendUtf8(newUtf8String("Café 🎬"), destination)),
+                () -> assertEquals("Prefix:Café 🎬", destination.toString()),
+                () -> assertEquals(0, WideStrings.appendUtf8(null, destination)));
+    }
+
+    //////////////
+    // parseLong
+    //////////////
+
+    @Test
+    public void parseLong_withNumericString_shouldReturnValue() {
+        assertAll(
+                () -> assertEquals(1280L, WideStrings.parseLong(newWideString("1280"), -1L)),
+                () -> assertEquals(5005L, WideStrings.parseLong(newWideString("5005.000"), -1L)),
+                () -> assertEquals(-42L, WideStrings.parseLong(newWideString("-42"), -1L)),
+                () -> assertEquals(42L, WideStrings.parseLong(newWideString("+42."), -1L)));
+    }
+
+    @Test
+    public void parseLong_withNonNumericString_shouldReturnDefaultValue() {
+        assertAll(
+                () -> assertEquals(-1L, WideStrings.parseLong(null, -1L)),
+                () -> assertEquals(-1L, WideStrings.parseLong(newWideString(""), -1L)),
+                () -> assertEquals(-1L, WideStrings.parseLong(newWideString("-"), -1L)),
+                () -> assertEquals(-1L, WideStrings.parseLong(newWideString("1 280"), -1L)),
+                () -> assertEquals(-1L, WideStrings.parseLong(newWideString("25.5x"), -1L)),
+                () -> assertEquals(-1L, WideStrings.parseLong(newWideString("AVC"), -1L)));
+    }
+
+    @Test
+    public void parseLong_withOutOfRangeString_shouldReturnDefaultValue() {
+        assertAll(
+                () -> assertEquals(Long.MAX_VALUE, WideStrings.parseLong(newWideString("9223372036854775807"), -1L)),
+                () -> assertEquals(Long.MIN_VALUE, WideStrings.parseLong(newWideString("-9223372036854775808"), -1L)),
+                () -> assertEquals(-1L, WideStrings.parseLong(newWideString("9223372036854775808"), -1L)),
+                () -> assertEquals(-1L, WideStrings.parseLong(newWideString("-9223372036854775809"), -1L)),
+                () -> assertEquals(-1L, WideStrings.parseLong(newWideString("99999999999999999999.5"), -1L)),
+                () -> assertEquals(-1L, WideStrings.parseLong(newUtf8String("99999999999999999999"), -1L, 1)));
+    }
+
+    @Test
+    public void parseLong_withUtf8String_shouldReturnValue() {
+        assertAll(
+                () -> assertEquals(5005L, WideStrings.parseLong(newUtf8String("5005.000"), -1L, 1)),
+                () -> assertEquals(-42L, WideStrings.parseLong(newUtf8String("-42"), -1L, 1)),
+                () -> assertEquals(-1L, WideStrings.parseLong(newUtf8String("12é"), -1L, 1)));
+    }
+
+    static Pointer newUtf8String(final String value) {
+        final byte[] bytes = Native.toByteArray(value, StandardCharsets.UTF_8);
+        final Memory memory = new Memory(bytes.length);
+        memory.write(0L, bytes, 0, bytes.length);
+        return memory;
+    }
+
+    static Pointer newWideString(final String value) {
+        final Memory memory = new Memory((long) (value.length() + 1) * Native.WCHAR_SIZE);
+        memory.setWideString(0L, value);
+        return memory;
+    }
+}